@@ -0,0 +1,63 @@
+package com.finger.burp.bench;
+
+import burp.api.montoya.MontoyaApi;
+import burp.api.montoya.extension.Extension;
+import burp.api.montoya.logging.Logging;
+import com.finger.burp.rules.RuleLoader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 基准测试用的 MontoyaApi 桩：日志丢弃，插件路径指向工作目录，其他方法返回默认值。
+ */
+final class BenchApi {
+    private BenchApi() {
+    }
+
+    static MontoyaApi create(Path workDir) {
+        Logging logging = stub(Logging.class, null);
+        Extension extension = stub(Extension.class, workDir.resolve("finger.jar").toString());
+        return (MontoyaApi) Proxy.newProxyInstance(BenchApi.class.getClassLoader(), new Class<?>[]{MontoyaApi.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "logging": return logging;
+                        case "extension": return extension;
+                        default: return defaultValue(method.getReturnType());
+                    }
+                });
+    }
+
+    /**
+     * 把内置的 fingerprints.json 复制到工作目录作为外部规则文件并加载，
+     * 与插件首次启动后的状态一致，且不会触发后台写入。
+     */
+    static RuleLoader loadBundledRules(Path workDir) throws IOException {
+        try (InputStream in = RuleLoader.class.getResourceAsStream("/rules/fingerprints.json")) {
+            if (in == null) throw new IllegalStateException("Bundled rules not found");
+            Files.copy(in, workDir.resolve("fingerprints.json"));
+        }
+        RuleLoader ruleLoader = new RuleLoader(create(workDir));
+        ruleLoader.loadAllRules();
+        return ruleLoader;
+    }
+
+    /**
+     * @param filename Extension.filename() 的返回值
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, String filename) {
+        return (T) Proxy.newProxyInstance(BenchApi.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> "filename".equals(method.getName()) ? filename : defaultValue(method.getReturnType()));
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        return null;
+    }
+}
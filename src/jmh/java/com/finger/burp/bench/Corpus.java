@@ -0,0 +1,102 @@
+package com.finger.burp.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finger.burp.engine.MessageView;
+import com.google.common.io.ByteStreams;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 随基准测试一起提交的响应样本，位于 src/jmh/resources/corpus，由 index.json 描述每个样本的
+ * 状态码、路径和响应头。样本内容固定，结果可在不同版本之间比较。
+ */
+final class Corpus {
+    private static final String ROOT = "/corpus/";
+    private static final Map<String, Sample> SAMPLES = load();
+
+    private Corpus() {
+    }
+
+    static Sample get(String name) {
+        Sample sample = SAMPLES.get(name);
+        if (sample == null) throw new IllegalArgumentException("Unknown corpus sample: " + name);
+        return sample;
+    }
+
+    static List<Sample> all() {
+        return new ArrayList<>(SAMPLES.values());
+    }
+
+    static byte[] resource(String file) {
+        try (InputStream in = Corpus.class.getResourceAsStream(ROOT + file)) {
+            if (in == null) throw new IllegalStateException("Missing corpus file: " + file);
+            return ByteStreams.toByteArray(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Map<String, Sample> load() {
+        try {
+            JsonNode index = new ObjectMapper().readTree(resource("index.json"));
+            Map<String, Sample> samples = new LinkedHashMap<>();
+            for (JsonNode node : index) {
+                List<MessageView.Header> headers = new ArrayList<>();
+                for (JsonNode line : node.path("headers")) {
+                    String text = line.asText();
+                    int colon = text.indexOf(':');
+                    headers.add(new MessageView.Header(text.substring(0, colon).trim(), text.substring(colon + 1).trim(), text));
+                }
+                String name = node.path("name").asText();
+                samples.put(name, new Sample(name, node.path("path").asText(), node.path("status").asInt(),
+                        headers, resource(node.path("file").asText())));
+            }
+            return Collections.unmodifiableMap(samples);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static final class Sample {
+        final String name;
+        final String path;
+        final int status;
+        final List<MessageView.Header> headers;
+        final byte[] body;
+
+        Sample(String name, String path, int status, List<MessageView.Header> headers, byte[] body) {
+            this.name = name;
+            this.path = path;
+            this.status = status;
+            this.headers = Collections.unmodifiableList(headers);
+            this.body = body;
+        }
+
+        /**
+         * 把响应体重复 copies 次，用来构造更大的响应。
+         */
+        byte[] body(int copies) {
+            if (copies <= 1) return body;
+            byte[] result = new byte[body.length * copies];
+            for (int i = 0; i < copies; i++) {
+                System.arraycopy(body, 0, result, i * body.length, body.length);
+            }
+            return result;
+        }
+
+        /**
+         * 每次调用都构造新的视图，与被动扫描中每条消息一个视图的情况一致。
+         */
+        MessageView view(byte[] body) {
+            return MessageView.of(false, headers, status, body, path, "https://bench.example.com" + path);
+        }
+    }
+}
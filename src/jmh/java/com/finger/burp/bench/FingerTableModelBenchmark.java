@@ -0,0 +1,58 @@
+package com.finger.burp.bench;
+
+import com.finger.burp.ui.FingerTableModel;
+import com.finger.burp.ui.ScanResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 结果表写入开销：表中已有 hosts 个主机时，连续写入一批不重复的结果。
+ * 每轮迭代在重建的表上写入固定数量的结果，明细列表和聚合字符串的长度在各轮之间一致。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10, batchSize = FingerTableModelBenchmark.BATCH)
+@Measurement(iterations = 30, batchSize = FingerTableModelBenchmark.BATCH)
+@Fork(1)
+public class FingerTableModelBenchmark {
+    static final int BATCH = 1000;
+
+    @Param({"100", "10000"})
+    public int hosts;
+
+    private FingerTableModel model;
+    private long counter;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        model = new FingerTableModel();
+        for (int i = 0; i < hosts; i++) {
+            model.addResult(new ScanResult(url(i), "warmup", "CMS", "Passive", "body"));
+        }
+        counter = 0;
+    }
+
+    @Benchmark
+    public FingerTableModel addResult() {
+        long n = counter++;
+        model.addResult(new ScanResult(url(n % hosts), "fp-" + n, "CMS", "Passive", "body"));
+        return model;
+    }
+
+    private static String url(long host) {
+        return "https://host" + host + ".example.com/index.html";
+    }
+}
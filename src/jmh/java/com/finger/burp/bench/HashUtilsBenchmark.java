@@ -0,0 +1,59 @@
+package com.finger.burp.bench;
+
+import com.finger.burp.utils.HashUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 哈希吞吐：真实 favicon 与不同大小的随机数据。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashUtilsBenchmark {
+    // favicon 为语料库中的 favicon.ico，其余为指定字节数的随机数据
+    @Param({"favicon", "16384", "262144"})
+    public String input;
+
+    private byte[] data;
+
+    @Setup
+    public void setup() {
+        if ("favicon".equals(input)) {
+            data = Corpus.resource("favicon.ico");
+        } else {
+            data = new byte[Integer.parseInt(input)];
+            new Random(42).nextBytes(data);
+        }
+    }
+
+    @Benchmark
+    public int faviconHash() {
+        return HashUtils.faviconHash(data);
+    }
+
+    @Benchmark
+    public String faviconHashString() {
+        return HashUtils.calculateFaviconHash(data);
+    }
+
+    @Benchmark
+    public String md5() {
+        return HashUtils.calculateMD5(data);
+    }
+}
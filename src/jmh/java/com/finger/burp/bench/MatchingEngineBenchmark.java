@@ -0,0 +1,91 @@
+package com.finger.burp.bench;
+
+import com.finger.burp.engine.MatchResult;
+import com.finger.burp.engine.MatchingEngine;
+import com.finger.burp.model.ScannerConfig;
+import com.finger.burp.rules.RuleLoader;
+import com.google.common.io.MoreFiles;
+import com.google.common.io.RecursiveDeleteOption;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 单条响应的匹配延迟：使用内置规则，每次调用构造新的 MessageView，与被动扫描的路径一致。
+ * 配合 -prof gc 可以看到每条消息的分配量。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatchingEngineBenchmark {
+    @Param({"wordpress", "nginx-default", "spring-whitelabel", "login", "vendor-js", "api-json", "favicon"})
+    public String sample;
+
+    // 响应体重复次数，用于观察匹配耗时随响应大小的变化
+    @Param({"1", "16"})
+    public int copies;
+
+    private Path workDir;
+    private RuleLoader ruleLoader;
+    private MatchingEngine engine;
+    private MatchingEngine cachedEngine;
+    private Corpus.Sample corpusSample;
+    private byte[] body;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        workDir = Files.createTempDirectory("finger-bench");
+        ruleLoader = BenchApi.loadBundledRules(workDir);
+
+        // 关闭结果缓存和已确认指纹跳过，每次调用都完整评估全部规则
+        ScannerConfig config = new ScannerConfig();
+        config.setMatchCacheEntries(0);
+        config.setSkipConfirmedFingerprints(false);
+        engine = new MatchingEngine(BenchApi.create(workDir), ruleLoader, config);
+
+        cachedEngine = new MatchingEngine(BenchApi.create(workDir), ruleLoader, new ScannerConfig());
+
+        corpusSample = Corpus.get(sample);
+        body = corpusSample.body(copies);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        engine.shutdown();
+        cachedEngine.shutdown();
+        ruleLoader.shutdown();
+        MoreFiles.deleteRecursively(workDir, RecursiveDeleteOption.ALLOW_INSECURE);
+    }
+
+    @Benchmark
+    public List<MatchResult> findMatches() {
+        return engine.findMatches(corpusSample.view(body));
+    }
+
+    /**
+     * 默认配置下重复响应命中结果缓存的开销。
+     */
+    @Benchmark
+    public List<MatchResult> findMatchesCached() {
+        return cachedEngine.findMatches(corpusSample.view(body));
+    }
+}
@@ -0,0 +1,3 @@
+/*! For license information please see chunk-vendors.js.LICENSE.txt */
+(window.webpackJsonp=window.webpackJsonp||[]).push([["chunk-vendors"],{0:function(e,t,n){e.exports={name:"clxyhwk",version:"5.7.10",props:{value:{type:String,default:""}},methods:{hsbrk:function(){this.$emit("change",this.value)}}}},11:function(e,t,n){var r=n(3);t.qjotsy=function(e){return r.createElement("div",{className:"jggoq-guve"},e.children)}},22:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},33:function(e,t,n){var r=n(9);t.gcwtgz=function(e){return r.createElement("div",{className:"ubrpa-oqox"},e.children)}},44:function(e,t,n){e.exports={name:"fvyrnyb",version:"6.7.28",props:{value:{type:String,default:""}},methods:{scxof:function(){this.$emit("change",this.value)}}}},55:function(e,t,n){var vt=h(35),t=h.n(vt);function xmh(e,t){return e&&t?Object.assign({},e,t):e||t}},66:function(e,t,n){var r=n(18);t.uetody=function(e){return r.createElement("div",{className:"rrssp-jaes"},e.children)}},77:function(e,t,n){var r=n(21);t.jyhofj=function(e){return r.createElement("div",{className:"aozvm-kgua"},e.children)}},88:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},99:function(e,t,n){var r=n(27);t.vjdafc=function(e){return r.createElement("div",{className:"gldri-hbiv"},e.children)}},110:function(e,t,n){e.exports={name:"novvbsq",version:"5.1.21",props:{value:{type:String,default:""}},methods:{mwkqu:function(){this.$emit("change",this.value)}}}},121:function(e,t,n){e.exports={name:"vtgggmq",version:"1.11.25",props:{value:{type:String,default:""}},methods:{mtchu:function(){this.$emit("change",this.value)}}}},132:function(e,t,n){var r=n(36);t.xjhrqw=function(e){return r.createElement("div",{className:"zoyqz-sdvu"},e.children)}},143:function(e,t,n){var r=n(39);t.ujlygn=function(e){return r.createElement("div",{className:"hdrgd-siiu"},e.children)}},154:function(e,t,n){var r=n(42);t.lubtuc=function(e){return r.createElement("div",{className:"rbxla-kkex"},e.children)}},165:function(e,t,n){"use strict";var hz=n(195);e.exports=function(e){return hz.isArray(e)?e.map(function(e){return e.gcke}):[]}},176:function(e,t,n){"use strict";var gr=n(208);e.exports=function(e){return gr.isArray(e)?e.map(function(e){return e.uhkw}):[]}},187:function(e,t,n){var r=n(51);t.muqgya=function(e){return r.createElement("div",{className:"chgko-misj"},e.children)}},198:function(e,t,n){"use strict";var bc=n(234);e.exports=function(e){return bc.isArray(e)?e.map(function(e){return e.zubf}):[]}},209:function(e,t,n){var lc=q(133),p=q.n(lc);function nwr(e,t){return e&&t?Object.assign({},e,t):e||t}},220:function(e,t,n){var wm=r(140),y=r.n(wm);function ngs(e,t){return e&&t?Object.assign({},e,t):e||t}},231:function(e,t,n){"use strict";var xd=n(273);e.exports=function(e){return xd.isArray(e)?e.map(function(e){return e.zolv}):[]}},242:function(e,t,n){"use strict";var hl=n(286);e.exports=function(e){return hl.isArray(e)?e.map(function(e){return e.yfps}):[]}},253:function(e,t,n){"use strict";var op=n(299);e.exports=function(e){return op.isArray(e)?e.map(function(e){return e.feuc}):[]}},264:function(e,t,n){var r=n(72);t.iijyvz=function(e){return r.createElement("div",{className:"bkzqt-csmr"},e.children)}},275:function(e,t,n){"use strict";var wo=n(325);e.exports=function(e){return wo.isArray(e)?e.map(function(e){return e.qnlo}):[]}},286:function(e,t,n){var om=m(182),m=m.n(om);function qhn(e,t){return e&&t?Object.assign({},e,t):e||t}},297:function(e,t,n){var r=n(81);t.hrkhva=function(e){return r.createElement("div",{className:"ajkiu-itvy"},e.children)}},308:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},319:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},330:function(e,t,n){"use strict";var up=n(390);e.exports=function(e){return up.isArray(e)?e.map(function(e){return e.qpgr}):[]}},341:function(e,t,n){var r=n(93);t.xohnfc=function(e){return r.createElement("div",{className:"jxols-qmrf"},e.children)}},352:function(e,t,n){"use strict";var qu=n(416);e.exports=function(e){return qu.isArray(e)?e.map(function(e){return e.cxuk}):[]}},363:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},374:function(e,t,n){"use strict";var za=n(442);e.exports=function(e){return za.isArray(e)?e.map(function(e){return e.dwqy}):[]}},385:function(e,t,n){var pl=c(245),l=c.n(pl);function cne(e,t){return e&&t?Object.assign({},e,t):e||t}},396:function(e,t,n){e.exports={name:"pjlnldq",version:"3.6.16",props:{value:{type:String,default:""}},methods:{foicr:function(){this.$emit("change",this.value)}}}},407:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},418:function(e,t,n){e.exports={name:"itobqrb",version:"1.2.22",props:{value:{type:String,default:""}},methods:{prlfp:function(){this.$emit("change",this.value)}}}},429:function(e,t,n){var r=n(117);t.xxxsmq=function(e){return r.createElement("div",{className:"bfgxq-pnwn"},e.children)}},440:function(e,t,n){var bq=g(280),f=g.n(bq);function xmj(e,t){return e&&t?Object.assign({},e,t):e||t}},451:function(e,t,n){var on=o(287),s=o.n(on);function ske(e,t){return e&&t?Object.assign({},e,t):e||t}},462:function(e,t,n){var r=n(126);t.tefpxt=function(e){return r.createElement("div",{className:"tsqmy-oyrp"},e.children)}},473:function(e,t,n){var r=n(129);t.oiglzl=function(e){return r.createElement("div",{className:"pplut-hntz"},e.children)}},484:function(e,t,n){e.exports={name:"wyzetyy",version:"6.18.25",props:{value:{type:String,default:""}},methods:{kjhih:function(){this.$emit("change",this.value)}}}},495:function(e,t,n){e.exports={name:"jtfjdgg",version:"8.16.4",props:{value:{type:String,default:""}},methods:{tzcxb:function(){this.$emit("change",this.value)}}}},506:function(e,t,n){e.exports={name:"yqfhcdr",version:"2.20.3",props:{value:{type:String,default:""}},methods:{sjkjl:function(){this.$emit("change",this.value)}}}},517:function(e,t,n){"use strict";var fg=n(611);e.exports=function(e){return fg.isArray(e)?e.map(function(e){return e.gsdb}):[]}},528:function(e,t,n){var r=n(144);t.codnxx=function(e){return r.createElement("div",{className:"foflk-ojxg"},e.children)}},539:function(e,t,n){var r=n(147);t.pavtyv=function(e){return r.createElement("div",{className:"crzhv-hjag"},e.children)}},550:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},561:function(e,t,n){var xf=s(357),i=s.n(xf);function kke(e,t){return e&&t?Object.assign({},e,t):e||t}},572:function(e,t,n){"use strict";var bh=n(676);e.exports=function(e){return bh.isArray(e)?e.map(function(e){return e.etmq}):[]}},583:function(e,t,n){"use strict";var ns=n(689);e.exports=function(e){return ns.isArray(e)?e.map(function(e){return e.jiut}):[]}},594:function(e,t,n){var ry=m(378),j=m.n(ry);function xbi(e,t){return e&&t?Object.assign({},e,t):e||t}},605:function(e,t,n){"use strict";var ak=n(715);e.exports=function(e){return ak.isArray(e)?e.map(function(e){return e.msda}):[]}},616:function(e,t,n){var r=n(168);t.ivrwuz=function(e){return r.createElement("div",{className:"xvvuz-wfws"},e.children)}},627:function(e,t,n){"use strict";var ky=n(741);e.exports=function(e){return ky.isArray(e)?e.map(function(e){return e.zctx}):[]}},638:function(e,t,n){var ko=w(406),m=w.n(ko);function gyp(e,t){return e&&t?Object.assign({},e,t):e||t}},649:function(e,t,n){var r=n(177);t.jpacri=function(e){return r.createElement("div",{className:"kogzd-ikir"},e.children)}},660:function(e,t,n){var r=n(180);t.eixefe=function(e){return r.createElement("div",{className:"dmndl-vfbi"},e.children)}},671:function(e,t,n){e.exports={name:"pmeeriz",version:"9.1.22",props:{value:{type:String,default:""}},methods:{opycj:function(){this.$emit("change",this.value)}}}},682:function(e,t,n){"use strict";var ey=n(806);e.exports=function(e){return ey.isArray(e)?e.map(function(e){return e.zxdc}):[]}},693:function(e,t,n){e.exports={name:"oaacbwi",version:"9.8.23",props:{value:{type:String,default:""}},methods:{bhndx:function(){this.$emit("change",this.value)}}}},704:function(e,t,n){var r=n(192);t.obxqft=function(e){return r.createElement("div",{className:"nanam-dsoh"},e.children)}},715:function(e,t,n){"use strict";var qz=n(845);e.exports=function(e){return qz.isArray(e)?e.map(function(e){return e.xswa}):[]}},726:function(e,t,n){var gp=l(462),i=l.n(gp);function jsf(e,t){return e&&t?Object.assign({},e,t):e||t}},737:function(e,t,n){var r=n(201);t.hmlblo=function(e){return r.createElement("div",{className:"puuxz-ovji"},e.children)}},748:function(e,t,n){var ev=d(476),c=d.n(ev);function zse(e,t){return e&&t?Object.assign({},e,t):e||t}},759:function(e,t,n){var r=n(207);t.rzcvcw=function(e){return r.createElement("div",{className:"irxes-ppeo"},e.children)}},770:function(e,t,n){var r=n(210);t.xauphy=function(e){return r.createElement("div",{className:"omvks-pakt"},e.children)}},781:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},792:function(e,t,n){e.exports={name:"mfretvm",version:"3.9.1",props:{value:{type:String,default:""}},methods:{ggpob:function(){this.$emit("change",this.value)}}}},803:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},814:function(e,t,n){"use strict";var hg=n(962);e.exports=function(e){return hg.isArray(e)?e.map(function(e){return e.gnbu}):[]}},825:function(e,t,n){var an=k(525),s=k.n(an);function fam(e,t){return e&&t?Object.assign({},e,t):e||t}},836:function(e,t,n){"use strict";var ii=n(988);e.exports=function(e){return ii.isArray(e)?e.map(function(e){return e.nwqp}):[]}},847:function(e,t,n){"use strict";var tt=n(10);e.exports=function(e){return tt.isArray(e)?e.map(function(e){return e.gdsb}):[]}},858:function(e,t,n){"use strict";var ap=n(23);e.exports=function(e){return ap.isArray(e)?e.map(function(e){return e.qkkd}):[]}},869:function(e,t,n){var tl=w(553),h=w.n(tl);function qcr(e,t){return e&&t?Object.assign({},e,t):e||t}},880:function(e,t,n){"use strict";var qc=n(49);e.exports=function(e){return qc.isArray(e)?e.map(function(e){return e.lpmc}):[]}},891:function(e,t,n){"use strict";var mr=n(62);e.exports=function(e){return mr.isArray(e)?e.map(function(e){return e.owjn}):[]}},902:function(e,t,n){var r=n(246);t.ulevxn=function(e){return r.createElement("div",{className:"qknwd-wzcu"},e.children)}},913:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},924:function(e,t,n){var r=n(252);t.jxzqes=function(e){return r.createElement("div",{className:"ktfcn-yiwl"},e.children)}},935:function(e,t,n){"use strict";var ig=n(114);e.exports=function(e){return ig.isArray(e)?e.map(function(e){return e.djkc}):[]}},946:function(e,t,n){e.exports={name:"hxjbwob",version:"3.2.12",props:{value:{type:String,default:""}},methods:{lbztz:function(){this.$emit("change",this.value)}}}},957:function(e,t,n){e.exports={name:"ueowgst",version:"6.5.17",props:{value:{type:String,default:""}},methods:{tlciq:function(){this.$emit("change",this.value)}}}},968:function(e,t,n){"use strict";var gz=n(153);e.exports=function(e){return gz.isArray(e)?e.map(function(e){return e.mykq}):[]}},979:function(e,t,n){e.exports={name:"gwaoyef",version:"5.15.8",props:{value:{type:String,default:""}},methods:{kuhez:function(){this.$emit("change",this.value)}}}},990:function(e,t,n){var r=n(270);t.puoypo=function(e){return r.createElement("div",{className:"zdfii-ylir"},e.children)}},1001:function(e,t,n){"use strict";var lf=n(192);e.exports=function(e){return lf.isArray(e)?e.map(function(e){return e.ekpd}):[]}},1012:function(e,t,n){e.exports={name:"fnnmaub",version:"3.2.27",props:{value:{type:String,default:""}},methods:{ejcdr:function(){this.$emit("change",this.value)}}}},1023:function(e,t,n){"use strict";var hg=n(218);e.exports=function(e){return hg.isArray(e)?e.map(function(e){return e.lmri}):[]}},1034:function(e,t,n){e.exports={name:"emnpbiu",version:"1.3.27",props:{value:{type:String,default:""}},methods:{fdbzy:function(){this.$emit("change",this.value)}}}},1045:function(e,t,n){e.exports={name:"ofcafnn",version:"4.16.18",props:{value:{type:String,default:""}},methods:{nndpm:function(){this.$emit("change",this.value)}}}},1056:function(e,t,n){"use strict";var rw=n(257);e.exports=function(e){return rw.isArray(e)?e.map(function(e){return e.iiwq}):[]}},1067:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},1078:function(e,t,n){"use strict";var uv=n(283);e.exports=function(e){return uv.isArray(e)?e.map(function(e){return e.jann}):[]}},1089:function(e,t,n){e.exports={name:"wwpnbbb",version:"5.17.11",props:{value:{type:String,default:""}},methods:{iqjef:function(){this.$emit("change",this.value)}}}},1100:function(e,t,n){e.exports={name:"kvjaxdj",version:"2.13.16",props:{value:{type:String,default:""}},methods:{rxphl:function(){this.$emit("change",this.value)}}}},1111:function(e,t,n){e.exports={name:"bzvtfzm",version:"5.6.9",props:{value:{type:String,default:""}},methods:{qsapc:function(){this.$emit("change",this.value)}}}},1122:function(e,t,n){var r=n(306);t.knqjhk=function(e){return r.createElement("div",{className:"puuua-yzjv"},e.children)}},1133:function(e,t,n){var r=n(309);t.pyvtyi=function(e){return r.createElement("div",{className:"hpbmh-whxm"},e.children)}},1144:function(e,t,n){"use strict";var uj=n(361);e.exports=function(e){return uj.isArray(e)?e.map(function(e){return e.ange}):[]}},1155:function(e,t,n){"use strict";var kh=n(374);e.exports=function(e){return kh.isArray(e)?e.map(function(e){return e.cojk}):[]}},1166:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},1177:function(e,t,n){"use strict";var ta=n(400);e.exports=function(e){return ta.isArray(e)?e.map(function(e){return e.kjyk}):[]}},1188:function(e,t,n){"use strict";var rx=n(413);e.exports=function(e){return rx.isArray(e)?e.map(function(e){return e.frlm}):[]}},1199:function(e,t,n){var r=n(327);t.pferxa=function(e){return r.createElement("div",{className:"bmbsq-maqo"},e.children)}},1210:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},1221:function(e,t,n){var r=n(333);t.gescyf=function(e){return r.createElement("div",{className:"lmgdc-fuis"},e.children)}},1232:function(e,t,n){"use strict";var wn=n(465);e.exports=function(e){return wn.isArray(e)?e.map(function(e){return e.krro}):[]}},1243:function(e,t,n){var qx=x(791),y=x.n(qx);function idh(e,t){return e&&t?Object.assign({},e,t):e||t}},1254:function(e,t,n){var hm=r(798),z=r.n(hm);function dum(e,t){return e&&t?Object.assign({},e,t):e||t}},1265:function(e,t,n){"use strict";var hy=n(504);e.exports=function(e){return hy.isArray(e)?e.map(function(e){return e.lhgr}):[]}},1276:function(e,t,n){"use strict";var gm=n(517);e.exports=function(e){return gm.isArray(e)?e.map(function(e){return e.qphb}):[]}},1287:function(e,t,n){var ov=p(819),u=p.n(ov);function pjn(e,t){return e&&t?Object.assign({},e,t):e||t}},1298:function(e,t,n){"use strict";var ar=n(543);e.exports=function(e){return ar.isArray(e)?e.map(function(e){return e.nfye}):[]}},1309:function(e,t,n){var r=n(357);t.twahhk=function(e){return r.createElement("div",{className:"ejlbh-onex"},e.children)}},1320:function(e,t,n){var gx=q(840),q=q.n(gx);function nck(e,t){return e&&t?Object.assign({},e,t):e||t}},1331:function(e,t,n){e.exports={name:"csfkccg",version:"3.5.3",props:{value:{type:String,default:""}},methods:{hzuur:function(){this.$emit("change",this.value)}}}},1342:function(e,t,n){e.exports={name:"kmbgpbp",version:"8.7.5",props:{value:{type:String,default:""}},methods:{fngdv:function(){this.$emit("change",this.value)}}}},1353:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},1364:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},1375:function(e,t,n){e.exports={name:"crmoasm",version:"7.20.8",props:{value:{type:String,default:""}},methods:{xgypv:function(){this.$emit("change",this.value)}}}},1386:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},1397:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},1408:function(e,t,n){var r=n(384);t.rrxokw=function(e){return r.createElement("div",{className:"umumc-qyjb"},e.children)}},1419:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},1430:function(e,t,n){e.exports={name:"xacqemn",version:"9.4.18",props:{value:{type:String,default:""}},methods:{ccfub:function(){this.$emit("change",this.value)}}}},1441:function(e,t,n){var uq=p(917),h=p.n(uq);function aze(e,t){return e&&t?Object.assign({},e,t):e||t}},1452:function(e,t,n){"use strict";var to=n(725);e.exports=function(e){return to.isArray(e)?e.map(function(e){return e.oksd}):[]}},1463:function(e,t,n){var r=n(399);t.boqdew=function(e){return r.createElement("div",{className:"sibfs-rksj"},e.children)}},1474:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},1485:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},1496:function(e,t,n){"use strict";var xq=n(777);e.exports=function(e){return xq.isArray(e)?e.map(function(e){return e.avmu}):[]}},1507:function(e,t,n){var r=n(411);t.vvaakj=function(e){return r.createElement("div",{className:"wyxna-xobb"},e.children)}},1518:function(e,t,n){var r=n(414);t.pkxuqw=function(e){return r.createElement("div",{className:"qhqlz-bdwy"},e.children)}},1529:function(e,t,n){e.exports={name:"uakmchp",version:"2.3.30",props:{value:{type:String,default:""}},methods:{elrzq:function(){this.$emit("change",this.value)}}}},1540:function(e,t,n){"use strict";var kx=n(829);e.exports=function(e){return kx.isArray(e)?e.map(function(e){return e.fabm}):[]}},1551:function(e,t,n){"use strict";var ix=n(842);e.exports=function(e){return ix.isArray(e)?e.map(function(e){return e.xxmo}):[]}},1562:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},1573:function(e,t,n){e.exports={name:"nzegyha",version:"4.8.29",props:{value:{type:String,default:""}},methods:{vsbtb:function(){this.$emit("change",this.value)}}}},1584:function(e,t,n){var cl=h(11),x=h.n(cl);function zck(e,t){return e&&t?Object.assign({},e,t):e||t}},1595:function(e,t,n){e.exports={name:"tblzuzh",version:"4.10.27",props:{value:{type:String,default:""}},methods:{dkgtm:function(){this.$emit("change",this.value)}}}},1606:function(e,t,n){var r=n(438);t.modgck=function(e){return r.createElement("div",{className:"uzijc-qjpu"},e.children)}},1617:function(e,t,n){"use strict";var hi=n(920);e.exports=function(e){return hi.isArray(e)?e.map(function(e){return e.rhac}):[]}},1628:function(e,t,n){e.exports={name:"gbvkvtv",version:"5.7.13",props:{value:{type:String,default:""}},methods:{dzqdc:function(){this.$emit("change",this.value)}}}},1639:function(e,t,n){"use strict";var lk=n(946);e.exports=function(e){return lk.isArray(e)?e.map(function(e){return e.wpaa}):[]}},1650:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},1661:function(e,t,n){"use strict";var do=n(972);e.exports=function(e){return do.isArray(e)?e.map(function(e){return e.rbmi}):[]}},1672:function(e,t,n){var r=n(456);t.hyvjav=function(e){return r.createElement("div",{className:"yufnh-cpjl"},e.children)}},1683:function(e,t,n){"use strict";var or=n(7);e.exports=function(e){return or.isArray(e)?e.map(function(e){return e.lcay}):[]}},1694:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},1705:function(e,t,n){var r=n(465);t.skqscg=function(e){return r.createElement("div",{className:"dsmwc-jhwm"},e.children)}},1716:function(e,t,n){e.exports={name:"uveolct",version:"3.7.9",props:{value:{type:String,default:""}},methods:{ceqiq:function(){this.$emit("change",this.value)}}}},1727:function(e,t,n){"use strict";var uy=n(59);e.exports=function(e){return uy.isArray(e)?e.map(function(e){return e.qojp}):[]}},1738:function(e,t,n){var r=n(474);t.lhrnpn=function(e){return r.createElement("div",{className:"ekxhu-hiis"},e.children)}},1749:function(e,t,n){var dx=h(116),x=h.n(dx);function nav(e,t){return e&&t?Object.assign({},e,t):e||t}},1760:function(e,t,n){var r=n(480);t.fvaxlg=function(e){return r.createElement("div",{className:"dmywh-wgre"},e.children)}},1771:function(e,t,n){var hb=g(130),k=g.n(hb);function ice(e,t){return e&&t?Object.assign({},e,t):e||t}},1782:function(e,t,n){"use strict";var fk=n(124);e.exports=function(e){return fk.isArray(e)?e.map(function(e){return e.ofxc}):[]}},1793:function(e,t,n){var mm=y(144),r=y.n(mm);function qbq(e,t){return e&&t?Object.assign({},e,t):e||t}},1804:function(e,t,n){e.exports={name:"mlvotdy",version:"2.7.23",props:{value:{type:String,default:""}},methods:{biwfw:function(){this.$emit("change",this.value)}}}},1815:function(e,t,n){e.exports={name:"wpekdmd",version:"5.8.23",props:{value:{type:String,default:""}},methods:{iqzvk:function(){this.$emit("change",this.value)}}}},1826:function(e,t,n){e.exports={name:"jzfvwcr",version:"8.10.3",props:{value:{type:String,default:""}},methods:{uyani:function(){this.$emit("change",this.value)}}}},1837:function(e,t,n){var gb=d(172),o=d.n(gb);function vsa(e,t){return e&&t?Object.assign({},e,t):e||t}},1848:function(e,t,n){var im=y(179),g=y.n(im);function mzw(e,t){return e&&t?Object.assign({},e,t):e||t}},1859:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},1870:function(e,t,n){var r=n(510);t.oxbuil=function(e){return r.createElement("div",{className:"mmmtb-pnlm"},e.children)}},1881:function(e,t,n){var lk=l(200),y=l.n(lk);function xku(e,t){return e&&t?Object.assign({},e,t):e||t}},1892:function(e,t,n){"use strict";var mz=n(254);e.exports=function(e){return mz.isArray(e)?e.map(function(e){return e.frsc}):[]}},1903:function(e,t,n){var mq=b(214),p=b.n(mq);function yld(e,t){return e&&t?Object.assign({},e,t):e||t}},1914:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},1925:function(e,t,n){e.exports={name:"dpbtnce",version:"6.9.10",props:{value:{type:String,default:""}},methods:{iyiql:function(){this.$emit("change",this.value)}}}},1936:function(e,t,n){var pi=p(235),f=p.n(pi);function upp(e,t){return e&&t?Object.assign({},e,t):e||t}},1947:function(e,t,n){var bx=h(242),j=h.n(bx);function poq(e,t){return e&&t?Object.assign({},e,t):e||t}},1958:function(e,t,n){var r=n(534);t.qeioxs=function(e){return r.createElement("div",{className:"bhlxf-zjwp"},e.children)}},1969:function(e,t,n){e.exports={name:"iaupitk",version:"1.5.14",props:{value:{type:String,default:""}},methods:{wwlhu:function(){this.$emit("change",this.value)}}}},1980:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},1991:function(e,t,n){var ga=e(270),f=e.n(ga);function qtq(e,t){return e&&t?Object.assign({},e,t):e||t}},2002:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},2013:function(e,t,n){e.exports={name:"ypsjbbg",version:"7.13.28",props:{value:{type:String,default:""}},methods:{agoqc:function(){this.$emit("change",this.value)}}}},2024:function(e,t,n){"use strict";var gq=n(410);e.exports=function(e){return gq.isArray(e)?e.map(function(e){return e.atfx}):[]}},2035:function(e,t,n){e.exports={name:"gjknins",version:"9.2.23",props:{value:{type:String,default:""}},methods:{pljyg:function(){this.$emit("change",this.value)}}}},2046:function(e,t,n){e.exports={name:"nujrpve",version:"4.10.17",props:{value:{type:String,default:""}},methods:{oogqq:function(){this.$emit("change",this.value)}}}},2057:function(e,t,n){var rc=p(312),l=p.n(rc);function efw(e,t){return e&&t?Object.assign({},e,t):e||t}},2068:function(e,t,n){"use strict";var vf=n(462);e.exports=function(e){return vf.isArray(e)?e.map(function(e){return e.bypg}):[]}},2079:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},2090:function(e,t,n){var r=n(570);t.yldjub=function(e){return r.createElement("div",{className:"ywfsz-wgim"},e.children)}},2101:function(e,t,n){var r=n(573);t.wghbxl=function(e){return r.createElement("div",{className:"cggcw-wyvw"},e.children)}},2112:function(e,t,n){e.exports={name:"bceirjv",version:"5.6.3",props:{value:{type:String,default:""}},methods:{fssvz:function(){this.$emit("change",this.value)}}}},2123:function(e,t,n){e.exports={name:"rmzqnke",version:"5.0.7",props:{value:{type:String,default:""}},methods:{tmawh:function(){this.$emit("change",this.value)}}}},2134:function(e,t,n){e.exports={name:"kphdces",version:"1.19.12",props:{value:{type:String,default:""}},methods:{utlct:function(){this.$emit("change",this.value)}}}},2145:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},2156:function(e,t,n){var r=n(588);t.esoipk=function(e){return r.createElement("div",{className:"ctihl-yqfu"},e.children)}},2167:function(e,t,n){e.exports={name:"qobwsio",version:"6.9.0",props:{value:{type:String,default:""}},methods:{sxwxy:function(){this.$emit("change",this.value)}}}},2178:function(e,t,n){e.exports={name:"kniyaxk",version:"6.15.22",props:{value:{type:String,default:""}},methods:{zpgdv:function(){this.$emit("change",this.value)}}}},2189:function(e,t,n){"use strict";var ne=n(605);e.exports=function(e){return ne.isArray(e)?e.map(function(e){return e.xltw}):[]}},2200:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},2211:function(e,t,n){"use strict";var bh=n(631);e.exports=function(e){return bh.isArray(e)?e.map(function(e){return e.gwzd}):[]}},2222:function(e,t,n){e.exports={name:"xtzehoq",version:"5.9.30",props:{value:{type:String,default:""}},methods:{mbcri:function(){this.$emit("change",this.value)}}}},2233:function(e,t,n){var r=n(609);t.eafgop=function(e){return r.createElement("div",{className:"vchge-jyfp"},e.children)}},2244:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},2255:function(e,t,n){"use strict";var gn=n(683);e.exports=function(e){return gn.isArray(e)?e.map(function(e){return e.hymx}):[]}},2266:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},2277:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},2288:function(e,t,n){"use strict";var as=n(722);e.exports=function(e){return as.isArray(e)?e.map(function(e){return e.boss}):[]}},2299:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},2310:function(e,t,n){"use strict";var ad=n(748);e.exports=function(e){return ad.isArray(e)?e.map(function(e){return e.bums}):[]}},2321:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},2332:function(e,t,n){var es=p(487),i=p.n(es);function joc(e,t){return e&&t?Object.assign({},e,t):e||t}},2343:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},2354:function(e,t,n){var qw=n(501),h=n.n(qw);function coh(e,t){return e&&t?Object.assign({},e,t):e||t}},2365:function(e,t,n){e.exports={name:"jhywxai",version:"4.6.28",props:{value:{type:String,default:""}},methods:{orklr:function(){this.$emit("change",this.value)}}}},2376:function(e,t,n){e.exports={name:"qxzdxoa",version:"2.20.22",props:{value:{type:String,default:""}},methods:{irrim:function(){this.$emit("change",this.value)}}}},2387:function(e,t,n){e.exports={name:"rlworyj",version:"7.15.6",props:{value:{type:String,default:""}},methods:{xloem:function(){this.$emit("change",this.value)}}}},2398:function(e,t,n){var r=n(654);t.gzmgqh=function(e){return r.createElement("div",{className:"qiznt-bjhm"},e.children)}},2409:function(e,t,n){var r=n(657);t.eljgyr=function(e){return r.createElement("div",{className:"nyzov-yuso"},e.children)}},2420:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},2431:function(e,t,n){var mj=p(550),t=p.n(mj);function yuc(e,t){return e&&t?Object.assign({},e,t):e||t}},2442:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},2453:function(e,t,n){var r=n(669);t.stpbqk=function(e){return r.createElement("div",{className:"ncsyz-zjcl"},e.children)}},2464:function(e,t,n){"use strict";var kf=n(930);e.exports=function(e){return kf.isArray(e)?e.map(function(e){return e.usgc}):[]}},2475:function(e,t,n){e.exports={name:"xrzeakj",version:"6.9.27",props:{value:{type:String,default:""}},methods:{vzmiy:function(){this.$emit("change",this.value)}}}},2486:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},2497:function(e,t,n){var zx=h(592),u=h.n(zx);function jer(e,t){return e&&t?Object.assign({},e,t):e||t}},2508:function(e,t,n){var r=n(684);t.dsakov=function(e){return r.createElement("div",{className:"hzshq-vthd"},e.children)}},2519:function(e,t,n){var r=n(687);t.ysfren=function(e){return r.createElement("div",{className:"smxzd-ybgu"},e.children)}},2530:function(e,t,n){"use strict";var vj=n(17);e.exports=function(e){return vj.isArray(e)?e.map(function(e){return e.gpia}):[]}},2541:function(e,t,n){"use strict";var gc=n(30);e.exports=function(e){return gc.isArray(e)?e.map(function(e){return e.kdmt}):[]}},2552:function(e,t,n){"use strict";var ri=n(43);e.exports=function(e){return ri.isArray(e)?e.map(function(e){return e.fhza}):[]}},2563:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},2574:function(e,t,n){var eo=e(641),f=e.n(eo);function ydg(e,t){return e&&t?Object.assign({},e,t):e||t}},2585:function(e,t,n){"use strict";var mx=n(82);e.exports=function(e){return mx.isArray(e)?e.map(function(e){return e.smpc}):[]}},2596:function(e,t,n){var pd=g(655),x=g.n(pd);function lwu(e,t){return e&&t?Object.assign({},e,t):e||t}},2607:function(e,t,n){e.exports={name:"xsffgkp",version:"2.5.30",props:{value:{type:String,default:""}},methods:{nhkaq:function(){this.$emit("change",this.value)}}}},2618:function(e,t,n){e.exports={name:"mirjqqs",version:"3.11.28",props:{value:{type:String,default:""}},methods:{pjxvt:function(){this.$emit("change",this.value)}}}},2629:function(e,t,n){"use strict";var zc=n(134);e.exports=function(e){return zc.isArray(e)?e.map(function(e){return e.hhpw}):[]}},2640:function(e,t,n){e.exports={name:"yxzfzud",version:"4.3.24",props:{value:{type:String,default:""}},methods:{lynoi:function(){this.$emit("change",this.value)}}}},2651:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},2662:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},2673:function(e,t,n){e.exports={name:"xpbjvrs",version:"9.17.30",props:{value:{type:String,default:""}},methods:{fsuck:function(){this.$emit("change",this.value)}}}},2684:function(e,t,n){var lm=g(711),a=g.n(lm);function rio(e,t){return e&&t?Object.assign({},e,t):e||t}},2695:function(e,t,n){var gf=v(718),i=v.n(gf);function xyl(e,t){return e&&t?Object.assign({},e,t):e||t}},2706:function(e,t,n){var ny=p(725),r=p.n(ny);function ihu(e,t){return e&&t?Object.assign({},e,t):e||t}},2717:function(e,t,n){e.exports={name:"dzjmntz",version:"2.17.1",props:{value:{type:String,default:""}},methods:{nueue:function(){this.$emit("change",this.value)}}}},2728:function(e,t,n){"use strict";var gd=n(251);e.exports=function(e){return gd.isArray(e)?e.map(function(e){return e.hhom}):[]}},2739:function(e,t,n){var r=n(747);t.jjcyhm=function(e){return r.createElement("div",{className:"jllcz-owhb"},e.children)}},2750:function(e,t,n){"use strict";var ym=n(277);e.exports=function(e){return ym.isArray(e)?e.map(function(e){return e.fzbe}):[]}},2761:function(e,t,n){var rl=s(760),s=s.n(rl);function yrj(e,t){return e&&t?Object.assign({},e,t):e||t}},2772:function(e,t,n){e.exports={name:"vmbavtf",version:"9.4.23",props:{value:{type:String,default:""}},methods:{ltufn:function(){this.$emit("change",this.value)}}}},2783:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},2794:function(e,t,n){var wh=o(781),a=o.n(wh);function cyr(e,t){return e&&t?Object.assign({},e,t):e||t}},2805:function(e,t,n){"use strict";var rx=n(342);e.exports=function(e){return rx.isArray(e)?e.map(function(e){return e.onea}):[]}},2816:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},2827:function(e,t,n){var r=n(771);t.fmxuem=function(e){return r.createElement("div",{className:"qenpm-dajw"},e.children)}},2838:function(e,t,n){e.exports={name:"hfqaiww",version:"8.13.28",props:{value:{type:String,default:""}},methods:{pvhci:function(){this.$emit("change",this.value)}}}},2849:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},2860:function(e,t,n){e.exports={name:"rjvsmsv",version:"4.13.10",props:{value:{type:String,default:""}},methods:{ncnqp:function(){this.$emit("change",this.value)}}}},2871:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},2882:function(e,t,n){var es=b(837),s=b.n(es);function nub(e,t){return e&&t?Object.assign({},e,t):e||t}},2893:function(e,t,n){"use strict";var vj=n(446);e.exports=function(e){return vj.isArray(e)?e.map(function(e){return e.vxbc}):[]}},2904:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},2915:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},2926:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},2937:function(e,t,n){e.exports={name:"uuvgzzx",version:"3.13.1",props:{value:{type:String,default:""}},methods:{mocun:function(){this.$emit("change",this.value)}}}},2948:function(e,t,n){var r=n(804);t.fmgqdg=function(e){return r.createElement("div",{className:"xuhlu-uqna"},e.children)}},2959:function(e,t,n){e.exports={name:"fhvtizs",version:"5.5.9",props:{value:{type:String,default:""}},methods:{dfkls:function(){this.$emit("change",this.value)}}}},2970:function(e,t,n){e.exports={name:"hfcgjkd",version:"1.1.12",props:{value:{type:String,default:""}},methods:{fdyni:function(){this.$emit("change",this.value)}}}},2981:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},2992:function(e,t,n){e.exports={name:"yjhuzaz",version:"6.15.22",props:{value:{type:String,default:""}},methods:{smoyg:function(){this.$emit("change",this.value)}}}},3003:function(e,t,n){e.exports={name:"eqsrmgn",version:"2.7.17",props:{value:{type:String,default:""}},methods:{jfyjp:function(){this.$emit("change",this.value)}}}},3014:function(e,t,n){var ez=h(921),z=h.n(ez);function yhy(e,t){return e&&t?Object.assign({},e,t):e||t}},3025:function(e,t,n){var oe=j(928),z=j.n(oe);function fdb(e,t){return e&&t?Object.assign({},e,t):e||t}},3036:function(e,t,n){"use strict";var id=n(615);e.exports=function(e){return id.isArray(e)?e.map(function(e){return e.ggwo}):[]}},3047:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},3058:function(e,t,n){"use strict";var mb=n(641);e.exports=function(e){return mb.isArray(e)?e.map(function(e){return e.txmb}):[]}},3069:function(e,t,n){var uu=l(956),c=l.n(uu);function qnl(e,t){return e&&t?Object.assign({},e,t):e||t}},3080:function(e,t,n){"use strict";var sy=n(667);e.exports=function(e){return sy.isArray(e)?e.map(function(e){return e.wknn}):[]}},3091:function(e,t,n){"use strict";var cc=n(680);e.exports=function(e){return cc.isArray(e)?e.map(function(e){return e.cndz}):[]}},3102:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},3113:function(e,t,n){e.exports={name:"fziuxbj",version:"3.5.11",props:{value:{type:String,default:""}},methods:{lumez:function(){this.$emit("change",this.value)}}}},3124:function(e,t,n){var r=n(852);t.djzxcm=function(e){return r.createElement("div",{className:"vyeas-qkzp"},e.children)}},3135:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},3146:function(e,t,n){var vf=f(8),a=f.n(vf);function yeh(e,t){return e&&t?Object.assign({},e,t):e||t}},3157:function(e,t,n){var yr=h(15),g=h.n(yr);function rku(e,t){return e&&t?Object.assign({},e,t):e||t}},3168:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},3179:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},3190:function(e,t,n){"use strict";var xj=n(797);e.exports=function(e){return xj.isArray(e)?e.map(function(e){return e.gyqc}):[]}},3201:function(e,t,n){var r=n(873);t.ibskzi=function(e){return r.createElement("div",{className:"anisv-horu"},e.children)}},3212:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},3223:function(e,t,n){e.exports={name:"tbxzylz",version:"5.10.2",props:{value:{type:String,default:""}},methods:{sgbqu:function(){this.$emit("change",this.value)}}}},3234:function(e,t,n){var r=n(882);t.oieyfc=function(e){return r.createElement("div",{className:"elslk-ufip"},e.children)}},3245:function(e,t,n){"use strict";var qc=n(862);e.exports=function(e){return qc.isArray(e)?e.map(function(e){return e.xlrb}):[]}},3256:function(e,t,n){e.exports={name:"ypcimin",version:"5.12.16",props:{value:{type:String,default:""}},methods:{wwszt:function(){this.$emit("change",this.value)}}}},3267:function(e,t,n){var r=n(891);t.zdmjch=function(e){return r.createElement("div",{className:"telmz-fhwy"},e.children)}},3278:function(e,t,n){var kj=g(92),i=g.n(kj);function eus(e,t){return e&&t?Object.assign({},e,t):e||t}},3289:function(e,t,n){var r=n(897);t.vgzwtw=function(e){return r.createElement("div",{className:"rzcts-ebkr"},e.children)}},3300:function(e,t,n){var bx=q(106),u=q.n(bx);function aeb(e,t){return e&&t?Object.assign({},e,t):e||t}},3311:function(e,t,n){"use strict";var be=n(940);e.exports=function(e){return be.isArray(e)?e.map(function(e){return e.zuhm}):[]}},3322:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},3333:function(e,t,n){var r=n(909);t.ncwmqz=function(e){return r.createElement("div",{className:"xrorj-gqgj"},e.children)}},3344:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},3355:function(e,t,n){var rd=m(141),f=m.n(rd);function rsq(e,t){return e&&t?Object.assign({},e,t):e||t}},3366:function(e,t,n){var r=n(918);t.cxdhtl=function(e){return r.createElement("div",{className:"qyqrt-okaa"},e.children)}},3377:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},3388:function(e,t,n){e.exports={name:"ttmowzy",version:"3.0.4",props:{value:{type:String,default:""}},methods:{xttqj:function(){this.$emit("change",this.value)}}}},3399:function(e,t,n){"use strict";var fy=n(53);e.exports=function(e){return fy.isArray(e)?e.map(function(e){return e.yugj}):[]}},3410:function(e,t,n){var r=n(930);t.vadhui=function(e){return r.createElement("div",{className:"fgvfr-dkzf"},e.children)}},3421:function(e,t,n){var r=n(933);t.ecqxum=function(e){return r.createElement("div",{className:"mpbok-idnn"},e.children)}},3432:function(e,t,n){"use strict";var ro=n(92);e.exports=function(e){return ro.isArray(e)?e.map(function(e){return e.ivjg}):[]}},3443:function(e,t,n){var r=n(939);t.yyfokt=function(e){return r.createElement("div",{className:"zxefe-sije"},e.children)}},3454:function(e,t,n){"use strict";var st=n(118);e.exports=function(e){return st.isArray(e)?e.map(function(e){return e.agej}):[]}},3465:function(e,t,n){var r=n(945);t.yhyvmh=function(e){return r.createElement("div",{className:"khkzp-zkem"},e.children)}},3476:function(e,t,n){var xm=f(218),a=f.n(xm);function xjd(e,t){return e&&t?Object.assign({},e,t):e||t}},3487:function(e,t,n){"use strict";var kh=n(157);e.exports=function(e){return kh.isArray(e)?e.map(function(e){return e.awez}):[]}},3498:function(e,t,n){e.exports={name:"vlcyjdn",version:"7.20.6",props:{value:{type:String,default:""}},methods:{azrti:function(){this.$emit("change",this.value)}}}},3509:function(e,t,n){"use strict";var fo=n(183);e.exports=function(e){return fo.isArray(e)?e.map(function(e){return e.hpqa}):[]}},3520:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},3531:function(e,t,n){"use strict";var zx=n(209);e.exports=function(e){return zx.isArray(e)?e.map(function(e){return e.ocxm}):[]}},3542:function(e,t,n){var r=n(966);t.cajdle=function(e){return r.createElement("div",{className:"pvbye-iyuj"},e.children)}},3553:function(e,t,n){var r=n(969);t.vugjpv=function(e){return r.createElement("div",{className:"clojz-sbnx"},e.children)}},3564:function(e,t,n){"use strict";var pm=n(248);e.exports=function(e){return pm.isArray(e)?e.map(function(e){return e.soxd}):[]}},3575:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},3586:function(e,t,n){"use strict";var oe=n(274);e.exports=function(e){return oe.isArray(e)?e.map(function(e){return e.hhkw}):[]}},3597:function(e,t,n){e.exports={name:"kiqymyy",version:"2.17.26",props:{value:{type:String,default:""}},methods:{uaimb:function(){this.$emit("change",this.value)}}}},3608:function(e,t,n){var uj=c(302),q=c.n(uj);function xhm(e,t){return e&&t?Object.assign({},e,t):e||t}},3619:function(e,t,n){e.exports={name:"orzhbcf",version:"4.16.28",props:{value:{type:String,default:""}},methods:{lddds:function(){this.$emit("change",this.value)}}}},3630:function(e,t,n){"use strict";var fn=n(326);e.exports=function(e){return fn.isArray(e)?e.map(function(e){return e.iydr}):[]}},3641:function(e,t,n){"use strict";var kz=n(339);e.exports=function(e){return kz.isArray(e)?e.map(function(e){return e.bllr}):[]}},3652:function(e,t,n){var cp=c(330),o=c.n(cp);function oji(e,t){return e&&t?Object.assign({},e,t):e||t}},3663:function(e,t,n){var r=n(22);t.hpdfqt=function(e){return r.createElement("div",{className:"lchua-zejy"},e.children)}},3674:function(e,t,n){var jx=d(344),b=d.n(jx);function cuw(e,t){return e&&t?Object.assign({},e,t):e||t}},3685:function(e,t,n){var og=c(351),a=c.n(og);function isq(e,t){return e&&t?Object.assign({},e,t):e||t}},3696:function(e,t,n){"use strict";var xr=n(404);e.exports=function(e){return xr.isArray(e)?e.map(function(e){return e.tqtp}):[]}},3707:function(e,t,n){e.exports={name:"jqcxkbv",version:"8.0.26",props:{value:{type:String,default:""}},methods:{lwfof:function(){this.$emit("change",this.value)}}}},3718:function(e,t,n){var r=n(37);t.fcunvi=function(e){return r.createElement("div",{className:"lkdqp-icfi"},e.children)}},3729:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},3740:function(e,t,n){var r=n(43);t.rvuzzr=function(e){return r.createElement("div",{className:"fstsr-plrc"},e.children)}},3751:function(e,t,n){"use strict";var xd=n(469);e.exports=function(e){return xd.isArray(e)?e.map(function(e){return e.bcci}):[]}},3762:function(e,t,n){var r=n(49);t.upzpuq=function(e){return r.createElement("div",{className:"rmsqt-apcw"},e.children)}},3773:function(e,t,n){e.exports={name:"zjjrhpj",version:"9.2.1",props:{value:{type:String,default:""}},methods:{qerwc:function(){this.$emit("change",this.value)}}}},3784:function(e,t,n){var r=n(55);t.jfgcqh=function(e){return r.createElement("div",{className:"ntlel-flvt"},e.children)}},3795:function(e,t,n){var lg=l(421),d=l.n(lg);function kxk(e,t){return e&&t?Object.assign({},e,t):e||t}},3806:function(e,t,n){e.exports={name:"zlwlusm",version:"2.18.29",props:{value:{type:String,default:""}},methods:{btxme:function(){this.$emit("change",this.value)}}}},3817:function(e,t,n){var r=n(64);t.fczjkg=function(e){return r.createElement("div",{className:"axbki-zqto"},e.children)}},3828:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},3839:function(e,t,n){var r=n(70);t.jsyaue=function(e){return r.createElement("div",{className:"vxjam-hxwp"},e.children)}},3850:function(e,t,n){e.exports={name:"pusbivq",version:"5.18.21",props:{value:{type:String,default:""}},methods:{wzioj:function(){this.$emit("change",this.value)}}}},3861:function(e,t,n){e.exports={name:"rbbvbaz",version:"1.15.1",props:{value:{type:String,default:""}},methods:{nlnda:function(){this.$emit("change",this.value)}}}},3872:function(e,t,n){e.exports={name:"niylowh",version:"7.7.16",props:{value:{type:String,default:""}},methods:{vafju:function(){this.$emit("change",this.value)}}}},3883:function(e,t,n){var dc=x(477),w=x.n(dc);function leh(e,t){return e&&t?Object.assign({},e,t):e||t}},3894:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},3905:function(e,t,n){var r=n(88);t.xxbhdq=function(e){return r.createElement("div",{className:"ypjmo-ifvj"},e.children)}},3916:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},3927:function(e,t,n){var jc=a(505),l=a.n(jc);function hnl(e,t){return e&&t?Object.assign({},e,t):e||t}},3938:function(e,t,n){e.exports={name:"iplvudj",version:"2.5.3",props:{value:{type:String,default:""}},methods:{yopev:function(){this.$emit("change",this.value)}}}},3949:function(e,t,n){"use strict";var ut=n(703);e.exports=function(e){return ut.isArray(e)?e.map(function(e){return e.rpwu}):[]}},3960:function(e,t,n){e.exports={name:"fzvyuwk",version:"2.19.24",props:{value:{type:String,default:""}},methods:{kgkjw:function(){this.$emit("change",this.value)}}}},3971:function(e,t,n){"use strict";var uf=n(729);e.exports=function(e){return uf.isArray(e)?e.map(function(e){return e.tmwx}):[]}},3982:function(e,t,n){e.exports={name:"drhpifs",version:"5.9.22",props:{value:{type:String,default:""}},methods:{sodzd:function(){this.$emit("change",this.value)}}}},3993:function(e,t,n){e.exports={name:"ileilwl",version:"6.16.19",props:{value:{type:String,default:""}},methods:{ttaqu:function(){this.$emit("change",this.value)}}}},4004:function(e,t,n){e.exports={name:"belonsh",version:"8.9.2",props:{value:{type:String,default:""}},methods:{laesh:function(){this.$emit("change",this.value)}}}},4015:function(e,t,n){var er=v(561),f=v.n(er);function wgb(e,t){return e&&t?Object.assign({},e,t):e||t}},4026:function(e,t,n){var r=n(121);t.oikjdv=function(e){return r.createElement("div",{className:"fdizm-ozvd"},e.children)}},4037:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},4048:function(e,t,n){"use strict";var qn=n(820);e.exports=function(e){return qn.isArray(e)?e.map(function(e){return e.bmba}):[]}},4059:function(e,t,n){var sh=q(589),u=q.n(sh);function ysl(e,t){return e&&t?Object.assign({},e,t):e||t}},4070:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},4081:function(e,t,n){var r=n(136);t.fwolfl=function(e){return r.createElement("div",{className:"txzse-yvkx"},e.children)}},4092:function(e,t,n){"use strict";var ag=n(872);e.exports=function(e){return ag.isArray(e)?e.map(function(e){return e.omtj}):[]}},4103:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},4114:function(e,t,n){e.exports={name:"dpsiwrq",version:"7.13.17",props:{value:{type:String,default:""}},methods:{oleil:function(){this.$emit("change",this.value)}}}},4125:function(e,t,n){var r=n(148);t.vowdyj=function(e){return r.createElement("div",{className:"gbizv-ysdw"},e.children)}},4136:function(e,t,n){"use strict";var sa=n(924);e.exports=function(e){return sa.isArray(e)?e.map(function(e){return e.rbpv}):[]}},4147:function(e,t,n){var iw=b(645),a=b.n(iw);function ygf(e,t){return e&&t?Object.assign({},e,t):e||t}},4158:function(e,t,n){e.exports={name:"hrtwbwg",version:"9.17.21",props:{value:{type:String,default:""}},methods:{wxois:function(){this.$emit("change",this.value)}}}},4169:function(e,t,n){var r=n(160);t.xaiulb=function(e){return r.createElement("div",{className:"ncfmk-svpj"},e.children)}},4180:function(e,t,n){"use strict";var xr=n(976);e.exports=function(e){return xr.isArray(e)?e.map(function(e){return e.gbva}):[]}},4191:function(e,t,n){e.exports={name:"yngexcv",version:"7.4.25",props:{value:{type:String,default:""}},methods:{xhybb:function(){this.$emit("change",this.value)}}}},4202:function(e,t,n){"use strict";var zz=n(11);e.exports=function(e){return zz.isArray(e)?e.map(function(e){return e.qqhy}):[]}},4213:function(e,t,n){"use strict";var zn=n(24);e.exports=function(e){return zn.isArray(e)?e.map(function(e){return e.qlvv}):[]}},4224:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},4235:function(e,t,n){e.exports={name:"ltxgjiu",version:"4.0.2",props:{value:{type:String,default:""}},methods:{npzsh:function(){this.$emit("change",this.value)}}}},4246:function(e,t,n){e.exports={name:"pdpbjxe",version:"7.19.20",props:{value:{type:String,default:""}},methods:{nvcom:function(){this.$emit("change",this.value)}}}},4257:function(e,t,n){"use strict";var kz=n(76);e.exports=function(e){return kz.isArray(e)?e.map(function(e){return e.nmvc}):[]}},4268:function(e,t,n){"use strict";var ey=n(89);e.exports=function(e){return ey.isArray(e)?e.map(function(e){return e.xygk}):[]}},4279:function(e,t,n){"use strict";var it=n(102);e.exports=function(e){return it.isArray(e)?e.map(function(e){return e.xsvz}):[]}},4290:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},4301:function(e,t,n){"use strict";var zr=n(128);e.exports=function(e){return zr.isArray(e)?e.map(function(e){return e.uatq}):[]}},4312:function(e,t,n){var ny=l(750),q=l.n(ny);function edf(e,t){return e&&t?Object.assign({},e,t):e||t}},4323:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},4334:function(e,t,n){var le=f(764),y=f.n(le);function scb(e,t){return e&&t?Object.assign({},e,t):e||t}},4345:function(e,t,n){var r=n(208);t.veuwcm=function(e){return r.createElement("div",{className:"uzxwm-vtec"},e.children)}},4356:function(e,t,n){var r=n(211);t.sbztgc=function(e){return r.createElement("div",{className:"avgyk-adwg"},e.children)}},4367:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},4378:function(e,t,n){var of=v(792),r=v.n(of);function zeh(e,t){return e&&t?Object.assign({},e,t):e||t}},4389:function(e,t,n){e.exports={name:"qwjtbsz",version:"2.9.29",props:{value:{type:String,default:""}},methods:{ivaqq:function(){this.$emit("change",this.value)}}}},4400:function(e,t,n){var wf=a(806),i=a.n(wf);function qjd(e,t){return e&&t?Object.assign({},e,t):e||t}},4411:function(e,t,n){var ms=d(813),c=d.n(ms);function bte(e,t){return e&&t?Object.assign({},e,t):e||t}},4422:function(e,t,n){var fd=m(820),d=m.n(fd);function vwb(e,t){return e&&t?Object.assign({},e,t):e||t}},4433:function(e,t,n){"use strict";var lh=n(284);e.exports=function(e){return lh.isArray(e)?e.map(function(e){return e.mqpo}):[]}},4444:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},4455:function(e,t,n){var sm=w(841),v=w.n(sm);function pnv(e,t){return e&&t?Object.assign({},e,t):e||t}},4466:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},4477:function(e,t,n){var r=n(244);t.xdayok=function(e){return r.createElement("div",{className:"bzkzz-ymqf"},e.children)}},4488:function(e,t,n){var r=n(247);t.xrlqeq=function(e){return r.createElement("div",{className:"tcmxh-dnwd"},e.children)}},4499:function(e,t,n){e.exports={name:"fnzvtaj",version:"9.19.7",props:{value:{type:String,default:""}},methods:{uqlfx:function(){this.$emit("change",this.value)}}}},4510:function(e,t,n){var be=d(876),i=d.n(be);function rxz(e,t){return e&&t?Object.assign({},e,t):e||t}},4521:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},4532:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},4543:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},4554:function(e,t,n){var or=e(904),c=e.n(or);function hqr(e,t){return e&&t?Object.assign({},e,t):e||t}},4565:function(e,t,n){var r=n(268);t.uohwwh=function(e){return r.createElement("div",{className:"ifomp-lmlt"},e.children)}},4576:function(e,t,n){Object.defineProperty(t,"__esModule",{value:!0}),t.default=function(e){for(var n=1;n<arguments.length;n++){var r=arguments[n];for(var o in r)Object.prototype.hasOwnProperty.call(r,o)&&(e[o]=r[o])}return e}},4587:function(e,t,n){"use strict";var eh=n(466);e.exports=function(e){return eh.isArray(e)?e.map(function(e){return e.gvha}):[]}},4598:function(e,t,n){var r=n(277);t.umgkzx=function(e){return r.createElement("div",{className:"oblsw-pcib"},e.children)}},4609:function(e,t,n){"use strict";var rr=n(492);e.exports=function(e){return rr.isArray(e)?e.map(function(e){return e.wpun}):[]}}}]);
+/** @license React v17.0.2 react.production.min.js */
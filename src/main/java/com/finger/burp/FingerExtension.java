@@ -4,13 +4,11 @@ import burp.api.montoya.BurpExtension;
 import burp.api.montoya.MontoyaApi;
 import burp.api.montoya.logging.Logging;
 import com.finger.burp.rules.RuleLoader;
-import com.finger.burp.model.Fingerprint;
+import com.finger.burp.rules.RuleUpdater;
 import com.finger.burp.scanner.PassiveScanner;
 import com.finger.burp.ui.FingerTableModel;
 import com.finger.burp.ui.FingerTabPanel;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import com.finger.burp.utils.ConfigPersistence;
 
 public class FingerExtension implements BurpExtension {
 
@@ -25,15 +23,21 @@ public class FingerExtension implements BurpExtension {
         logging.logToOutput("========================================");
         logging.logToOutput("Finger Plugin Loading...");
         
-        // 1. 初始化规则加载器并加载规则
+        // 1. 初始化规则加载器并加载规则，之后所有组件都通过 RuleLoader 读取当前规则快照
         RuleLoader ruleLoader = new RuleLoader(api);
-        List<Fingerprint> fingerprints = Collections.synchronizedList(new ArrayList<>(ruleLoader.loadAllRules()));
+        ruleLoader.loadAllRules();
+
+        // 在线更新与后台定时检查，每次检查时读取最新的更新地址
+        ConfigPersistence configPersistence = new ConfigPersistence(api);
+        RuleUpdater ruleUpdater = new RuleUpdater(api, ruleLoader);
+        ruleUpdater.schedule(configPersistence.loadConfig().getUpdateCheckHours(),
+                () -> configPersistence.loadConfig().getUpdateUrl());
         
         // 2. 初始化扫描器与 UI (调整顺序)
         FingerTableModel tableModel = new FingerTableModel();
-        PassiveScanner passiveScanner = new PassiveScanner(api, fingerprints, tableModel);
+        PassiveScanner passiveScanner = new PassiveScanner(api, ruleLoader, tableModel);
         
-        FingerTabPanel tabPanel = new FingerTabPanel(api, tableModel, passiveScanner, ruleLoader, fingerprints);
+        FingerTabPanel tabPanel = new FingerTabPanel(api, tableModel, passiveScanner, ruleLoader, ruleUpdater);
         api.userInterface().registerSuiteTab("Finger", tabPanel);
         
         // 3. 注册被动扫描处理器 (请求和响应)
@@ -44,11 +48,13 @@ public class FingerExtension implements BurpExtension {
         api.extension().registerUnloadingHandler(() -> {
             logging.logToOutput("Finger Plugin Unloading...");
             passiveScanner.shutdown();
+            ruleUpdater.shutdown();
+            ruleLoader.shutdown();
         });
         
         logging.logToOutput("Finger Plugin Loaded Successfully!");
         logging.logToOutput("Version: 1.0-SNAPSHOT");
-        logging.logToOutput("Total Rules: " + fingerprints.size());
+        logging.logToOutput("Total Rules: " + ruleLoader.getFingerprints().size());
         logging.logToOutput("========================================");
     }
 }
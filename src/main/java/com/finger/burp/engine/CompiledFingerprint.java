@@ -0,0 +1,54 @@
+package com.finger.burp.engine;
+
+import com.finger.burp.model.Fingerprint;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 指纹的编译结果，rules 保持原始定义顺序（OR 逻辑）。
+ * evaluationOrder 为按开销从低到高排序后的同一组规则，任一规则命中即可停止评估。
+ */
+public final class CompiledFingerprint {
+    private final int id;
+    private final Fingerprint fingerprint;
+    private final List<CompiledRule> rules;
+    private final List<CompiledRule> evaluationOrder;
+
+    CompiledFingerprint(int id, Fingerprint fingerprint, List<CompiledRule> rules) {
+        this.id = id;
+        this.fingerprint = fingerprint;
+        this.rules = rules;
+        List<CompiledRule> ordered = new ArrayList<>(rules);
+        // 稳定排序，同一开销的规则保持定义顺序
+        ordered.sort(Comparator.comparingInt(CompiledFingerprint::cost));
+        this.evaluationOrder = Collections.unmodifiableList(ordered);
+    }
+
+    /**
+     * 规则评估开销：status 只比较整数，header 规则按字段批量评估，body 需要解码响应体，hash 需要复制并哈希整个响应体。
+     */
+    private static int cost(CompiledRule rule) {
+        switch (rule.getLocation()) {
+            case STATUS:
+            case NONE:
+            case UNKNOWN:
+                return 0;
+            case HEADER:
+                return 1;
+            case BODY:
+                return 2;
+            case HASH:
+                return 3;
+            default:
+                return 4;
+        }
+    }
+
+    public int getId() { return id; }
+    public Fingerprint getFingerprint() { return fingerprint; }
+    public List<CompiledRule> getRules() { return rules; }
+    public List<CompiledRule> getEvaluationOrder() { return evaluationOrder; }
+}
@@ -0,0 +1,141 @@
+package com.finger.burp.engine;
+
+import com.finger.burp.model.Fingerprint;
+import com.finger.burp.model.Rule;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * 单条规则的编译结果。location、path 和 match 关键字都在编译阶段解析完毕。
+ */
+public final class CompiledRule {
+    public enum Location { HEADER, BODY, HASH, STATUS, NONE, UNKNOWN }
+    public enum Direction { REQUEST, RESPONSE, BOTH }
+
+    private final int id;
+    private final Fingerprint fingerprint;
+    private final Rule rule;
+    private final Location location;
+    private final String field;
+    private final String path;
+    private final String normalizedPath;
+    private final Integer status;
+    // 小写的 Content-Type 前缀约束，null 表示按内容分类自动判断
+    private final String contentType;
+    private final Direction direction;
+    private final List<RulePattern> patterns;
+    // 与 patterns 一一对应的预过滤关键字 id，-1 表示该关键字无法预过滤
+    private final int[] literalIds;
+    // 与 patterns 一一对应的多模式自动机正则 id，-1 表示只能用 JDK 匹配
+    private final int[] automatonIds;
+    // 是否包含需要时间预算保护的正则
+    private final boolean hasRegex;
+
+    CompiledRule(int id, Fingerprint fingerprint, Rule rule, LiteralPrefilter.Dictionary dictionary,
+                 RegexAutomaton.Builder automaton, Function<String, RulePattern> patternCompiler) {
+        this.id = id;
+        this.fingerprint = fingerprint;
+        this.rule = rule;
+        this.location = parseLocation(rule.getLocation());
+        this.field = rule.getField() != null && !rule.getField().isEmpty() ? rule.getField() : null;
+        this.path = rule.getPath() != null && !rule.getPath().isEmpty() ? rule.getPath() : null;
+        this.normalizedPath = MessageView.normalizePath(path);
+        this.status = rule.getStatus();
+        this.contentType = rule.getContentType() != null && !rule.getContentType().trim().isEmpty()
+                ? rule.getContentType().trim().toLowerCase(Locale.ROOT) : null;
+        this.direction = parseDirection(rule.getDirection(), location, status);
+
+        List<RulePattern> compiled = new ArrayList<>();
+        if (rule.getMatch() != null) {
+            for (String m : rule.getMatch()) {
+                compiled.add(patternCompiler.apply(m));
+            }
+        }
+        this.patterns = Collections.unmodifiableList(compiled);
+
+        this.hasRegex = compiled.stream().anyMatch(p -> p.getKind() == RulePattern.Kind.REGEX);
+
+        this.literalIds = new int[compiled.size()];
+        boolean prefiltered = location == Location.BODY || location == Location.HEADER;
+        for (int i = 0; i < compiled.size(); i++) {
+            literalIds[i] = prefiltered ? dictionary.idOf(compiled.get(i).getRequiredLiteral()) : -1;
+        }
+
+        // 只有 body 正则会合并进自动机，header 值很短，仍由 JDK 逐个匹配
+        this.automatonIds = new int[compiled.size()];
+        for (int i = 0; i < compiled.size(); i++) {
+            RulePattern pattern = compiled.get(i);
+            automatonIds[i] = location == Location.BODY && pattern.getKind() == RulePattern.Kind.REGEX
+                    ? automaton.idOf(pattern.getSource()) : -1;
+        }
+    }
+
+    private static Location parseLocation(String location) {
+        if (location == null) return Location.NONE;
+        switch (location.toLowerCase(Locale.ROOT)) {
+            case "header": return Location.HEADER;
+            case "body": return Location.BODY;
+            case "hash": return Location.HASH;
+            case "status": return Location.STATUS;
+            default: return Location.UNKNOWN;
+        }
+    }
+
+    /**
+     * 未显式指定方向时：只有不限状态码的 header 规则（如 Cookie、User-Agent 特征）对请求有意义，
+     * body、hash、status 规则描述的都是服务端返回的内容。
+     */
+    private static Direction parseDirection(String direction, Location location, Integer status) {
+        if (direction != null) {
+            switch (direction.trim().toLowerCase(Locale.ROOT)) {
+                case "request": return Direction.REQUEST;
+                case "response": return Direction.RESPONSE;
+                case "both": return Direction.BOTH;
+                default: break;
+            }
+        }
+        return location == Location.HEADER && status == null ? Direction.BOTH : Direction.RESPONSE;
+    }
+
+    public int getId() { return id; }
+    public Fingerprint getFingerprint() { return fingerprint; }
+    public Rule getRule() { return rule; }
+    public Location getLocation() { return location; }
+    public String getField() { return field; }
+    public String getPath() { return path; }
+    public String getNormalizedPath() { return normalizedPath; }
+    public Integer getStatus() { return status; }
+    public String getContentType() { return contentType; }
+    public Direction getDirection() { return direction; }
+    public boolean appliesToRequest() { return direction != Direction.RESPONSE; }
+    public boolean appliesToResponse() { return direction != Direction.REQUEST; }
+
+    /**
+     * 规则是否适用于该消息的内容类型。header、status 规则始终适用。
+     */
+    public boolean appliesTo(MessageView view) {
+        if (location != Location.BODY && location != Location.HASH) return true;
+        if (contentType != null) {
+            String mediaType = view.getMediaType();
+            return mediaType != null && mediaType.startsWith(contentType);
+        }
+        ContentClass contentClass = view.getContentClass();
+        return location == Location.BODY ? contentClass.scansBody() : contentClass.scansHash();
+    }
+    public List<RulePattern> getPatterns() { return patterns; }
+    public boolean hasRegex() { return hasRegex; }
+
+    /**
+     * 第 index 个关键字对应的预过滤关键字 id；-1 表示无法预过滤，必须直接执行匹配。
+     */
+    public int getLiteralId(int index) { return literalIds[index]; }
+
+    /**
+     * 第 index 个关键字在 body 自动机中的 id；-1 表示不在自动机中。
+     */
+    public int getAutomatonId(int index) { return automatonIds[index]; }
+}
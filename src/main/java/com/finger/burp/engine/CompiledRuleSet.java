@@ -0,0 +1,214 @@
+package com.finger.burp.engine;
+
+import com.finger.burp.model.Fingerprint;
+import com.finger.burp.model.Rule;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 不可变的已编译规则集，即某一版本的规则快照。
+ * 在规则加载或编辑后构建一次，匹配阶段只读取其中预编译好的 Pattern。
+ * 快照发布后其中的指纹列表与 Fingerprint 对象都不再修改，编辑规则时总是基于副本构建新快照。
+ */
+public final class CompiledRuleSet {
+    private final long version;
+    private final List<Fingerprint> fingerprints;
+    private final List<CompiledFingerprint> compiledFingerprints;
+    private final List<CompiledRule> rules;
+    // 按消息方向划分的指纹，只包含适用于该方向的规则，规则 id 与完整规则集一致
+    private final List<CompiledFingerprint> requestFingerprints;
+    private final List<CompiledFingerprint> responseFingerprints;
+    private final List<RulePattern> fallbackPatterns;
+    private final HashIndex hashIndex;
+    private final LiteralPrefilter literalPrefilter;
+    private final HeaderRuleIndex requestHeaderIndex;
+    private final HeaderRuleIndex responseHeaderIndex;
+    private final PathRuleIndex pathIndex;
+    // 只在选用自动机后端时才构建
+    private final Supplier<RegexAutomaton> bodyAutomaton;
+    private final Supplier<Map<Fingerprint, Integer>> fingerprintIds;
+    private final Supplier<RuleLinter.Report> lintReport;
+    private final int automatonCount;
+    private final int literalCount;
+    private final int regexCount;
+
+    private CompiledRuleSet(long version, List<Fingerprint> fingerprints, List<CompiledFingerprint> compiledFingerprints,
+                            List<CompiledRule> rules, LiteralPrefilter literalPrefilter,
+                            RegexAutomaton.Builder automaton) {
+        this.version = version;
+        this.fingerprints = Collections.unmodifiableList(fingerprints);
+        this.compiledFingerprints = Collections.unmodifiableList(compiledFingerprints);
+        this.rules = Collections.unmodifiableList(rules);
+        this.requestFingerprints = partition(compiledFingerprints, true);
+        this.responseFingerprints = partition(compiledFingerprints, false);
+        this.hashIndex = HashIndex.build(rules);
+        this.literalPrefilter = literalPrefilter;
+        this.requestHeaderIndex = HeaderRuleIndex.build(filter(rules, true));
+        this.responseHeaderIndex = HeaderRuleIndex.build(filter(rules, false));
+        this.pathIndex = PathRuleIndex.build(rules);
+        this.bodyAutomaton = Suppliers.memoize(automaton::build);
+        this.fingerprintIds = Suppliers.memoize(() -> {
+            Map<Fingerprint, Integer> ids = new IdentityHashMap<>();
+            for (CompiledFingerprint fp : compiledFingerprints) ids.put(fp.getFingerprint(), fp.getId());
+            return ids;
+        });
+        this.lintReport = Suppliers.memoize(() -> RuleLinter.lint(this));
+        this.automatonCount = automaton.size();
+
+        List<RulePattern> fallbacks = new ArrayList<>();
+        int literals = 0;
+        int regexes = 0;
+        for (CompiledRule rule : rules) {
+            for (RulePattern pattern : rule.getPatterns()) {
+                switch (pattern.getKind()) {
+                    case LITERAL: literals++; break;
+                    case REGEX: regexes++; break;
+                    default: fallbacks.add(pattern);
+                }
+            }
+        }
+        this.fallbackPatterns = Collections.unmodifiableList(fallbacks);
+        this.literalCount = literals;
+        this.regexCount = regexes;
+    }
+
+    private static List<CompiledRule> filter(List<CompiledRule> rules, boolean request) {
+        List<CompiledRule> result = new ArrayList<>();
+        for (CompiledRule rule : rules) {
+            if (request ? rule.appliesToRequest() : rule.appliesToResponse()) result.add(rule);
+        }
+        return result;
+    }
+
+    /**
+     * 去掉不适用于该方向的规则；没有剩余规则的指纹整体跳过。
+     */
+    private static List<CompiledFingerprint> partition(List<CompiledFingerprint> fingerprints, boolean request) {
+        List<CompiledFingerprint> result = new ArrayList<>();
+        for (CompiledFingerprint fp : fingerprints) {
+            List<CompiledRule> rules = filter(fp.getRules(), request);
+            if (rules.isEmpty()) continue;
+            result.add(rules.size() == fp.getRules().size() ? fp
+                    : new CompiledFingerprint(fp.getId(), fp.getFingerprint(), Collections.unmodifiableList(rules)));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    public static CompiledRuleSet empty() {
+        return compile(Collections.emptyList());
+    }
+
+    /**
+     * 编译指纹列表。调用方传入的列表会被复制，之后对原列表的修改不会影响本对象。
+     */
+    public static CompiledRuleSet compile(List<Fingerprint> source) {
+        return compile(source, 0);
+    }
+
+    /**
+     * @param version 快照版本号，由 RuleLoader 在每次发布时递增
+     */
+    public static CompiledRuleSet compile(List<Fingerprint> source, long version) {
+        return compile(source, version, null);
+    }
+
+    /**
+     * @param previous 上一个快照，其中已编译的关键字按原文复用，只有新增或修改的关键字需要重新编译正则
+     */
+    public static CompiledRuleSet compile(List<Fingerprint> source, long version, CompiledRuleSet previous) {
+        Map<String, RulePattern> patterns = new HashMap<>();
+        if (previous != null) {
+            for (CompiledRule rule : previous.rules) {
+                for (RulePattern pattern : rule.getPatterns()) {
+                    if (pattern.getSource() != null) patterns.putIfAbsent(pattern.getSource(), pattern);
+                }
+            }
+        }
+        Function<String, RulePattern> patternCompiler =
+                m -> m == null ? RulePattern.compile(null) : patterns.computeIfAbsent(m, RulePattern::compile);
+
+        List<Fingerprint> fingerprints;
+        synchronized (source) {
+            fingerprints = new ArrayList<>(source);
+        }
+
+        List<CompiledFingerprint> compiledFingerprints = new ArrayList<>();
+        List<CompiledRule> rules = new ArrayList<>();
+        LiteralPrefilter.Dictionary dictionary = new LiteralPrefilter.Dictionary();
+        RegexAutomaton.Builder automaton = new RegexAutomaton.Builder();
+        for (Fingerprint fp : fingerprints) {
+            List<CompiledRule> fpRules = new ArrayList<>();
+            if (fp.getRules() != null) {
+                for (Rule rule : fp.getRules()) {
+                    if (rule == null) continue;
+                    CompiledRule compiled = new CompiledRule(rules.size(), fp, rule, dictionary, automaton, patternCompiler);
+                    rules.add(compiled);
+                    fpRules.add(compiled);
+                }
+            }
+            compiledFingerprints.add(new CompiledFingerprint(compiledFingerprints.size(), fp,
+                    Collections.unmodifiableList(fpRules)));
+        }
+        return new CompiledRuleSet(version, fingerprints, compiledFingerprints, rules, dictionary.build(), automaton);
+    }
+
+    public long getVersion() { return version; }
+    public List<Fingerprint> getFingerprints() { return fingerprints; }
+    public List<CompiledFingerprint> getCompiledFingerprints() { return compiledFingerprints; }
+    public List<CompiledRule> getRules() { return rules; }
+
+    /**
+     * 适用于请求或响应的指纹子集。
+     */
+    public List<CompiledFingerprint> getCompiledFingerprints(boolean request) {
+        return request ? requestFingerprints : responseFingerprints;
+    }
+
+    /**
+     * 指纹在本规则集中的 id，不属于本规则集时返回 -1。
+     */
+    public int getFingerprintId(Fingerprint fingerprint) {
+        Integer id = fingerprintIds.get().get(fingerprint);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * 规则静态检查结果，首次调用时生成。
+     */
+    public RuleLinter.Report getLintReport() { return lintReport.get(); }
+
+    public HashIndex getHashIndex() { return hashIndex; }
+    public LiteralPrefilter getLiteralPrefilter() { return literalPrefilter; }
+    public HeaderRuleIndex getHeaderIndex(boolean request) { return request ? requestHeaderIndex : responseHeaderIndex; }
+    public PathRuleIndex getPathIndex() { return pathIndex; }
+
+    /**
+     * 合并全部受支持 body 正则的多模式自动机，首次调用时构建。
+     */
+    public RegexAutomaton getBodyAutomaton() { return bodyAutomaton.get(); }
+
+    /**
+     * 正则解析失败、退回到 contains 匹配的关键字。
+     */
+    public List<RulePattern> getFallbackPatterns() { return fallbackPatterns; }
+    public int getLiteralCount() { return literalCount; }
+    public int getRegexCount() { return regexCount; }
+
+    public String summary() {
+        int requestRules = 0;
+        for (CompiledFingerprint fp : requestFingerprints) requestRules += fp.getRules().size();
+        return "Compiled rule set v" + version + ": " + rules.size() + " rules of " + fingerprints.size() + " fingerprints ("
+                + requestRules + " request-side, "
+                + literalCount + " literal, " + regexCount + " regex, "
+                + fallbackPatterns.size() + " contains fallback, " + hashIndex.getRuleCount() + " indexed hashes, "
+                + literalPrefilter.size() + " prefilter literals, " + pathIndex.getPathCount() + " rule paths, " + automatonCount + " body regex in automaton)";
+    }
+}
@@ -0,0 +1,89 @@
+package com.finger.burp.engine;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 每个主机已确认的指纹位图，按已编译规则集中的指纹 id 索引。
+ * 指纹在某个主机上确认后，该主机之后的消息不再评估这个指纹的规则。
+ * 位图与规则集绑定，规则重新加载后全部重置；主机数超过上限时淘汰最久未访问的主机。
+ */
+public final class ConfirmedFingerprints {
+    private static final int MAX_HOSTS = 10_000;
+
+    private volatile Generation generation = new Generation(null);
+    private final LongAdder skipped = new LongAdder();
+
+    /**
+     * 获取主机的位图，不存在时创建。
+     */
+    AtomicLongArray forHost(CompiledRuleSet ruleSet, String host) {
+        Generation current = generation;
+        if (current.ruleSet != ruleSet) {
+            synchronized (this) {
+                current = generation;
+                if (current.ruleSet != ruleSet) {
+                    current = new Generation(ruleSet);
+                    generation = current;
+                }
+            }
+        }
+        int words = (ruleSet.getCompiledFingerprints().size() + 63) >>> 6;
+        try {
+            return current.hosts.get(host, () -> new AtomicLongArray(words));
+        } catch (ExecutionException e) {
+            return new AtomicLongArray(words);
+        }
+    }
+
+    static boolean contains(AtomicLongArray bits, int id) {
+        return (bits.get(id >>> 6) & (1L << id)) != 0;
+    }
+
+    static boolean isEmpty(AtomicLongArray bits) {
+        for (int i = 0; i < bits.length(); i++) {
+            if (bits.get(i) != 0) return false;
+        }
+        return true;
+    }
+
+    static void add(AtomicLongArray bits, int id) {
+        long mask = 1L << id;
+        bits.getAndAccumulate(id >>> 6, mask, (a, b) -> a | b);
+    }
+
+    void recordSkipped(int count) {
+        skipped.add(count);
+    }
+
+    public void clear() {
+        generation.hosts.invalidateAll();
+    }
+
+    public long getHostCount() {
+        return generation.hosts.size();
+    }
+
+    /** 因已确认而跳过评估的指纹次数 */
+    public long getSkipped() {
+        return skipped.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "hosts=" + getHostCount() + ", skippedFingerprints=" + getSkipped();
+    }
+
+    private static final class Generation {
+        final CompiledRuleSet ruleSet;
+        final Cache<String, AtomicLongArray> hosts = CacheBuilder.newBuilder().maximumSize(MAX_HOSTS).build();
+
+        Generation(CompiledRuleSet ruleSet) {
+            this.ruleSet = ruleSet;
+        }
+    }
+}
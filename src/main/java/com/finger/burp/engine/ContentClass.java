@@ -0,0 +1,110 @@
+package com.finger.burp.engine;
+
+import java.util.Locale;
+
+/**
+ * 消息内容分类，用于决定哪些规则值得评估。
+ * 优先根据响应体开头的魔数判断，无法识别时再参考 Content-Type。
+ */
+public enum ContentClass {
+    /** HTML、JSON、JS、CSS、XML 等文本 */
+    TEXT(true, false),
+    /** 位图与图标，只计算 hash */
+    IMAGE(false, true),
+    /** SVG 既是文本又常用作 favicon */
+    VECTOR(true, true),
+    FONT(false, false),
+    MEDIA(false, false),
+    BINARY(false, false),
+    /** 无法判断类型时保守处理，全部规则都评估 */
+    UNKNOWN(true, true);
+
+    // 分类时只需要读取响应体开头的字节数
+    static final int SNIFF_LENGTH = 16;
+
+    private final boolean scanBody;
+    private final boolean scanHash;
+
+    ContentClass(boolean scanBody, boolean scanHash) {
+        this.scanBody = scanBody;
+        this.scanHash = scanHash;
+    }
+
+    public boolean scansBody() { return scanBody; }
+    public boolean scansHash() { return scanHash; }
+
+    /**
+     * @param mediaType 已转为小写、去掉参数的 Content-Type，可为 null
+     * @param head 响应体开头最多 {@link #SNIFF_LENGTH} 个字节
+     */
+    public static ContentClass classify(String mediaType, byte[] head) {
+        ContentClass sniffed = sniff(head);
+        if (sniffed != null) return sniffed;
+        if (mediaType == null || mediaType.isEmpty()) return UNKNOWN;
+
+        if (mediaType.equals("image/svg+xml")) return VECTOR;
+        if (mediaType.startsWith("image/")) return IMAGE;
+        if (mediaType.startsWith("text/")) return TEXT;
+        if (mediaType.startsWith("font/") || mediaType.contains("font-woff") || mediaType.contains("opentype")) return FONT;
+        if (mediaType.startsWith("video/") || mediaType.startsWith("audio/")) return MEDIA;
+        if (mediaType.contains("json") || mediaType.contains("javascript") || mediaType.contains("ecmascript")
+                || mediaType.contains("xml") || mediaType.contains("x-www-form-urlencoded")
+                || mediaType.startsWith("multipart/")) {
+            return TEXT;
+        }
+        if (mediaType.equals("application/octet-stream")) return UNKNOWN;
+        if (mediaType.startsWith("application/")) return BINARY;
+        return UNKNOWN;
+    }
+
+    /**
+     * 按常见文件头识别二进制内容；文本内容没有可靠的魔数，返回 null。
+     */
+    static ContentClass sniff(byte[] head) {
+        if (head == null || head.length < 4) return null;
+        if (startsWith(head, 0x89, 'P', 'N', 'G')
+                || startsWith(head, 'G', 'I', 'F', '8')
+                || startsWith(head, 0xFF, 0xD8, 0xFF)
+                || startsWith(head, 0x00, 0x00, 0x01, 0x00)
+                || startsWith(head, 0x00, 0x00, 0x02, 0x00)
+                || (head.length >= 12 && startsWith(head, 'R', 'I', 'F', 'F')
+                    && head[8] == 'W' && head[9] == 'E' && head[10] == 'B' && head[11] == 'P')) {
+            return IMAGE;
+        }
+        if (startsWith(head, 'w', 'O', 'F', 'F')
+                || startsWith(head, 'w', 'O', 'F', '2')
+                || startsWith(head, 'O', 'T', 'T', 'O')
+                || startsWith(head, 0x00, 0x01, 0x00, 0x00)) {
+            return FONT;
+        }
+        if (head.length >= 8 && head[4] == 'f' && head[5] == 't' && head[6] == 'y' && head[7] == 'p') {
+            return MEDIA;
+        }
+        if (startsWith(head, '%', 'P', 'D', 'F')
+                || startsWith(head, 'P', 'K', 0x03, 0x04)
+                || startsWith(head, 0x1F, 0x8B)
+                || startsWith(head, 0x00, 'a', 's', 'm')) {
+            return BINARY;
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] data, int... magic) {
+        if (data.length < magic.length) return false;
+        for (int i = 0; i < magic.length; i++) {
+            if ((data[i] & 0xFF) != magic[i]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * 从 Content-Type 头中取出媒体类型：小写并去掉 charset 等参数。
+     */
+    public static String mediaTypeOf(String contentType) {
+        if (contentType == null) return null;
+        int semicolon = contentType.indexOf(';');
+        String type = semicolon >= 0 ? contentType.substring(0, semicolon) : contentType;
+        type = type.trim().toLowerCase(Locale.ROOT);
+        return type.isEmpty() ? null : type;
+    }
+}
@@ -0,0 +1,67 @@
+package com.finger.burp.engine;
+
+/**
+ * 带截止时间的 CharSequence。正则匹配通过 charAt 读取字符，每读取一定次数检查一次时间与线程中断状态，
+ * 超时后抛出 {@link RegexTimeoutException}，从而打断发生灾难性回溯的正则。
+ */
+public final class DeadlineCharSequence implements CharSequence {
+    // 每隔多少次 charAt 检查一次时间，避免频繁调用 nanoTime
+    private static final int CHECK_INTERVAL = 1024;
+
+    private final CharSequence inner;
+    private final Deadline deadline;
+
+    public DeadlineCharSequence(CharSequence inner, long timeoutNanos) {
+        this(inner, new Deadline(System.nanoTime() + timeoutNanos));
+    }
+
+    private DeadlineCharSequence(CharSequence inner, Deadline deadline) {
+        this.inner = inner;
+        this.deadline = deadline;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (++deadline.reads >= CHECK_INTERVAL) {
+            deadline.reads = 0;
+            deadline.check();
+        }
+        return inner.charAt(index);
+    }
+
+    @Override
+    public int length() {
+        return inner.length();
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return new DeadlineCharSequence(inner.subSequence(start, end), deadline);
+    }
+
+    @Override
+    public String toString() {
+        return inner.toString();
+    }
+
+    /**
+     * 同一次匹配内所有子序列共享的计时状态，仅由匹配线程访问。
+     */
+    private static final class Deadline {
+        final long deadlineNanos;
+        int reads;
+
+        Deadline(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        void check() {
+            if (System.nanoTime() - deadlineNanos > 0) {
+                throw new RegexTimeoutException("Regex evaluation exceeded its time budget");
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                throw new RegexTimeoutException("Regex evaluation interrupted");
+            }
+        }
+    }
+}
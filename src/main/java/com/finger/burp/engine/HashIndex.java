@@ -0,0 +1,83 @@
+package com.finger.burp.engine;
+
+import com.finger.burp.utils.HashUtils;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * hash 规则索引：MurmurHash3 整数值 / MD5 十六进制串 -> 规则列表。
+ * 每个响应体只计算一次哈希，再通过一次查表得到所有命中的 hash 规则。
+ */
+public final class HashIndex {
+    private final Map<Integer, List<CompiledRule>> murmurIndex;
+    private final Map<String, List<CompiledRule>> md5Index;
+    private final int ruleCount;
+
+    private HashIndex(Map<Integer, List<CompiledRule>> murmurIndex, Map<String, List<CompiledRule>> md5Index, int ruleCount) {
+        this.murmurIndex = murmurIndex;
+        this.md5Index = md5Index;
+        this.ruleCount = ruleCount;
+    }
+
+    static HashIndex build(List<CompiledRule> rules) {
+        Map<Integer, List<CompiledRule>> murmur = new HashMap<>();
+        Map<String, List<CompiledRule>> md5 = new HashMap<>();
+        int count = 0;
+        for (CompiledRule rule : rules) {
+            if (rule.getLocation() != CompiledRule.Location.HASH) continue;
+            String hash = rule.getRule().getHash();
+            if (hash == null || hash.isEmpty()) continue;
+            count++;
+
+            // 与原逻辑保持一致：murmur 按字符串精确比较，MD5 忽略大小写
+            Integer murmurValue = parseMurmur(hash);
+            if (murmurValue != null) {
+                murmur.computeIfAbsent(murmurValue, k -> new ArrayList<>()).add(rule);
+            }
+            md5.computeIfAbsent(hash.toLowerCase(Locale.ROOT), k -> new ArrayList<>()).add(rule);
+        }
+        return new HashIndex(Collections.unmodifiableMap(murmur), Collections.unmodifiableMap(md5), count);
+    }
+
+    private static Integer parseMurmur(String hash) {
+        try {
+            int value = Integer.parseInt(hash);
+            return String.valueOf(value).equals(hash) ? value : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public boolean isEmpty() {
+        return ruleCount == 0;
+    }
+
+    public int getRuleCount() {
+        return ruleCount;
+    }
+
+    /**
+     * 计算响应体的 MurmurHash3 与 MD5 各一次，返回命中规则的 id 集合。
+     */
+    public BitSet lookup(byte[] body) {
+        BitSet hits = new BitSet();
+        if (isEmpty() || body == null || body.length == 0) return hits;
+
+        mark(hits, murmurIndex.get(HashUtils.faviconHash(body)));
+        mark(hits, md5Index.get(HashUtils.calculateMD5(body)));
+        return hits;
+    }
+
+    private static void mark(BitSet hits, List<CompiledRule> rules) {
+        if (rules == null) return;
+        for (CompiledRule rule : rules) {
+            hits.set(rule.getId());
+        }
+    }
+}
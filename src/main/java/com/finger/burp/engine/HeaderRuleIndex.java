@@ -0,0 +1,52 @@
+package com.finger.burp.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * header 规则索引：按小写字段名分桶，未指定字段的规则单独一组。
+ * 匹配时只需遍历消息中实际出现的字段名，字段不存在的规则无需评估。
+ */
+public final class HeaderRuleIndex {
+    private final Map<String, List<CompiledRule>> rulesByField;
+    private final List<CompiledRule> anyHeaderRules;
+
+    private HeaderRuleIndex(Map<String, List<CompiledRule>> rulesByField, List<CompiledRule> anyHeaderRules) {
+        this.rulesByField = rulesByField;
+        this.anyHeaderRules = anyHeaderRules;
+    }
+
+    static HeaderRuleIndex build(List<CompiledRule> rules) {
+        Map<String, List<CompiledRule>> byField = new HashMap<>();
+        List<CompiledRule> any = new ArrayList<>();
+        for (CompiledRule rule : rules) {
+            if (rule.getLocation() != CompiledRule.Location.HEADER || rule.getPatterns().isEmpty()) continue;
+            if (rule.getField() != null) {
+                byField.computeIfAbsent(rule.getField().toLowerCase(Locale.ROOT), k -> new ArrayList<>()).add(rule);
+            } else {
+                any.add(rule);
+            }
+        }
+        return new HeaderRuleIndex(Collections.unmodifiableMap(byField), Collections.unmodifiableList(any));
+    }
+
+    /**
+     * @param lowerCaseField 已转为小写的字段名
+     */
+    public List<CompiledRule> rulesForField(String lowerCaseField) {
+        List<CompiledRule> rules = rulesByField.get(lowerCaseField);
+        return rules != null ? rules : Collections.emptyList();
+    }
+
+    public List<CompiledRule> getAnyHeaderRules() {
+        return anyHeaderRules;
+    }
+
+    public int getFieldCount() {
+        return rulesByField.size();
+    }
+}
@@ -0,0 +1,189 @@
+package com.finger.burp.engine;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * 基于 Aho-Corasick 自动机的多关键字预过滤器。
+ * 规则集中所有 body/header 关键字（以及从正则中提取的必含子串）构建为一个自动机，
+ * 对消息文本只扫描一遍，得到出现过的关键字集合；未出现必含关键字的规则无需再执行正则。
+ * 关键字与文本都只对 US-ASCII 字母做大小写折叠，与 CASE_INSENSITIVE 的语义一致。
+ */
+public final class LiteralPrefilter {
+    private final List<String> literals;
+    // char -> 字母表下标，0 表示不出现在任何关键字中的字符
+    private final char[] charClass;
+    private final int alphabetSize;
+    // 完整的 DFA 转移表：state * alphabetSize + class
+    private final int[] delta;
+    // 每个状态（含失败链）能输出的关键字 id
+    private final int[][] outputs;
+
+    private LiteralPrefilter(List<String> literals, char[] charClass, int alphabetSize, int[] delta, int[][] outputs) {
+        this.literals = literals;
+        this.charClass = charClass;
+        this.alphabetSize = alphabetSize;
+        this.delta = delta;
+        this.outputs = outputs;
+    }
+
+    /**
+     * @param literals 已折叠大小写的关键字，下标即关键字 id
+     */
+    static LiteralPrefilter build(List<String> literals) {
+        char[] charClass = new char[Character.MAX_VALUE + 1];
+        int alphabetSize = 1;
+        for (String literal : literals) {
+            for (int i = 0; i < literal.length(); i++) {
+                char c = literal.charAt(i);
+                if (charClass[c] == 0) {
+                    charClass[c] = (char) alphabetSize++;
+                }
+            }
+        }
+
+        // 1. 构建 Trie
+        List<int[]> gotoTable = new ArrayList<>();
+        List<List<Integer>> nodeOutputs = new ArrayList<>();
+        gotoTable.add(newRow(alphabetSize));
+        nodeOutputs.add(new ArrayList<>());
+        for (int id = 0; id < literals.size(); id++) {
+            String literal = literals.get(id);
+            int state = 0;
+            for (int i = 0; i < literal.length(); i++) {
+                int cls = charClass[literal.charAt(i)];
+                int next = gotoTable.get(state)[cls];
+                if (next < 0) {
+                    next = gotoTable.size();
+                    gotoTable.get(state)[cls] = next;
+                    gotoTable.add(newRow(alphabetSize));
+                    nodeOutputs.add(new ArrayList<>());
+                }
+                state = next;
+            }
+            nodeOutputs.get(state).add(id);
+        }
+
+        // 2. BFS 计算失败链，同时把 goto 表补全为 DFA
+        int stateCount = gotoTable.size();
+        int[] delta = new int[stateCount * alphabetSize];
+        int[] fail = new int[stateCount];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int cls = 0; cls < alphabetSize; cls++) {
+            int next = gotoTable.get(0)[cls];
+            if (next < 0) {
+                delta[cls] = 0;
+            } else {
+                delta[cls] = next;
+                fail[next] = 0;
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            nodeOutputs.get(state).addAll(nodeOutputs.get(fail[state]));
+            for (int cls = 0; cls < alphabetSize; cls++) {
+                int next = gotoTable.get(state)[cls];
+                if (next < 0) {
+                    delta[state * alphabetSize + cls] = delta[fail[state] * alphabetSize + cls];
+                } else {
+                    delta[state * alphabetSize + cls] = next;
+                    fail[next] = delta[fail[state] * alphabetSize + cls];
+                    queue.add(next);
+                }
+            }
+        }
+
+        int[][] outputs = new int[stateCount][];
+        for (int state = 0; state < stateCount; state++) {
+            List<Integer> out = nodeOutputs.get(state);
+            if (!out.isEmpty()) {
+                outputs[state] = out.stream().distinct().mapToInt(Integer::intValue).toArray();
+            }
+        }
+        return new LiteralPrefilter(new ArrayList<>(literals), charClass, alphabetSize, delta, outputs);
+    }
+
+    private static int[] newRow(int size) {
+        int[] row = new int[size];
+        Arrays.fill(row, -1);
+        return row;
+    }
+
+    /**
+     * 单次扫描文本，返回出现过的关键字 id 集合。
+     */
+    public BitSet scan(CharSequence text) {
+        BitSet found = new BitSet(literals.size());
+        if (text == null || literals.isEmpty()) return found;
+
+        int state = 0;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            char c = text.charAt(i);
+            if (c >= 'A' && c <= 'Z') c += 32;
+            state = delta[state * alphabetSize + charClass[c]];
+            int[] out = outputs[state];
+            if (out != null) {
+                for (int id : out) {
+                    found.set(id);
+                }
+            }
+        }
+        return found;
+    }
+
+    public int size() {
+        return literals.size();
+    }
+
+    public List<String> getLiterals() {
+        return literals;
+    }
+
+    /**
+     * 对 US-ASCII 字母做小写折叠，非 ASCII 字符保持不变。
+     */
+    static String foldCase(String s) {
+        StringBuilder sb = null;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                if (sb == null) {
+                    sb = new StringBuilder(s);
+                }
+                sb.setCharAt(i, (char) (c + 32));
+            }
+        }
+        return sb == null ? s : sb.toString();
+    }
+
+    /**
+     * 关键字表：收集编译期出现的所有关键字并分配 id。
+     */
+    static final class Dictionary {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> literals = new ArrayList<>();
+
+        int idOf(String literal) {
+            if (literal == null || literal.isEmpty()) return -1;
+            String folded = foldCase(literal);
+            Integer id = ids.get(folded);
+            if (id == null) {
+                id = literals.size();
+                ids.put(folded, id);
+                literals.add(folded);
+            }
+            return id;
+        }
+
+        LiteralPrefilter build() {
+            return LiteralPrefilter.build(literals);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.finger.burp.engine;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 按内容缓存匹配结果：同一静态资源经常出现在多个 URL 下（版本号参数、CDN 路径、镜像站点），内容相同时直接复用结果。
+ * <p>
+ * 键由消息方向、消息体摘要与长度、媒体类型、状态码，以及决定规则结果的其余输入组成：
+ * 当前路径下生效的带 path 规则、header 规则命中集合、规则集版本与隔离区版本。
+ * 消息体摘要只覆盖规则实际读取的字节（见 MatchingEngine 的扫描窗口与 hash 上限），
+ * 因此缓存结果与重新匹配完全一致；规则集或隔离区变化后旧条目不会再命中，并被整体清空。
+ * 缓存的是未按已确认指纹过滤的完整结果，各主机取出后再各自过滤。
+ */
+public final class MatchResultCache {
+    // 估算内存占用：每个条目的固定开销与每条结果的开销（字节）
+    private static final int ENTRY_OVERHEAD = 200;
+    private static final int RESULT_OVERHEAD = 32;
+
+    private volatile Cache<Key, List<MatchResult>> cache;
+    private volatile int maxEntries;
+    private volatile Object generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    MatchResultCache(int maxEntries) {
+        resize(maxEntries);
+    }
+
+    /**
+     * 调整容量，<= 0 表示关闭缓存。容量变化时丢弃现有条目。
+     */
+    synchronized void resize(int maxEntries) {
+        if (cache != null && maxEntries == this.maxEntries) return;
+        this.maxEntries = maxEntries;
+        this.cache = maxEntries > 0 ? CacheBuilder.newBuilder().maximumSize(maxEntries).build() : null;
+    }
+
+    boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * @param bodyDigest 规则可见的消息体字节的摘要
+     */
+    Key keyFor(CompiledRuleSet ruleSet, long quarantineVersion, MessageView view, long bodyDigest, BitSet pathRules,
+               BitSet headerHits) {
+        return new Key(ruleSet, quarantineVersion, bodyDigest, view.isRequest(), view.getBodyLength(), view.getStatusCode(),
+                view.getMediaType(), pathRules, headerHits);
+    }
+
+    List<MatchResult> get(Key key) {
+        Cache<Key, List<MatchResult>> current = cache;
+        if (current == null) return null;
+        // 规则集或隔离区变化后，旧条目全部作废
+        Object keyGeneration = key.generation();
+        if (!keyGeneration.equals(generation)) {
+            generation = keyGeneration;
+            current.invalidateAll();
+        }
+        List<MatchResult> results = current.getIfPresent(key);
+        if (results != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return results;
+    }
+
+    void put(Key key, List<MatchResult> results) {
+        Cache<Key, List<MatchResult>> current = cache;
+        if (current != null) {
+            current.put(key, List.copyOf(results));
+        }
+    }
+
+    public void clear() {
+        Cache<Key, List<MatchResult>> current = cache;
+        if (current != null) current.invalidateAll();
+    }
+
+    public long size() {
+        Cache<Key, List<MatchResult>> current = cache;
+        return current != null ? current.size() : 0;
+    }
+
+    public long getHits() { return hits.sum(); }
+    public long getMisses() { return misses.sum(); }
+
+    public double getHitRatio() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    /**
+     * 估算的内存占用（字节），结果中的指纹与规则对象为共享引用，不计入。
+     */
+    public long getEstimatedBytes() {
+        Cache<Key, List<MatchResult>> current = cache;
+        if (current == null) return 0;
+        long bytes = 0;
+        for (List<MatchResult> results : current.asMap().values()) {
+            bytes += ENTRY_OVERHEAD + (long) results.size() * RESULT_OVERHEAD;
+        }
+        return bytes;
+    }
+
+    public void resetStats() {
+        hits.reset();
+        misses.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("entries=%d, hits=%d, misses=%d, hitRatio=%.1f%%, memory~%dKB",
+                size(), getHits(), getMisses(), getHitRatio() * 100, getEstimatedBytes() / 1024);
+    }
+
+    static final class Key {
+        private final CompiledRuleSet ruleSet;
+        private final long quarantineVersion;
+        private final long bodyHash;
+        private final boolean request;
+        private final int bodyLength;
+        private final int statusCode;
+        private final String mediaType;
+        private final BitSet pathRules;
+        private final BitSet headerHits;
+        private final int hash;
+
+        Key(CompiledRuleSet ruleSet, long quarantineVersion, long bodyHash, boolean request, int bodyLength,
+            int statusCode, String mediaType, BitSet pathRules, BitSet headerHits) {
+            this.ruleSet = ruleSet;
+            this.quarantineVersion = quarantineVersion;
+            this.bodyHash = bodyHash;
+            this.request = request;
+            this.bodyLength = bodyLength;
+            this.statusCode = statusCode;
+            this.mediaType = mediaType;
+            this.pathRules = pathRules;
+            this.headerHits = headerHits;
+            this.hash = Objects.hash(System.identityHashCode(ruleSet), quarantineVersion, bodyHash, request, bodyLength,
+                    statusCode, mediaType, pathRules, headerHits);
+        }
+
+        Object generation() {
+            return new Generation(ruleSet, quarantineVersion);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return ruleSet == other.ruleSet
+                    && quarantineVersion == other.quarantineVersion
+                    && bodyHash == other.bodyHash
+                    && request == other.request
+                    && bodyLength == other.bodyLength
+                    && statusCode == other.statusCode
+                    && Objects.equals(mediaType, other.mediaType)
+                    && pathRules.equals(other.pathRules)
+                    && headerHits.equals(other.headerHits);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Generation {
+        private final CompiledRuleSet ruleSet;
+        private final long quarantineVersion;
+
+        Generation(CompiledRuleSet ruleSet, long quarantineVersion) {
+            this.ruleSet = ruleSet;
+            this.quarantineVersion = quarantineVersion;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Generation)) return false;
+            Generation other = (Generation) o;
+            return ruleSet == other.ruleSet && quarantineVersion == other.quarantineVersion;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(ruleSet) * 31 + Long.hashCode(quarantineVersion);
+        }
+    }
+}
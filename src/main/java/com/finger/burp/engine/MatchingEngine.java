@@ -3,88 +3,330 @@ package com.finger.burp.engine;
 import burp.api.montoya.MontoyaApi;
 import burp.api.montoya.http.message.requests.HttpRequest;
 import burp.api.montoya.http.message.responses.HttpResponse;
-import burp.api.montoya.http.message.HttpHeader;
-import com.finger.burp.model.Fingerprint;
-import com.finger.burp.model.Rule;
-import com.finger.burp.utils.HashUtils;
+import com.finger.burp.model.ScannerConfig;
+import com.finger.burp.rules.RuleLoader;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.hash.Hashing;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 public class MatchingEngine {
+    // 大响应并行匹配的分片数
+    private static final int PARALLELISM = Math.max(2, Runtime.getRuntime().availableProcessors());
+
     private final MontoyaApi api;
-    private final List<Fingerprint> fingerprints;
+    private final RuleLoader ruleLoader;
+    private final ScanWindowStats windowStats = new ScanWindowStats();
+    private final RuleQuarantine quarantine = new RuleQuarantine();
+    private final RuleProfiler profiler = new RuleProfiler();
+    private final MatchResultCache resultCache = new MatchResultCache(0);
+    private final ConfirmedFingerprints confirmed = new ConfirmedFingerprints();
+    // 并行匹配使用的独立线程池，首次遇到大响应时才创建
+    private final Supplier<ForkJoinPool> shardPool = Suppliers.memoize(() -> new ForkJoinPool(PARALLELISM));
+    private volatile boolean shardPoolUsed;
+
+    // 响应体扫描窗口与 hash 大小上限，<= 0 表示不限制
+    private volatile int bodyScanHeadBytes;
+    private volatile int bodyScanTailBytes;
+    private volatile int hashMaxBodyBytes;
+    // true 时评估指纹的全部规则，否则任一规则命中即跳过该指纹的其余规则
+    private volatile boolean collectAllEvidence;
+    // 单条规则正则匹配的时间预算，<= 0 表示不限制
+    private volatile long regexTimeoutNanos;
+    // 是否使用多模式自动机匹配 body 正则
+    private volatile boolean useAutomaton;
+    // 是否记录每条规则的评估次数与耗时
+    private volatile boolean ruleProfiling;
+    // 响应体达到该字节数时并行评估规则分片，<= 0 表示始终串行
+    private volatile int parallelBodyBytes;
+    // 跳过已在该主机上确认的指纹；关闭时每条消息都评估全部指纹以继续收集证据
+    private volatile boolean skipConfirmedFingerprints;
+
+    public MatchingEngine(MontoyaApi api, RuleLoader ruleLoader) {
+        this(api, ruleLoader, new ScannerConfig());
+    }
 
-    public MatchingEngine(MontoyaApi api, List<Fingerprint> fingerprints) {
+    public MatchingEngine(MontoyaApi api, RuleLoader ruleLoader, ScannerConfig config) {
         this.api = api;
-        this.fingerprints = fingerprints;
+        this.ruleLoader = ruleLoader;
+        updateConfig(config);
+    }
+
+    public void updateConfig(ScannerConfig config) {
+        this.bodyScanHeadBytes = config.getBodyScanHeadBytes();
+        this.bodyScanTailBytes = config.getBodyScanTailBytes();
+        this.hashMaxBodyBytes = config.getHashMaxBodyBytes();
+        this.collectAllEvidence = config.isCollectAllEvidence();
+        this.regexTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(config.getRegexTimeoutMillis());
+        this.useAutomaton = config.getRegexBackend() == ScannerConfig.RegexBackend.AUTOMATON;
+        this.ruleProfiling = config.isRuleProfiling();
+        this.parallelBodyBytes = config.getParallelBodyBytes();
+        this.skipConfirmedFingerprints = config.isSkipConfirmedFingerprints();
+        resultCache.resize(config.getMatchCacheEntries());
+        // 扫描窗口、证据收集等设置都会影响结果
+        resultCache.clear();
+    }
+
+    public ScanWindowStats getWindowStats() {
+        return windowStats;
+    }
+
+    public RuleQuarantine getQuarantine() {
+        return quarantine;
+    }
+
+    public RuleProfiler getProfiler() {
+        return profiler;
+    }
+
+    public MatchResultCache getResultCache() {
+        return resultCache;
+    }
+
+    public ConfirmedFingerprints getConfirmedFingerprints() {
+        return confirmed;
+    }
+
+    public void shutdown() {
+        if (shardPoolUsed) {
+            shardPool.get().shutdownNow();
+        }
     }
 
     /**
-     * 在响应中寻找匹配的指纹。
+     * 在响应中寻找匹配的指纹。规则来自 RuleLoader 当前发布的已编译规则集，匹配时不做任何正则编译。
      */
     public List<MatchResult> findMatches(HttpResponse response, String currentPath) {
-        List<MatchResult> matches = new ArrayList<>();
-        if (response == null) return matches;
+        return findMatches(response, currentPath, null);
+    }
 
-        for (Fingerprint fp : fingerprints) {
-            if (fp.getRules() == null) continue;
-            for (Rule rule : fp.getRules()) {
-                if (matchRule(rule, response.headers(), response.bodyToString(), response.body().getBytes(), response.statusCode(), currentPath)) {
-                    matches.add(new MatchResult(fp, rule));
-                }
-            }
-        }
-        return matches;
+    /**
+     * @param url 消息 URL，用于记录慢规则的触发位置
+     */
+    public List<MatchResult> findMatches(HttpResponse response, String currentPath, String url) {
+        if (response == null) return new ArrayList<>();
+        return findMatches(MessageView.of(response, currentPath, url));
     }
 
     /**
      * 在请求中寻找匹配的指纹。
      */
     public List<MatchResult> findMatches(HttpRequest request, String currentPath) {
+        return findMatches(request, currentPath, null);
+    }
+
+    public List<MatchResult> findMatches(HttpRequest request, String currentPath, String url) {
+        if (request == null) return new ArrayList<>();
+        return findMatches(MessageView.of(request, currentPath, url));
+    }
+
+    /**
+     * 对已构建好的消息视图执行匹配。所有规则共享同一个视图，响应体只解码、只哈希、只扫描一次。
+     * 默认每个指纹最多返回一条命中规则（按开销从低到高评估）；开启收集全部证据后按定义顺序返回所有命中规则。
+     * 响应体超过并行阈值时，规则集按指纹切分为多个分片并行评估，结果仍按指纹顺序返回。
+     * 内容相同的消息直接复用缓存的结果，见 {@link MatchResultCache}。
+     */
+    public List<MatchResult> findMatches(MessageView view) {
+        Long bodyDigest = resultCache.isEnabled() ? bodyDigest(view) : null;
+        Evaluation eval = new Evaluation(ruleLoader.getCompiledRuleSet(), view, this, bodyDigest != null);
+        windowStats.recordMessage();
+        if (bodyDigest == null) {
+            return match(eval);
+        }
+
+        // header 规则的命中决定结果但不在消息体摘要中，计入键；未命中缓存时 match 直接复用
+        MatchResultCache.Key key = resultCache.keyFor(eval.ruleSet, quarantine.getVersion(), view, bodyDigest,
+                eval.pathRules, eval.headerHits.get());
+        List<MatchResult> matches = resultCache.get(key);
+        if (matches == null) {
+            // 主机已有确认的指纹时跳过这些指纹，结果不完整，不写入缓存
+            if (!eval.cached) return match(eval);
+            // 缓存完整结果，已确认指纹在取出时按主机过滤，其他主机也能复用
+            matches = match(eval);
+            resultCache.put(key, matches);
+        }
+        return eval.confirmed != null ? filterConfirmed(eval, matches) : new ArrayList<>(matches);
+    }
+
+    /**
+     * 规则可见的消息体字节的摘要，只读取这些字节：
+     * 未截取窗口时为整个消息体；截取窗口且超过 hash 上限时只有头尾两段（头部至少覆盖内容分类读取的字节）加长度；
+     * 截取窗口但仍计算 hash 时为整个消息体，长度不超过 hash 上限。
+     *
+     * @return 截取窗口且 hash 不限大小时摘要需要读取任意大的消息体，返回 null 表示不使用缓存
+     */
+    private Long bodyDigest(MessageView view) {
+        int length = view.getBodyLength();
+        int head = bodyScanHeadBytes;
+        int tail = Math.max(bodyScanTailBytes, 0);
+        int hashLimit = hashMaxBodyBytes;
+        boolean windowed = head > 0 && length > head + tail;
+        boolean hashed = hashLimit <= 0 || length <= hashLimit;
+        if (!windowed || (hashed && hashLimit > 0)) {
+            return Hashing.farmHashFingerprint64().hashBytes(view.getBodyBytes()).asLong();
+        }
+        if (hashed) return null;
+        return Hashing.farmHashFingerprint64().newHasher()
+                .putBytes(view.getBodyBytes(0, Math.min(length, Math.max(head, ContentClass.SNIFF_LENGTH))))
+                .putBytes(view.getBodyBytes(length - tail, length))
+                .putInt(length)
+                .hash().asLong();
+    }
+
+    /**
+     * 去掉缓存结果中已在该主机上确认的指纹，并把其余指纹记为已确认。
+     */
+    private List<MatchResult> filterConfirmed(Evaluation eval, List<MatchResult> cached) {
+        List<MatchResult> matches = new ArrayList<>(cached.size());
+        int skipped = 0;
+        for (MatchResult match : cached) {
+            int id = eval.ruleSet.getFingerprintId(match.getFingerprint());
+            if (id >= 0 && ConfirmedFingerprints.contains(eval.confirmed, id)) {
+                skipped++;
+            } else {
+                matches.add(match);
+            }
+        }
+        for (MatchResult match : matches) {
+            int id = eval.ruleSet.getFingerprintId(match.getFingerprint());
+            if (id >= 0) ConfirmedFingerprints.add(eval.confirmed, id);
+        }
+        confirmed.recordSkipped(skipped);
+        return matches;
+    }
+
+    private List<MatchResult> match(Evaluation eval) {
+        MessageView view = eval.view;
+        List<CompiledFingerprint> fingerprints = eval.ruleSet.getCompiledFingerprints(view.isRequest());
+        int threshold = parallelBodyBytes;
+        int shards = Math.min(PARALLELISM, fingerprints.size());
+        if (threshold <= 0 || shards < 2 || view.getBodyLength() < threshold) {
+            List<MatchResult> matches = new ArrayList<>();
+            evaluate(eval, fingerprints, matches);
+            return matches;
+        }
+
+        windowStats.recordParallel();
+        ForkJoinPool pool = shardPool.get();
+        shardPoolUsed = true;
+        int shardSize = (fingerprints.size() + shards - 1) / shards;
+        List<ForkJoinTask<List<MatchResult>>> tasks = new ArrayList<>();
+        for (int from = shardSize; from < fingerprints.size(); from += shardSize) {
+            List<CompiledFingerprint> shard = fingerprints.subList(from, Math.min(from + shardSize, fingerprints.size()));
+            tasks.add(pool.submit(() -> {
+                List<MatchResult> shardMatches = new ArrayList<>();
+                evaluate(eval, shard, shardMatches);
+                return shardMatches;
+            }));
+        }
+        // 第一个分片由当前线程执行，其余分片按顺序合并，保证结果顺序与串行一致
         List<MatchResult> matches = new ArrayList<>();
-        if (request == null) return matches;
-
-        for (Fingerprint fp : fingerprints) {
-            if (fp.getRules() == null) continue;
-            for (Rule rule : fp.getRules()) {
-                // 请求没有状态码，传 0
-                if (matchRule(rule, request.headers(), request.bodyToString(), request.body().getBytes(), 0, currentPath)) {
-                    matches.add(new MatchResult(fp, rule));
+        evaluate(eval, fingerprints.subList(0, shardSize), matches);
+        for (ForkJoinTask<List<MatchResult>> task : tasks) {
+            matches.addAll(task.join());
+        }
+        return matches;
+    }
+
+    private void evaluate(Evaluation eval, List<CompiledFingerprint> fingerprints, List<MatchResult> matches) {
+        boolean collectAll = collectAllEvidence;
+        RuleProfiler.Counters counters = ruleProfiling ? profiler.countersFor(eval.ruleSet) : null;
+        // 相邻两次计时共用一次 nanoTime，每条规则只需读取一次时钟
+        long last = counters != null ? System.nanoTime() : 0;
+        // 结果会进入缓存时（主机尚无确认的指纹）不跳过，由 findMatches 在返回前过滤
+        AtomicLongArray confirmedBits = eval.cached ? null : eval.confirmed;
+        int skipped = 0;
+        for (CompiledFingerprint fp : fingerprints) {
+            if (confirmedBits != null && ConfirmedFingerprints.contains(confirmedBits, fp.getId())) {
+                skipped++;
+                continue;
+            }
+            boolean fpMatched = false;
+            for (CompiledRule rule : collectAll ? fp.getRules() : fp.getEvaluationOrder()) {
+                boolean matched = matchRule(rule, eval);
+                if (counters != null) {
+                    long now = System.nanoTime();
+                    counters.record(rule.getId(), now - last, matched);
+                    last = now;
+                }
+                if (matched) {
+                    fpMatched = true;
+                    matches.add(new MatchResult(fp.getFingerprint(), rule.getRule()));
+                    if (eval.windowed && rule.getLocation() == CompiledRule.Location.BODY) {
+                        windowStats.recordWindowedMatch();
+                    }
+                    // 指纹规则为 OR 逻辑，命中一条即可
+                    if (!collectAll) break;
                 }
             }
+            if (fpMatched && confirmedBits != null) {
+                ConfirmedFingerprints.add(confirmedBits, fp.getId());
+            }
         }
-        return matches;
+        if (skipped > 0) confirmed.recordSkipped(skipped);
     }
 
-    private boolean matchRule(Rule rule, List<HttpHeader> headers, String bodyText, byte[] bodyBytes, int statusCode, String currentPath) {
+    /**
+     * 按窗口截取响应体：超过 head + tail 时只保留前 head 与后 tail 个字符，中间以换行分隔。
+     */
+    private String windowBody(String bodyText, Evaluation eval) {
+        int head = bodyScanHeadBytes;
+        int tail = Math.max(bodyScanTailBytes, 0);
+        if (bodyText == null || head <= 0 || bodyText.length() <= head + tail) {
+            return bodyText;
+        }
+        eval.windowed = true;
+        windowStats.recordWindowed(bodyText.length() - head - tail);
+        return bodyText.substring(0, head) + "\n" + bodyText.substring(bodyText.length() - tail);
+    }
+
+    private BitSet lookupHash(Evaluation eval) {
+        int limit = hashMaxBodyBytes;
+        if (limit > 0 && eval.view.getBodyLength() > limit) {
+            windowStats.recordHashSkipped();
+            return new BitSet();
+        }
+        return eval.ruleSet.getHashIndex().lookup(eval.view.getBodyBytes());
+    }
+
+    private boolean matchRule(CompiledRule rule, Evaluation eval) {
+        MessageView view = eval.view;
+
         // 1. 路径校验逻辑
         // 如果规则定义了 path，则只有在当前请求路径与之匹配时才允许命中（用于区分主动/被动规则）
-        if (rule.getPath() != null && !rule.getPath().isEmpty()) {
-            if (currentPath == null || !isPathMatch(currentPath, rule.getPath())) {
-                return false;
-            }
+        if (rule.getPath() != null && !eval.pathRules.get(rule.getId())) {
+            return false;
         }
 
         // 2. 如果规则指定了状态码，首先检查状态码是否匹配
+        int statusCode = view.getStatusCode();
         if (rule.getStatus() != null && statusCode != 0 && statusCode != rule.getStatus()) {
             return false;
         }
 
-        String location = rule.getLocation();
-        if (location == null) {
-            // 如果没有指定 location 但指定了 status，且上面已经匹配通过，则返回 true
-            return rule.getStatus() != null;
+        // 3. 按内容类型过滤：图片不跑 body 规则，文本不算 hash
+        if (!rule.appliesTo(view)) {
+            return false;
         }
 
-        switch (location.toLowerCase()) {
-            case "header":
-                return matchHeader(rule, headers);
-            case "body":
-                return matchBody(rule, bodyText);
-            case "hash":
-                return matchHash(rule, bodyBytes);
-            case "status":
+        switch (rule.getLocation()) {
+            case NONE:
+                // 如果没有指定 location 但指定了 status，且上面已经匹配通过，则返回 true
+                return rule.getStatus() != null;
+            case HEADER:
+                return matchHeader(rule, eval);
+            case BODY:
+                return matchBody(rule, eval);
+            case HASH:
+                return matchHash(rule, eval);
+            case STATUS:
                 // 已经在开头检查过了，如果能走到这里说明状态码匹配或规则未设置状态码
                 // 对于 location 为 status 的规则，必须设置了 status 字段才算有效匹配
                 return rule.getStatus() != null;
@@ -93,78 +335,69 @@ public class MatchingEngine {
         }
     }
 
-    private boolean isPathMatch(String currentPath, String rulePath) {
-        if (currentPath == null || rulePath == null) return false;
-
-        // 规范化处理：去掉查询参数（如果存在）
-        String p1 = currentPath.contains("?") ? currentPath.substring(0, currentPath.indexOf("?")) : currentPath;
-        String p2 = rulePath.contains("?") ? rulePath.substring(0, rulePath.indexOf("?")) : rulePath;
-
-        // 确保以 / 开头
-        if (!p1.startsWith("/")) p1 = "/" + p1;
-        if (!p2.startsWith("/")) p2 = "/" + p2;
-
-        // 去掉末尾的 /
-        if (p1.length() > 1 && p1.endsWith("/")) p1 = p1.substring(0, p1.length() - 1);
-        if (p2.length() > 1 && p2.endsWith("/")) p2 = p2.substring(0, p2.length() - 1);
+    private boolean matchHash(CompiledRule rule, Evaluation eval) {
+        String expectedHash = rule.getRule().getHash();
+        if (expectedHash == null || expectedHash.isEmpty()) return false;
+        return eval.hashHits.get().get(rule.getId());
+    }
 
-        return p1.equalsIgnoreCase(p2);
+    private boolean matchHeader(CompiledRule rule, Evaluation eval) {
+        return eval.headerHits.get().get(rule.getId());
     }
 
-    private boolean matchHash(Rule rule, byte[] bodyBytes) {
-        String expectedHash = rule.getHash();
-        if (expectedHash == null || expectedHash.isEmpty()) return false;
-        if (bodyBytes == null || bodyBytes.length == 0) return false;
+    /**
+     * 按字段名索引评估全部 header 规则：只遍历消息中实际出现的字段，
+     * 每条规则只与它能作用的 header 值比较。
+     */
+    private BitSet evaluateHeaderRules(Evaluation eval) {
+        BitSet hits = new BitSet();
+        MessageView view = eval.view;
+        if (view.getHeaders().isEmpty()) return hits;
 
-        String actualHash = HashUtils.calculateFaviconHash(bodyBytes);
-        if (expectedHash.equals(actualHash)) return true;
+        HeaderRuleIndex index = eval.ruleSet.getHeaderIndex(view.isRequest());
+        for (String name : view.getHeaderNames()) {
+            List<CompiledRule> rules = index.rulesForField(name);
+            if (rules.isEmpty()) continue;
+            List<String> values = view.getHeaderValues(name);
+            for (CompiledRule rule : rules) {
+                if (matchAllPatterns(rule, values, eval)) hits.set(rule.getId());
+            }
+        }
 
-        String actualMD5 = HashUtils.calculateMD5(bodyBytes);
-        return expectedHash.equalsIgnoreCase(actualMD5);
+        List<CompiledRule> anyRules = index.getAnyHeaderRules();
+        if (!anyRules.isEmpty()) {
+            List<String> lines = new ArrayList<>(view.getHeaders().size());
+            for (MessageView.Header header : view.getHeaders()) {
+                lines.add(header.getLine());
+            }
+            for (CompiledRule rule : anyRules) {
+                if (matchAllPatterns(rule, lines, eval)) hits.set(rule.getId());
+            }
+        }
+        return hits;
     }
 
-    private boolean matchHeader(Rule rule, List<HttpHeader> headers) {
-        String field = rule.getField();
-        List<String> matches = rule.getMatch();
-        
-        if (matches == null || matches.isEmpty()) return false;
+    /**
+     * 每个关键字（AND 逻辑）都必须在任意一个候选文本中出现。
+     */
+    private boolean matchAllPatterns(CompiledRule rule, List<String> candidates, Evaluation eval) {
+        List<RulePattern> patterns = rule.getPatterns();
+        if (rule.hasRegex() && quarantine.contains(rule.getRule())) return false;
+
+        // 任一必含关键字未在 header 中出现，则不可能命中
+        for (int i = 0; i < patterns.size(); i++) {
+            int literalId = rule.getLiteralId(i);
+            if (literalId >= 0 && !eval.headerLiterals.get().get(literalId)) return false;
+        }
 
-        for (String matchPattern : matches) {
+        for (RulePattern pattern : patterns) {
             boolean found = false;
-            try {
-                java.util.regex.Pattern pattern = java.util.regex.Pattern.compile(matchPattern, java.util.regex.Pattern.CASE_INSENSITIVE | java.util.regex.Pattern.DOTALL);
-                
-                for (HttpHeader header : headers) {
-                    if (field != null && !field.isEmpty()) {
-                        if (header.name().equalsIgnoreCase(field)) {
-                            if (pattern.matcher(header.value()).find()) {
-                                found = true;
-                                break;
-                            }
-                        }
-                    } else {
-                        if (pattern.matcher(header.toString()).find()) {
-                            found = true;
-                            break;
-                        }
-                    }
-                }
-            } catch (Exception e) {
-                // 如果正则解析失败，退回到普通的 contains 匹配
-                for (HttpHeader header : headers) {
-                    if (field != null && !field.isEmpty()) {
-                        if (header.name().equalsIgnoreCase(field)) {
-                            if (header.value().contains(matchPattern)) {
-                                found = true;
-                                break;
-                            }
-                        }
-                    } else {
-                        if (header.toString().contains(matchPattern)) {
-                            found = true;
-                            break;
-                        }
-                    }
+            for (String candidate : candidates) {
+                Boolean result = find(pattern, candidate, rule, eval);
+                if (result == null) return false;
+                if (result) {
+                    found = true;
+                    break;
                 }
             }
             if (!found) return false;
@@ -172,24 +405,97 @@ public class MatchingEngine {
         return true;
     }
 
-    private boolean matchBody(Rule rule, String bodyText) {
-        List<String> matches = rule.getMatch();
-        if (matches == null || matches.isEmpty()) return false;
-        if (bodyText == null) return false;
+    private boolean matchBody(CompiledRule rule, Evaluation eval) {
+        List<RulePattern> patterns = rule.getPatterns();
+        if (patterns.isEmpty()) return false;
+        if (rule.hasRegex() && quarantine.contains(rule.getRule())) return false;
 
-        for (String matchPattern : matches) {
-            try {
-                java.util.regex.Pattern pattern = java.util.regex.Pattern.compile(matchPattern, java.util.regex.Pattern.CASE_INSENSITIVE | java.util.regex.Pattern.DOTALL);
-                if (!pattern.matcher(bodyText).find()) {
-                    return false;
-                }
-            } catch (Exception e) {
-                // 如果正则解析失败，退回到普通的 contains 匹配
-                if (!bodyText.contains(matchPattern)) {
-                    return false;
+        // 先用预过滤结果排除，再对剩余候选执行完整匹配
+        for (int i = 0; i < patterns.size(); i++) {
+            int literalId = rule.getLiteralId(i);
+            if (literalId >= 0 && !eval.bodyLiterals.get().get(literalId)) return false;
+        }
+        String bodyText = eval.bodyText.get();
+        if (bodyText == null) return false;
+        for (int i = 0; i < patterns.size(); i++) {
+            RulePattern pattern = patterns.get(i);
+            // 纯文本关键字的预过滤结果即为精确结果
+            if (pattern.getKind() == RulePattern.Kind.LITERAL && rule.getLiteralId(i) >= 0) continue;
+            int automatonId = rule.getAutomatonId(i);
+            if (eval.useAutomaton && automatonId >= 0) {
+                BitSet automatonHits = eval.automatonHits.get();
+                // 文本含代理字符时自动机放弃扫描，退回 JDK
+                if (automatonHits != null) {
+                    if (!automatonHits.get(automatonId)) return false;
+                    continue;
                 }
             }
+            if (!Boolean.TRUE.equals(find(pattern, bodyText, rule, eval))) {
+                return false;
+            }
         }
         return true;
     }
+
+    /**
+     * 在时间预算内执行单个关键字匹配。正则超时后将规则隔离并返回 null，调用方应视为整条规则未命中。
+     */
+    private Boolean find(RulePattern pattern, String text, CompiledRule rule, Evaluation eval) {
+        long timeout = regexTimeoutNanos;
+        if (pattern.getKind() != RulePattern.Kind.REGEX || timeout <= 0) {
+            return pattern.find(text);
+        }
+        long start = System.nanoTime();
+        try {
+            return pattern.find(new DeadlineCharSequence(text, timeout));
+        } catch (RegexTimeoutException e) {
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            String url = eval.view.getUrl();
+            if (quarantine.quarantine(rule.getFingerprint(), rule.getRule(), pattern.getSource(), elapsedMillis, url)) {
+                api.logging().logToError("[!] Rule quarantined after " + elapsedMillis + " ms: "
+                        + rule.getFingerprint().getName() + " " + pattern.getSource() + (url != null ? " at " + url : ""));
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 单次匹配过程中与规则集相关的缓存：哈希查表、关键字预过滤与 header 规则结果，均在首次使用时计算一次。
+     */
+    private static final class Evaluation {
+        final CompiledRuleSet ruleSet;
+        final MessageView view;
+        final Supplier<String> bodyText;
+        final Supplier<BitSet> hashHits;
+        final Supplier<BitSet> bodyLiterals;
+        final Supplier<BitSet> headerLiterals;
+        final Supplier<BitSet> headerHits;
+        final boolean useAutomaton;
+        final Supplier<BitSet> automatonHits;
+        // 当前路径下允许命中的带 path 规则，每条消息查表一次
+        final BitSet pathRules;
+        // 响应体是否超出扫描窗口被截断
+        volatile boolean windowed;
+        // 当前主机已确认的指纹位图，未启用或主机未知时为 null
+        final AtomicLongArray confirmed;
+        // 结果是否写入缓存：只有主机还没有确认的指纹时才评估完整结果并缓存，否则跳过已确认指纹且不缓存
+        final boolean cached;
+
+        Evaluation(CompiledRuleSet ruleSet, MessageView view, MatchingEngine engine, boolean cacheable) {
+            this.ruleSet = ruleSet;
+            this.view = view;
+            this.bodyText = Suppliers.memoize(() -> engine.windowBody(view.getBodyText(), this));
+            this.hashHits = Suppliers.memoize(() -> engine.lookupHash(this));
+            this.bodyLiterals = Suppliers.memoize(() -> ruleSet.getLiteralPrefilter().scan(bodyText.get()));
+            this.headerLiterals = Suppliers.memoize(() -> ruleSet.getLiteralPrefilter().scan(view.getHeaderText()));
+            this.headerHits = Suppliers.memoize(() -> engine.evaluateHeaderRules(this));
+            this.pathRules = ruleSet.getPathIndex().rulesForPath(view.getNormalizedPath());
+            this.useAutomaton = engine.useAutomaton;
+            String host = view.getHost();
+            this.confirmed = engine.skipConfirmedFingerprints && host != null
+                    ? engine.confirmed.forHost(ruleSet, host) : null;
+            this.cached = cacheable && (confirmed == null || ConfirmedFingerprints.isEmpty(confirmed));
+            this.automatonHits = Suppliers.memoize(() -> ruleSet.getBodyAutomaton().scan(bodyText.get()));
+        }
+    }
 }
@@ -0,0 +1,229 @@
+package com.finger.burp.engine;
+
+import burp.api.montoya.core.ByteArray;
+import burp.api.montoya.http.message.HttpHeader;
+import burp.api.montoya.http.message.requests.HttpRequest;
+import burp.api.montoya.http.message.responses.HttpResponse;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 单个请求/响应的只读视图，每条消息构建一次。
+ * 响应体文本、原始字节、小写 header 映射等都是懒加载并缓存的，所有规则共享同一份，
+ * 单条消息的内存分配不随规则数量增长。
+ */
+public final class MessageView {
+    private final List<Header> headers;
+    private final int statusCode;
+    private final String path;
+    private final String url;
+    private final String normalizedPath;
+    private final boolean request;
+    private final Supplier<Integer> bodyLength;
+    private final Supplier<byte[]> bodyBytes;
+    private final BodyRange bodyRange;
+    private final Supplier<byte[]> bodyHead;
+    private final Supplier<String> bodyText;
+    private final Supplier<Map<String, List<String>>> headerMap;
+    private final Supplier<String> headerText;
+    private final Supplier<ContentClass> contentClass;
+
+    private MessageView(boolean request, List<Header> headers, int statusCode, String path, String url,
+                        Supplier<Integer> bodyLength, Supplier<byte[]> bodyBytes, BodyRange bodyRange,
+                        Supplier<byte[]> bodyHead, Supplier<String> bodyText) {
+        this.request = request;
+        this.headers = Collections.unmodifiableList(headers);
+        this.statusCode = statusCode;
+        this.path = path;
+        this.url = url;
+        this.normalizedPath = normalizePath(path);
+        this.bodyLength = Suppliers.memoize(bodyLength);
+        this.bodyBytes = Suppliers.memoize(bodyBytes);
+        this.bodyRange = bodyRange;
+        this.bodyHead = Suppliers.memoize(bodyHead);
+        this.bodyText = Suppliers.memoize(bodyText);
+        this.headerMap = Suppliers.memoize(this::buildHeaderMap);
+        this.headerText = Suppliers.memoize(this::buildHeaderText);
+        this.contentClass = Suppliers.memoize(() -> ContentClass.classify(getMediaType(), this.bodyHead.get()));
+    }
+
+    public static MessageView of(HttpResponse response, String currentPath) {
+        return of(response, currentPath, null);
+    }
+
+    /**
+     * @param url 消息所属的 URL，仅用于诊断信息（如慢规则隔离记录），可为 null
+     */
+    public static MessageView of(HttpResponse response, String currentPath, String url) {
+        return new MessageView(false, convert(response.headers()), response.statusCode(), currentPath, url,
+                () -> response.body().length(), () -> response.body().getBytes(),
+                (from, to) -> range(response.body(), from, to), () -> head(response.body()), response::bodyToString);
+    }
+
+    /**
+     * 请求没有状态码，statusCode 记为 0。
+     */
+    public static MessageView of(HttpRequest request, String currentPath) {
+        return of(request, currentPath, null);
+    }
+
+    public static MessageView of(HttpRequest request, String currentPath, String url) {
+        return new MessageView(true, convert(request.headers()), 0, currentPath, url,
+                () -> request.body().length(), () -> request.body().getBytes(),
+                (from, to) -> range(request.body(), from, to), () -> head(request.body()), request::bodyToString);
+    }
+
+    /**
+     * 由原始报文字段构造，不依赖 Burp 的消息对象，供离线回放与基准测试使用。
+     * body 与 Burp 的 bodyToString 一样逐字节解码（ISO-8859-1）。
+     *
+     * @param statusCode 请求记为 0
+     */
+    public static MessageView of(boolean request, List<Header> headers, int statusCode, byte[] body,
+                                 String currentPath, String url) {
+        byte[] bytes = body != null ? body : new byte[0];
+        return new MessageView(request, new ArrayList<>(headers), statusCode, currentPath, url,
+                () -> bytes.length, () -> bytes, (from, to) -> Arrays.copyOfRange(bytes, from, to),
+                () -> Arrays.copyOf(bytes, Math.min(bytes.length, ContentClass.SNIFF_LENGTH)),
+                () -> new String(bytes, StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * 只复制内容分类所需的开头几个字节。
+     */
+    private static byte[] head(ByteArray body) {
+        return range(body, 0, Math.min(body.length(), ContentClass.SNIFF_LENGTH));
+    }
+
+    private static byte[] range(ByteArray body, int from, int to) {
+        return from >= to ? new byte[0] : body.subArray(from, to).getBytes();
+    }
+
+    /**
+     * 按下标读取消息体的一段，不复制整个消息体。
+     */
+    @FunctionalInterface
+    private interface BodyRange {
+        byte[] get(int from, int to);
+    }
+
+    private static List<Header> convert(List<HttpHeader> httpHeaders) {
+        List<Header> result = new ArrayList<>(httpHeaders.size());
+        for (HttpHeader header : httpHeaders) {
+            result.add(new Header(header.name(), header.value(), header.toString()));
+        }
+        return result;
+    }
+
+    /**
+     * 路径规范化：去掉查询参数，确保以 / 开头，去掉末尾的 /。
+     */
+    public static String normalizePath(String path) {
+        if (path == null) return null;
+        String p = path.contains("?") ? path.substring(0, path.indexOf("?")) : path;
+        if (!p.startsWith("/")) p = "/" + p;
+        if (p.length() > 1 && p.endsWith("/")) p = p.substring(0, p.length() - 1);
+        return p;
+    }
+
+    private Map<String, List<String>> buildHeaderMap() {
+        Map<String, List<String>> map = new HashMap<>();
+        for (Header header : headers) {
+            map.computeIfAbsent(header.getName().toLowerCase(Locale.ROOT), k -> new ArrayList<>()).add(header.getValue());
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * 预过滤用的 header 文本：包含每个 header 的完整行与值，保证任一 header 中出现的关键字都能在其中找到。
+     */
+    private String buildHeaderText() {
+        StringBuilder sb = new StringBuilder();
+        for (Header header : headers) {
+            sb.append(header.getLine()).append('\n').append(header.getValue()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /** 是否为请求；请求只评估适用于请求方向的规则 */
+    public boolean isRequest() { return request; }
+    public List<Header> getHeaders() { return headers; }
+    public int getStatusCode() { return statusCode; }
+    public String getPath() { return path; }
+    public String getUrl() { return url; }
+
+    /**
+     * URL 中的 scheme://host[:port] 部分（小写），URL 未知时为 null。
+     */
+    public String getHost() {
+        if (url == null) return null;
+        int start = url.indexOf("://");
+        if (start < 0) return null;
+        int end = start + 3;
+        while (end < url.length() && "/?#".indexOf(url.charAt(end)) < 0) end++;
+        return url.substring(0, end).toLowerCase(Locale.ROOT);
+    }
+
+    public String getNormalizedPath() { return normalizedPath; }
+    /** 响应体字节数，不需要复制响应体 */
+    public int getBodyLength() { return bodyLength.get(); }
+    public byte[] getBodyBytes() { return bodyBytes.get(); }
+
+    /**
+     * 消息体中 [from, to) 的字节，只复制这一段。
+     */
+    public byte[] getBodyBytes(int from, int to) { return bodyRange.get(from, to); }
+    public String getBodyText() { return bodyText.get(); }
+    public String getHeaderText() { return headerText.get(); }
+    public ContentClass getContentClass() { return contentClass.get(); }
+
+    /**
+     * Content-Type 中的媒体类型（小写、不含参数），未声明时为 null。
+     */
+    public String getMediaType() {
+        List<String> values = getHeaderValues("content-type");
+        return values.isEmpty() ? null : ContentClass.mediaTypeOf(values.get(0));
+    }
+
+    /**
+     * 消息中出现的所有字段名（小写，去重）。
+     */
+    public Set<String> getHeaderNames() {
+        return headerMap.get().keySet();
+    }
+
+    /**
+     * 按字段名（忽略大小写）获取所有 header 值。
+     */
+    public List<String> getHeaderValues(String name) {
+        List<String> values = headerMap.get().get(name.toLowerCase(Locale.ROOT));
+        return values != null ? values : Collections.emptyList();
+    }
+
+    public static final class Header {
+        private final String name;
+        private final String value;
+        private final String line;
+
+        public Header(String name, String value, String line) {
+            this.name = name;
+            this.value = value;
+            this.line = line;
+        }
+
+        public String getName() { return name; }
+        public String getValue() { return value; }
+        /** 完整的 header 行，等价于 HttpHeader.toString() */
+        public String getLine() { return line; }
+    }
+}
@@ -0,0 +1,46 @@
+package com.finger.burp.engine;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 带 path 的规则索引：按规范化路径（忽略大小写）分组，记录每个路径允许命中的规则 id。
+ * 键在构建时统一转为小写，每条消息只需转换一次路径并做一次哈希查表，即可得到当前路径下可参与匹配的全部带 path 规则。
+ */
+public final class PathRuleIndex {
+    private static final BitSet NONE = new BitSet();
+
+    // 键为小写的规范化路径
+    private final Map<String, BitSet> rulesByPath;
+
+    private PathRuleIndex(Map<String, BitSet> rulesByPath) {
+        this.rulesByPath = rulesByPath;
+    }
+
+    static PathRuleIndex build(Iterable<CompiledRule> rules) {
+        Map<String, BitSet> byPath = new HashMap<>();
+        for (CompiledRule rule : rules) {
+            if (rule.getNormalizedPath() == null) continue;
+            byPath.computeIfAbsent(rule.getNormalizedPath().toLowerCase(Locale.ROOT), k -> new BitSet()).set(rule.getId());
+        }
+        return new PathRuleIndex(Collections.unmodifiableMap(byPath));
+    }
+
+    /**
+     * 返回该路径下的带 path 规则 id 集合。返回值为共享对象，调用方不得修改。
+     *
+     * @param normalizedPath 已规范化的当前路径，可为 null
+     */
+    public BitSet rulesForPath(String normalizedPath) {
+        if (normalizedPath == null) return NONE;
+        BitSet ids = rulesByPath.get(normalizedPath.toLowerCase(Locale.ROOT));
+        return ids != null ? ids : NONE;
+    }
+
+    public int getPathCount() {
+        return rulesByPath.size();
+    }
+}
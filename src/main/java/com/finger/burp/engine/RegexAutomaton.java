@@ -0,0 +1,740 @@
+package com.finger.burp.engine;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 多模式正则自动机：把多个正则合并成一个 NFA，匹配时按需构造 DFA 状态（lazy DFA），
+ * 对文本做一次线性扫描即可得到所有命中的正则，耗时与回溯无关，也不随正则数量线性增长。
+ * <p>
+ * 只支持正则的一个子集：字面字符、转义、字符类、{@code .}、分组、{@code |} 与贪婪/懒惰量词。
+ * 锚点、反向引用、环视、内联标志等无法用 DFA 表达或语义复杂的特性一律不支持，由调用方退回 JDK。
+ * 支持的正则与 {@link RulePattern#FLAGS}（CASE_INSENSITIVE | DOTALL，仅 ASCII 忽略大小写）下
+ * {@code Matcher.find()} 的结果一致。
+ */
+public final class RegexAutomaton {
+    // 单个正则展开量词后允许的最大 NFA 状态数
+    private static final int MAX_PATTERN_STATES = 4096;
+    // 每个 DFA 缓存的状态上限，超过后清空重建
+    private static final int MAX_DFA_STATES = 2048;
+    private static final int CHAR_COUNT = 0x10000;
+
+    private static final int SET = 0;
+    private static final int SPLIT = 1;
+    private static final int MATCH = 2;
+
+    private final int patternCount;
+    private final char[] classOf;
+    private final int classCount;
+    // 代理对所在的字符类：JDK 按码点匹配，遇到时放弃扫描
+    private final boolean[] surrogateClass;
+
+    private final int[] kinds;
+    private final int[] out1;
+    private final int[] out2;
+    private final BitSet[] classSets;
+    private final int[] matchIds;
+    private final int start;
+
+    // DFA 状态缓存不是线程安全的，每次扫描从池中借用一个，池的大小约等于并发扫描的线程数
+    private final Queue<Dfa> dfaPool = new ConcurrentLinkedQueue<>();
+
+    private RegexAutomaton(int patternCount, char[] classOf, int classCount, boolean[] surrogateClass,
+                           Nfa nfa, int start) {
+        this.patternCount = patternCount;
+        this.classOf = classOf;
+        this.classCount = classCount;
+        this.surrogateClass = surrogateClass;
+        this.kinds = nfa.kinds.stream().mapToInt(Integer::intValue).toArray();
+        this.out1 = nfa.out1.stream().mapToInt(Integer::intValue).toArray();
+        this.out2 = nfa.out2.stream().mapToInt(Integer::intValue).toArray();
+        this.classSets = nfa.classSets.toArray(new BitSet[0]);
+        this.matchIds = nfa.matchIds.stream().mapToInt(Integer::intValue).toArray();
+        this.start = start;
+    }
+
+    public int size() {
+        return patternCount;
+    }
+
+    /**
+     * 扫描文本，返回命中的正则 id 集合。文本中出现 UTF-16 代理字符时返回 null，调用方应改用 JDK 匹配。
+     */
+    public BitSet scan(CharSequence text) {
+        BitSet hits = new BitSet();
+        if (text == null || patternCount == 0) return hits;
+
+        Dfa d = dfaPool.poll();
+        if (d == null) d = new Dfa();
+        try {
+            int state = d.start;
+            int found = d.collect(state, hits, 0);
+            int length = text.length();
+            for (int i = 0; i < length && found < patternCount; i++) {
+                int cls = classOf[text.charAt(i)];
+                if (surrogateClass[cls]) return null;
+                int next = d.transitions.get(state)[cls];
+                if (next < 0) next = d.next(state, cls);
+                state = next;
+                if (d.accepts.get(state).length > 0) {
+                    found = d.collect(state, hits, found);
+                }
+            }
+            return hits;
+        } finally {
+            dfaPool.offer(d);
+        }
+    }
+
+    /**
+     * DFA 状态缓存，同一时刻只被一个线程使用。每个 DFA 状态对应一组 NFA 状态（已做 ε 闭包，且总是包含起始状态的闭包，
+     * 即在任意位置都可以开始一次新的匹配）。
+     */
+    private final class Dfa {
+        final List<int[]> nfaStates = new ArrayList<>();
+        final List<int[]> transitions = new ArrayList<>();
+        final List<int[]> accepts = new ArrayList<>();
+        final Map<Key, Integer> index = new HashMap<>();
+        final int[] marks = new int[kinds.length];
+        int generation;
+        int[] startClosure;
+        int start;
+
+        Dfa() {
+            reset();
+        }
+
+        void reset() {
+            nfaStates.clear();
+            transitions.clear();
+            accepts.clear();
+            index.clear();
+            startClosure = closure(new int[]{RegexAutomaton.this.start}, 1);
+            start = add(startClosure);
+        }
+
+        int collect(int state, BitSet hits, int found) {
+            for (int id : accepts.get(state)) {
+                if (!hits.get(id)) {
+                    hits.set(id);
+                    found++;
+                }
+            }
+            return found;
+        }
+
+        int next(int state, int cls) {
+            int[] current = nfaStates.get(state);
+            int[] targets = new int[current.length + startClosure.length];
+            int count = 0;
+            for (int s : current) {
+                if (kinds[s] == SET && classSets[s].get(cls)) targets[count++] = out1[s];
+            }
+            for (int s : startClosure) targets[count++] = s;
+            int[] set = closure(targets, count);
+
+            Integer existing = index.get(new Key(set));
+            if (existing != null) {
+                transitions.get(state)[cls] = existing;
+                return existing;
+            }
+            if (nfaStates.size() >= MAX_DFA_STATES) {
+                // 缓存已满，清空后从当前状态继续，旧状态 id 全部失效
+                reset();
+                return add(set);
+            }
+            int id = add(set);
+            transitions.get(state)[cls] = id;
+            return id;
+        }
+
+        private int add(int[] set) {
+            Key key = new Key(set);
+            Integer existing = index.get(key);
+            if (existing != null) return existing;
+            int id = nfaStates.size();
+            nfaStates.add(set);
+            int[] row = new int[classCount];
+            Arrays.fill(row, -1);
+            transitions.add(row);
+            int acceptCount = 0;
+            for (int s : set) {
+                if (kinds[s] == MATCH) acceptCount++;
+            }
+            int[] accept = new int[acceptCount];
+            acceptCount = 0;
+            for (int s : set) {
+                if (kinds[s] == MATCH) accept[acceptCount++] = matchIds[s];
+            }
+            accepts.add(accept);
+            index.put(key, id);
+            return id;
+        }
+
+        /**
+         * ε 闭包，只保留 SET 与 MATCH 状态，结果按状态号排序。
+         */
+        private int[] closure(int[] seeds, int count) {
+            if (++generation == Integer.MAX_VALUE) {
+                Arrays.fill(marks, 0);
+                generation = 1;
+            }
+            int[] result = new int[16];
+            int size = 0;
+            Deque<Integer> stack = new ArrayDeque<>();
+            for (int i = 0; i < count; i++) stack.push(seeds[i]);
+            while (!stack.isEmpty()) {
+                int s = stack.pop();
+                if (marks[s] == generation) continue;
+                marks[s] = generation;
+                if (kinds[s] == SPLIT) {
+                    if (out1[s] >= 0) stack.push(out1[s]);
+                    if (out2[s] >= 0) stack.push(out2[s]);
+                } else {
+                    if (size == result.length) result = Arrays.copyOf(result, size * 2);
+                    result[size++] = s;
+                }
+            }
+            int[] set = Arrays.copyOf(result, size);
+            Arrays.sort(set);
+            return set;
+        }
+    }
+
+    private static final class Key {
+        final int[] states;
+        final int hash;
+
+        Key(int[] states) {
+            this.states = states;
+            this.hash = Arrays.hashCode(states);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && Arrays.equals(states, ((Key) o).states);
+        }
+    }
+
+    /**
+     * 收集正则并分配 id。相同的正则只保留一份；不支持的正则返回 -1。
+     */
+    public static final class Builder {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<Node> patterns = new ArrayList<>();
+
+        /** 已收录的（受支持的）正则数量 */
+        public int size() {
+            return patterns.size();
+        }
+
+        public int idOf(String regex) {
+            if (regex == null) return -1;
+            Integer existing = ids.get(regex);
+            if (existing != null) return existing;
+            int id;
+            try {
+                Node node = new Parser(regex).parse();
+                if (node.stateCount() > MAX_PATTERN_STATES) throw new UnsupportedRegexException();
+                patterns.add(node);
+                id = patterns.size() - 1;
+            } catch (UnsupportedRegexException e) {
+                id = -1;
+            }
+            ids.put(regex, id);
+            return id;
+        }
+
+        public RegexAutomaton build() {
+            // 按所有字符集的边界把字符空间切分为等价类
+            List<BitSet> charSets = new ArrayList<>();
+            for (Node node : patterns) node.collectSets(charSets);
+            TreeSet<Integer> bounds = new TreeSet<>(Arrays.asList(0, 0xD800, 0xE000, CHAR_COUNT));
+            for (BitSet set : charSets) {
+                for (int i = set.nextSetBit(0); i >= 0 && i < CHAR_COUNT; i = set.nextSetBit(i)) {
+                    bounds.add(i);
+                    i = set.nextClearBit(i);
+                    bounds.add(i);
+                }
+            }
+            Integer[] points = bounds.toArray(new Integer[0]);
+            int classCount = points.length - 1;
+            char[] classOf = new char[CHAR_COUNT];
+            boolean[] surrogate = new boolean[classCount];
+            int[] classStart = new int[classCount];
+            for (int k = 0; k < classCount; k++) {
+                classStart[k] = points[k];
+                Arrays.fill(classOf, points[k], points[k + 1], (char) k);
+                surrogate[k] = points[k] >= 0xD800 && points[k] < 0xE000;
+            }
+
+            Nfa nfa = new Nfa(classStart);
+            int start = -1;
+            for (int id = patterns.size() - 1; id >= 0; id--) {
+                int entry = patterns.get(id).compile(nfa, nfa.match(id));
+                start = start < 0 ? entry : nfa.split(entry, start);
+            }
+            if (start < 0) start = nfa.split(-1, -1);
+            return new RegexAutomaton(patterns.size(), classOf, classCount, surrogate, nfa, start);
+        }
+    }
+
+    /**
+     * NFA 构造器，状态从后往前生成（compile 传入后继状态，返回入口状态）。
+     */
+    private static final class Nfa {
+        final int[] classStart;
+        final List<Integer> kinds = new ArrayList<>();
+        final List<Integer> out1 = new ArrayList<>();
+        final List<Integer> out2 = new ArrayList<>();
+        final List<BitSet> classSets = new ArrayList<>();
+        final List<Integer> matchIds = new ArrayList<>();
+        final Map<BitSet, BitSet> classSetCache = new HashMap<>();
+
+        Nfa(int[] classStart) {
+            this.classStart = classStart;
+        }
+
+        int add(int kind, int o1, int o2, BitSet classes, int matchId) {
+            kinds.add(kind);
+            out1.add(o1);
+            out2.add(o2);
+            classSets.add(classes);
+            matchIds.add(matchId);
+            return kinds.size() - 1;
+        }
+
+        int set(BitSet chars, int next) {
+            BitSet classes = classSetCache.computeIfAbsent(chars, c -> {
+                BitSet result = new BitSet(classStart.length);
+                for (int k = 0; k < classStart.length; k++) {
+                    if (c.get(classStart[k])) result.set(k);
+                }
+                return result;
+            });
+            return add(SET, next, -1, classes, -1);
+        }
+
+        int split(int a, int b) {
+            return add(SPLIT, a, b, null, -1);
+        }
+
+        int match(int id) {
+            return add(MATCH, -1, -1, null, id);
+        }
+    }
+
+    private abstract static class Node {
+        abstract int compile(Nfa nfa, int next);
+
+        abstract int stateCount();
+
+        abstract void collectSets(List<BitSet> sets);
+    }
+
+    private static final class CharNode extends Node {
+        final BitSet chars;
+
+        CharNode(BitSet chars) {
+            this.chars = chars;
+        }
+
+        @Override
+        int compile(Nfa nfa, int next) {
+            return nfa.set(chars, next);
+        }
+
+        @Override
+        int stateCount() {
+            return 1;
+        }
+
+        @Override
+        void collectSets(List<BitSet> sets) {
+            sets.add(chars);
+        }
+    }
+
+    private static final class ConcatNode extends Node {
+        final List<Node> children;
+
+        ConcatNode(List<Node> children) {
+            this.children = children;
+        }
+
+        @Override
+        int compile(Nfa nfa, int next) {
+            int entry = next;
+            for (int i = children.size() - 1; i >= 0; i--) {
+                entry = children.get(i).compile(nfa, entry);
+            }
+            return entry;
+        }
+
+        @Override
+        int stateCount() {
+            int count = 0;
+            for (Node child : children) count += child.stateCount();
+            return count;
+        }
+
+        @Override
+        void collectSets(List<BitSet> sets) {
+            for (Node child : children) child.collectSets(sets);
+        }
+    }
+
+    private static final class AltNode extends Node {
+        final List<Node> children;
+
+        AltNode(List<Node> children) {
+            this.children = children;
+        }
+
+        @Override
+        int compile(Nfa nfa, int next) {
+            int entry = children.get(children.size() - 1).compile(nfa, next);
+            for (int i = children.size() - 2; i >= 0; i--) {
+                entry = nfa.split(children.get(i).compile(nfa, next), entry);
+            }
+            return entry;
+        }
+
+        @Override
+        int stateCount() {
+            int count = children.size() - 1;
+            for (Node child : children) count += child.stateCount();
+            return count;
+        }
+
+        @Override
+        void collectSets(List<BitSet> sets) {
+            for (Node child : children) child.collectSets(sets);
+        }
+    }
+
+    private static final class RepeatNode extends Node {
+        final Node child;
+        final int min;
+        // -1 表示无上限
+        final int max;
+
+        RepeatNode(Node child, int min, int max) {
+            this.child = child;
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        int compile(Nfa nfa, int next) {
+            int entry;
+            if (max < 0) {
+                int loop = nfa.split(-1, next);
+                nfa.out1.set(loop, child.compile(nfa, loop));
+                entry = loop;
+            } else {
+                entry = next;
+                for (int i = min; i < max; i++) {
+                    entry = nfa.split(child.compile(nfa, entry), next);
+                }
+            }
+            for (int i = 0; i < min; i++) {
+                entry = child.compile(nfa, entry);
+            }
+            return entry;
+        }
+
+        @Override
+        int stateCount() {
+            long optional = max < 0 ? 1 : max - min;
+            long count = (long) (child.stateCount() + 1) * (min + optional);
+            return (int) Math.min(count, Integer.MAX_VALUE);
+        }
+
+        @Override
+        void collectSets(List<BitSet> sets) {
+            child.collectSets(sets);
+        }
+    }
+
+    private static final class UnsupportedRegexException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedRegexException() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * 递归下降解析器，遇到任何不支持或不确定的语法都抛出 UnsupportedRegexException。
+     */
+    private static final class Parser {
+        private static final int MAX_REPEAT = 1000;
+
+        private final String regex;
+        private int pos;
+
+        Parser(String regex) {
+            this.regex = regex;
+        }
+
+        Node parse() throws UnsupportedRegexException {
+            Node node = parseAlternation();
+            if (pos != regex.length()) throw new UnsupportedRegexException();
+            return node;
+        }
+
+        private Node parseAlternation() throws UnsupportedRegexException {
+            List<Node> branches = new ArrayList<>();
+            branches.add(parseConcat());
+            while (pos < regex.length() && regex.charAt(pos) == '|') {
+                pos++;
+                branches.add(parseConcat());
+            }
+            return branches.size() == 1 ? branches.get(0) : new AltNode(branches);
+        }
+
+        private Node parseConcat() throws UnsupportedRegexException {
+            List<Node> items = new ArrayList<>();
+            while (pos < regex.length() && regex.charAt(pos) != '|' && regex.charAt(pos) != ')') {
+                items.add(parseQuantified(parseAtom()));
+            }
+            return items.size() == 1 ? items.get(0) : new ConcatNode(items);
+        }
+
+        private Node parseQuantified(Node atom) throws UnsupportedRegexException {
+            if (pos >= regex.length()) return atom;
+            int min;
+            int max;
+            char c = regex.charAt(pos);
+            switch (c) {
+                case '*': min = 0; max = -1; pos++; break;
+                case '+': min = 1; max = -1; pos++; break;
+                case '?': min = 0; max = 1; pos++; break;
+                case '{': {
+                    pos++;
+                    min = parseNumber();
+                    max = min;
+                    if (pos < regex.length() && regex.charAt(pos) == ',') {
+                        pos++;
+                        max = pos < regex.length() && regex.charAt(pos) == '}' ? -1 : parseNumber();
+                    }
+                    if (pos >= regex.length() || regex.charAt(pos) != '}') throw new UnsupportedRegexException();
+                    pos++;
+                    if (max >= 0 && max < min) throw new UnsupportedRegexException();
+                    break;
+                }
+                default:
+                    return atom;
+            }
+            // 懒惰量词不影响是否存在匹配；独占量词会改变结果，不支持
+            if (pos < regex.length() && regex.charAt(pos) == '?') {
+                pos++;
+            } else if (pos < regex.length() && regex.charAt(pos) == '+') {
+                throw new UnsupportedRegexException();
+            }
+            if (pos < regex.length() && "*+?{".indexOf(regex.charAt(pos)) >= 0) throw new UnsupportedRegexException();
+            return new RepeatNode(atom, min, max);
+        }
+
+        private int parseNumber() throws UnsupportedRegexException {
+            int begin = pos;
+            while (pos < regex.length() && regex.charAt(pos) >= '0' && regex.charAt(pos) <= '9') pos++;
+            if (pos == begin || pos - begin > 4) throw new UnsupportedRegexException();
+            int value = Integer.parseInt(regex.substring(begin, pos));
+            if (value > MAX_REPEAT) throw new UnsupportedRegexException();
+            return value;
+        }
+
+        private Node parseAtom() throws UnsupportedRegexException {
+            char c = regex.charAt(pos++);
+            switch (c) {
+                case '(': {
+                    // 只支持普通分组与非捕获分组
+                    if (pos < regex.length() && regex.charAt(pos) == '?') {
+                        if (pos + 1 < regex.length() && regex.charAt(pos + 1) == ':') {
+                            pos += 2;
+                        } else {
+                            throw new UnsupportedRegexException();
+                        }
+                    }
+                    Node inner = parseAlternation();
+                    if (pos >= regex.length() || regex.charAt(pos) != ')') throw new UnsupportedRegexException();
+                    pos++;
+                    return inner;
+                }
+                case '[':
+                    return new CharNode(parseClass());
+                case '.': {
+                    BitSet all = new BitSet(CHAR_COUNT);
+                    all.set(0, CHAR_COUNT);
+                    return new CharNode(all);
+                }
+                case '\\': {
+                    BitSet set = parseEscape();
+                    return new CharNode(foldCase(set));
+                }
+                case '^':
+                case '$':
+                case ')':
+                case '*':
+                case '+':
+                case '?':
+                case '{':
+                    throw new UnsupportedRegexException();
+                default:
+                    return new CharNode(foldCase(single(c)));
+            }
+        }
+
+        /**
+         * 解析 [...]，忽略大小写后再取反，与 JDK 的处理顺序一致。
+         */
+        private BitSet parseClass() throws UnsupportedRegexException {
+            boolean negate = false;
+            if (pos < regex.length() && regex.charAt(pos) == '^') {
+                negate = true;
+                pos++;
+            }
+            if (pos < regex.length() && regex.charAt(pos) == ']') throw new UnsupportedRegexException();
+            BitSet set = new BitSet(CHAR_COUNT);
+            boolean first = true;
+            while (true) {
+                if (pos >= regex.length()) throw new UnsupportedRegexException();
+                char c = regex.charAt(pos);
+                if (c == ']') {
+                    pos++;
+                    break;
+                }
+                if (c == '[' || (c == '&' && pos + 1 < regex.length() && regex.charAt(pos + 1) == '&')) {
+                    throw new UnsupportedRegexException();
+                }
+                pos++;
+                BitSet item;
+                if (c == '\\') {
+                    item = parseEscape();
+                } else if (c == '-') {
+                    // 只接受位于开头或结尾的字面 -
+                    if (!first && !(pos < regex.length() && regex.charAt(pos) == ']')) throw new UnsupportedRegexException();
+                    set.set('-');
+                    first = false;
+                    continue;
+                } else {
+                    item = single(c);
+                }
+                first = false;
+
+                // 区间 a-z
+                if (item.cardinality() == 1 && pos + 1 < regex.length()
+                        && regex.charAt(pos) == '-' && regex.charAt(pos + 1) != ']') {
+                    pos++;
+                    char endChar = regex.charAt(pos++);
+                    BitSet end;
+                    if (endChar == '\\') {
+                        end = parseEscape();
+                    } else if (endChar == '[') {
+                        throw new UnsupportedRegexException();
+                    } else {
+                        end = single(endChar);
+                    }
+                    if (end.cardinality() != 1) throw new UnsupportedRegexException();
+                    int lo = item.nextSetBit(0);
+                    int hi = end.nextSetBit(0);
+                    if (lo > hi) throw new UnsupportedRegexException();
+                    set.set(lo, hi + 1);
+                } else {
+                    set.or(item);
+                }
+            }
+            foldCase(set);
+            if (negate) set.flip(0, CHAR_COUNT);
+            return set;
+        }
+
+        /**
+         * 解析反斜杠后的转义，返回对应的字符集合（未做大小写折叠）。
+         */
+        private BitSet parseEscape() throws UnsupportedRegexException {
+            if (pos >= regex.length()) throw new UnsupportedRegexException();
+            char e = regex.charAt(pos++);
+            switch (e) {
+                case 'd': return range('0', '9');
+                case 'D': return complement(range('0', '9'));
+                case 's': return whitespace();
+                case 'S': return complement(whitespace());
+                case 'w': return word();
+                case 'W': return complement(word());
+                case 't': return single('\t');
+                case 'n': return single('\n');
+                case 'r': return single('\r');
+                case 'f': return single('\f');
+                case 'a': return single((char) 0x07);
+                case 'e': return single((char) 0x1B);
+                default:
+                    // 其余字母、数字转义（\b、\x、\p、反向引用等）不支持；非字母数字转义表示字符本身
+                    if (Character.isLetterOrDigit(e) || Character.isSurrogate(e)) throw new UnsupportedRegexException();
+                    return single(e);
+            }
+        }
+
+        private static BitSet single(char c) throws UnsupportedRegexException {
+            if (Character.isSurrogate(c)) throw new UnsupportedRegexException();
+            BitSet set = new BitSet(CHAR_COUNT);
+            set.set(c);
+            return set;
+        }
+
+        private static BitSet range(char from, char to) {
+            BitSet set = new BitSet(CHAR_COUNT);
+            set.set(from, to + 1);
+            return set;
+        }
+
+        private static BitSet whitespace() {
+            BitSet set = new BitSet(CHAR_COUNT);
+            for (char c : new char[]{' ', '\t', '\n', 0x0B, '\f', '\r'}) set.set(c);
+            return set;
+        }
+
+        private static BitSet word() {
+            BitSet set = range('a', 'z');
+            set.or(range('A', 'Z'));
+            set.or(range('0', '9'));
+            set.set('_');
+            return set;
+        }
+
+        private static BitSet complement(BitSet set) {
+            set.flip(0, CHAR_COUNT);
+            return set;
+        }
+
+        /**
+         * 仅对 ASCII 字母做大小写折叠，与未开启 UNICODE_CASE 的 CASE_INSENSITIVE 一致。
+         */
+        private static BitSet foldCase(BitSet set) {
+            for (char c = 'a'; c <= 'z'; c++) {
+                char upper = (char) (c - 'a' + 'A');
+                if (set.get(c) || set.get(upper)) {
+                    set.set(c);
+                    set.set(upper);
+                }
+            }
+            return set;
+        }
+    }
+}
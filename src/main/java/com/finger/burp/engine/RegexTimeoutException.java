@@ -0,0 +1,12 @@
+package com.finger.burp.engine;
+
+/**
+ * 正则匹配超出时间预算或线程被中断。
+ */
+public class RegexTimeoutException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public RegexTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,376 @@
+package com.finger.burp.engine;
+
+import com.finger.burp.model.Fingerprint;
+import com.finger.burp.model.Rule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 规则静态检查：在编译后的规则集上找出可能拖慢代理线程或不起作用的规则，并为每条规则估计开销等级。
+ * 检查只基于规则本身，不执行任何匹配。
+ */
+public final class RuleLinter {
+    /**
+     * 单条规则的开销等级：CHEAP 不扫描 body 或只参与共享的关键字预过滤；MODERATE 需要在预过滤命中后执行正则；
+     * EXPENSIVE 每个 body 都要执行完整正则；DANGEROUS 可能出现指数级回溯。
+     */
+    public enum Cost { CHEAP, MODERATE, EXPENSIVE, DANGEROUS }
+
+    public enum Severity { INFO, WARNING, ERROR }
+
+    public enum Check {
+        /** 被量词修饰的分组内还有量词，如 (a+)+，可能指数级回溯 */
+        NESTED_QUANTIFIER(Severity.ERROR),
+        /** body 正则以未锚定的 .* / .+ 开头，每个起始位置都要扫描到结尾 */
+        LEADING_WILDCARD(Severity.WARNING),
+        /** body 规则提取不出必含关键字，预过滤无法排除，每个 body 都要执行正则 */
+        NO_LITERAL(Severity.WARNING),
+        /** 只有 status、没有 path 的规则，该状态码的每条响应都会命中 */
+        ALWAYS_MATCHES(Severity.WARNING),
+        /** 缺少必要字段或位置无效，永远不会命中 */
+        NEVER_MATCHES(Severity.WARNING),
+        /** 与前面的某条规则完全相同 */
+        DUPLICATE_RULE(Severity.WARNING),
+        /** 同一个 favicon hash 出现在多个指纹中 */
+        DUPLICATE_HASH(Severity.WARNING),
+        /** 同一指纹中另一条规则的关键字是本规则的子集，本规则命中时那条规则必然也命中 */
+        SHADOWED_RULE(Severity.INFO);
+
+        private final Severity severity;
+
+        Check(Severity severity) {
+            this.severity = severity;
+        }
+
+        public Severity getSeverity() { return severity; }
+    }
+
+    public static final class Issue {
+        private final Fingerprint fingerprint;
+        private final Rule rule;
+        private final Check check;
+        private final String detail;
+
+        Issue(Fingerprint fingerprint, Rule rule, Check check, String detail) {
+            this.fingerprint = fingerprint;
+            this.rule = rule;
+            this.check = check;
+            this.detail = detail;
+        }
+
+        public Fingerprint getFingerprint() { return fingerprint; }
+        public Rule getRule() { return rule; }
+        public Check getCheck() { return check; }
+        public Severity getSeverity() { return check.getSeverity(); }
+        public String getDetail() { return detail; }
+
+        @Override
+        public String toString() {
+            return check.getSeverity() + " " + check + " [" + fingerprint.getName() + "] " + detail;
+        }
+    }
+
+    public static final class Report {
+        private final List<Issue> issues;
+        private final Map<Rule, Cost> costs;
+
+        Report(List<Issue> issues, Map<Rule, Cost> costs) {
+            this.issues = Collections.unmodifiableList(issues);
+            this.costs = costs;
+        }
+
+        public List<Issue> getIssues() { return issues; }
+
+        /**
+         * 规则的开销等级，不属于本规则集的规则返回 null。
+         */
+        public Cost costOf(Rule rule) {
+            return costs.get(rule);
+        }
+
+        /**
+         * 只保留涉及给定指纹、且不低于 minimum 的问题，用于检查新导入或编辑的规则。
+         */
+        public List<Issue> issuesFor(Collection<Fingerprint> fingerprints, Severity minimum) {
+            Set<Fingerprint> targets = Collections.newSetFromMap(new IdentityHashMap<>());
+            targets.addAll(fingerprints);
+            List<Issue> result = new ArrayList<>();
+            for (Issue issue : issues) {
+                if (targets.contains(issue.fingerprint) && issue.getSeverity().compareTo(minimum) >= 0) result.add(issue);
+            }
+            return result;
+        }
+
+        public String summary() {
+            Map<Check, Integer> counts = new EnumMap<>(Check.class);
+            for (Issue issue : issues) counts.merge(issue.check, 1, Integer::sum);
+            Map<Cost, Integer> costCounts = new EnumMap<>(Cost.class);
+            for (Cost cost : costs.values()) costCounts.merge(cost, 1, Integer::sum);
+            return "Rule lint: " + issues.size() + " issues " + counts + ", cost " + costCounts;
+        }
+    }
+
+    private RuleLinter() {
+    }
+
+    public static Report lint(CompiledRuleSet ruleSet) {
+        List<Issue> issues = new ArrayList<>();
+        Map<Rule, Cost> costs = new IdentityHashMap<>();
+        Map<List<Object>, CompiledRule> seenRules = new HashMap<>();
+        Map<String, Fingerprint> seenHashes = new HashMap<>();
+
+        for (CompiledRule rule : ruleSet.getRules()) {
+            Fingerprint fp = rule.getFingerprint();
+            costs.put(rule.getRule(), costOf(rule));
+
+            for (RulePattern pattern : rule.getPatterns()) {
+                if (pattern.getKind() != RulePattern.Kind.REGEX) continue;
+                if (hasNestedQuantifier(pattern.getSource())) {
+                    issues.add(new Issue(fp, rule.getRule(), Check.NESTED_QUANTIFIER, pattern.getSource()));
+                }
+                // header 值很短，只有 body 规则需要关心前导通配
+                if (rule.getLocation() == CompiledRule.Location.BODY && hasLeadingWildcard(pattern.getSource())) {
+                    issues.add(new Issue(fp, rule.getRule(), Check.LEADING_WILDCARD, pattern.getSource()));
+                }
+            }
+            if (rule.getLocation() == CompiledRule.Location.BODY && !rule.getPatterns().isEmpty() && !hasLiteral(rule)) {
+                issues.add(new Issue(fp, rule.getRule(), Check.NO_LITERAL, String.valueOf(rule.getRule().getMatch())));
+            }
+
+            String dead = neverMatchesReason(rule);
+            if (dead != null) {
+                issues.add(new Issue(fp, rule.getRule(), Check.NEVER_MATCHES, dead));
+            } else if (alwaysMatches(rule)) {
+                issues.add(new Issue(fp, rule.getRule(), Check.ALWAYS_MATCHES, "status " + rule.getStatus() + " without path"));
+            }
+
+            CompiledRule first = seenRules.putIfAbsent(keyOf(rule), rule);
+            String hash = rule.getLocation() == CompiledRule.Location.HASH ? rule.getRule().getHash() : null;
+            Fingerprint hashOwner = hash != null && !hash.isEmpty() ? seenHashes.putIfAbsent(hash, fp) : null;
+            if (hashOwner != null && hashOwner != fp) {
+                issues.add(new Issue(fp, rule.getRule(), Check.DUPLICATE_HASH, hash + " also in [" + hashOwner.getName() + "]"));
+            } else if (first != null) {
+                issues.add(new Issue(fp, rule.getRule(), Check.DUPLICATE_RULE, "same as rule in [" + first.getFingerprint().getName() + "]"));
+            }
+        }
+
+        for (CompiledFingerprint fp : ruleSet.getCompiledFingerprints()) {
+            findShadowed(fp, issues);
+        }
+        return new Report(issues, costs);
+    }
+
+    /**
+     * 规则的开销等级估计。
+     */
+    public static Cost costOf(CompiledRule rule) {
+        boolean regex = false;
+        for (RulePattern pattern : rule.getPatterns()) {
+            if (pattern.getKind() != RulePattern.Kind.REGEX) continue;
+            if (hasNestedQuantifier(pattern.getSource())) return Cost.DANGEROUS;
+            regex = true;
+        }
+        switch (rule.getLocation()) {
+            case BODY:
+                if (!rule.getPatterns().isEmpty() && !hasLiteral(rule)) return Cost.EXPENSIVE;
+                for (RulePattern pattern : rule.getPatterns()) {
+                    if (pattern.getKind() == RulePattern.Kind.REGEX && hasLeadingWildcard(pattern.getSource())) return Cost.EXPENSIVE;
+                }
+                return regex ? Cost.MODERATE : Cost.CHEAP;
+            case HEADER:
+                return regex ? Cost.MODERATE : Cost.CHEAP;
+            default:
+                return Cost.CHEAP;
+        }
+    }
+
+    /**
+     * 至少一个关键字能参与预过滤即可：关键字之间是 AND，预过滤未命中时整条规则直接跳过。
+     */
+    private static boolean hasLiteral(CompiledRule rule) {
+        for (int i = 0; i < rule.getPatterns().size(); i++) {
+            if (rule.getLiteralId(i) >= 0) return true;
+        }
+        return false;
+    }
+
+    private static String neverMatchesReason(CompiledRule rule) {
+        // 带 path 与 status 的规则由主动探测按状态码判断，不需要 match
+        if (rule.getPath() != null && rule.getStatus() != null) return null;
+        switch (rule.getLocation()) {
+            case UNKNOWN: return "unknown location: " + rule.getRule().getLocation();
+            case BODY: return rule.getPatterns().isEmpty() ? "body rule without match" : null;
+            // 没有关键字的 header 规则不进入 header 索引
+            case HEADER: return rule.getPatterns().isEmpty() ? "header rule without match" : null;
+            case HASH: return rule.getRule().getHash() == null || rule.getRule().getHash().isEmpty() ? "hash rule without hash" : null;
+            case STATUS:
+            case NONE: return rule.getStatus() == null ? "rule without location or status" : null;
+            default: return null;
+        }
+    }
+
+    /**
+     * location 为空或 status 的规则只比较状态码，没有 path 时不区分请求路径。
+     */
+    private static boolean alwaysMatches(CompiledRule rule) {
+        return (rule.getLocation() == CompiledRule.Location.NONE || rule.getLocation() == CompiledRule.Location.STATUS)
+                && rule.getStatus() != null && rule.getPath() == null;
+    }
+
+    /**
+     * 决定规则结果的全部字段，match 按原文比较。
+     */
+    private static List<Object> keyOf(CompiledRule rule) {
+        return List.of(rule.getLocation(), Objects.toString(rule.getField(), ""), Objects.toString(rule.getNormalizedPath(), ""),
+                Objects.toString(rule.getStatus(), ""), Objects.toString(rule.getContentType(), ""), rule.getDirection(),
+                Objects.toString(rule.getRule().getHash(), ""), sourcesOf(rule));
+    }
+
+    private static List<String> sourcesOf(CompiledRule rule) {
+        List<String> sources = new ArrayList<>();
+        for (RulePattern pattern : rule.getPatterns()) sources.add(String.valueOf(pattern.getSource()));
+        return sources;
+    }
+
+    /**
+     * 同一指纹内条件相同的 header/body 规则，若规则 A 的关键字是规则 B 的真子集，则 B 命中时 A 必然命中，B 多余。
+     */
+    private static void findShadowed(CompiledFingerprint fp, List<Issue> issues) {
+        List<CompiledRule> rules = fp.getRules();
+        for (CompiledRule b : rules) {
+            if (b.getLocation() != CompiledRule.Location.HEADER && b.getLocation() != CompiledRule.Location.BODY) continue;
+            Set<String> bSources = new HashSet<>(sourcesOf(b));
+            for (CompiledRule a : rules) {
+                if (a == b || a.getPatterns().isEmpty() || !sameConditions(a, b)) continue;
+                Set<String> aSources = new HashSet<>(sourcesOf(a));
+                if (aSources.size() < bSources.size() && bSources.containsAll(aSources)) {
+                    issues.add(new Issue(fp.getFingerprint(), b.getRule(), Check.SHADOWED_RULE,
+                            b.getRule().getMatch() + " is covered by " + a.getRule().getMatch()));
+                    break;
+                }
+            }
+        }
+    }
+
+    private static boolean sameConditions(CompiledRule a, CompiledRule b) {
+        return a.getLocation() == b.getLocation()
+                && Objects.equals(a.getField(), b.getField())
+                && Objects.equals(a.getNormalizedPath(), b.getNormalizedPath())
+                && Objects.equals(a.getStatus(), b.getStatus())
+                && Objects.equals(a.getContentType(), b.getContentType())
+                && a.getDirection() == b.getDirection();
+    }
+
+    /**
+     * 未锚定且以 .* / .+ 开头（允许外层包一个分组）。
+     */
+    static boolean hasLeadingWildcard(String regex) {
+        String s = regex;
+        while (s.startsWith("(") && !s.startsWith("(?")) s = s.substring(1);
+        if (s.startsWith("(?:")) s = s.substring(3);
+        return s.startsWith(".*") || s.startsWith(".+");
+    }
+
+    /**
+     * 查找被 *、+ 或 {n,} 修饰、且内部已含可重复量词的分组，例如 (a+)+、(\w*\s?)*。
+     * 只做词法分析，转义字符与字符类视为单个原子。
+     */
+    static boolean hasNestedQuantifier(String regex) {
+        // 栈中每一层记录该分组内部是否出现过可重复量词
+        List<Boolean> groups = new ArrayList<>();
+        groups.add(false);
+        int n = regex.length();
+        int i = 0;
+        while (i < n) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i += 2;
+                continue;
+            }
+            if (c == '[') {
+                i = skipClass(regex, i);
+                continue;
+            }
+            if (c == '(') {
+                groups.add(false);
+                i++;
+                continue;
+            }
+            if (c == ')' && groups.size() > 1) {
+                boolean inner = groups.remove(groups.size() - 1);
+                int next = i + 1;
+                int quantifierEnd = repeatingQuantifierEnd(regex, next);
+                if (quantifierEnd > next && inner) return true;
+                int top = groups.size() - 1;
+                groups.set(top, groups.get(top) || inner || quantifierEnd > next);
+                i = Math.max(next, quantifierEnd);
+                continue;
+            }
+            int quantifierEnd = repeatingQuantifierEnd(regex, i);
+            if (quantifierEnd > i) {
+                groups.set(groups.size() - 1, true);
+                i = quantifierEnd;
+                continue;
+            }
+            i++;
+        }
+        return false;
+    }
+
+    /**
+     * 位置 i 处是可变次数的重复量词（*、+、{n,} 或 m &gt; n、m &gt; 1 的 {n,m}）时返回量词结束位置（含懒惰/占有修饰符），否则返回 i。
+     */
+    private static int repeatingQuantifierEnd(String regex, int i) {
+        if (i >= regex.length()) return i;
+        char c = regex.charAt(i);
+        int end;
+        if (c == '*' || c == '+') {
+            end = i + 1;
+        } else if (c == '{') {
+            int close = regex.indexOf('}', i);
+            if (close < 0) return i;
+            String body = regex.substring(i + 1, close);
+            if (!body.matches("\\d+(,\\d*)?")) return i;
+            // 固定次数 {n} 与 {0,1} 不会产生歧义的回溯
+            int comma = body.indexOf(',');
+            if (comma < 0) return i;
+            String max = body.substring(comma + 1);
+            if (!max.isEmpty()) {
+                int upper = Integer.parseInt(max);
+                if (upper <= 1 || upper <= Integer.parseInt(body.substring(0, comma))) return i;
+            }
+            end = close + 1;
+        } else {
+            return i;
+        }
+        if (end < regex.length() && (regex.charAt(end) == '?' || regex.charAt(end) == '+')) end++;
+        return end;
+    }
+
+    private static int skipClass(String regex, int start) {
+        int i = start + 1;
+        if (i < regex.length() && regex.charAt(i) == '^') i++;
+        if (i < regex.length() && regex.charAt(i) == ']') i++;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == ']') {
+                return i + 1;
+            } else {
+                i++;
+            }
+        }
+        return i;
+    }
+}
@@ -0,0 +1,203 @@
+package com.finger.burp.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * 预编译后的单个 match 关键字。
+ * 在规则编译阶段确定匹配方式，匹配时不再进行任何正则编译。
+ */
+public final class RulePattern {
+    public static final int FLAGS = Pattern.CASE_INSENSITIVE | Pattern.DOTALL;
+
+    private static final String REGEX_META = "\\^$.|?*+()[]{}";
+
+    public enum Kind {
+        /** 不含任何正则元字符，使用忽略大小写的子串查找 */
+        LITERAL,
+        /** 普通正则表达式 */
+        REGEX,
+        /** 正则解析失败，退回到区分大小写的 contains 匹配 */
+        CONTAINS
+    }
+
+    private final String source;
+    private final Kind kind;
+    private final Pattern pattern;
+    // 任何一次命中都必然包含的子串，供多关键字预过滤使用；无法提取时为 null
+    private final String requiredLiteral;
+
+    private RulePattern(String source, Kind kind, Pattern pattern) {
+        this.source = source;
+        this.kind = kind;
+        this.pattern = pattern;
+        if (source == null || source.isEmpty()) {
+            this.requiredLiteral = null;
+        } else {
+            this.requiredLiteral = kind == Kind.REGEX ? extractLiteral(source) : source;
+        }
+    }
+
+    public static RulePattern compile(String source) {
+        if (source == null) {
+            return new RulePattern(null, Kind.CONTAINS, null);
+        }
+        if (isLiteral(source)) {
+            return new RulePattern(source, Kind.LITERAL, null);
+        }
+        try {
+            return new RulePattern(source, Kind.REGEX, Pattern.compile(source, FLAGS));
+        } catch (PatternSyntaxException e) {
+            // 如果正则解析失败，退回到普通的 contains 匹配
+            return new RulePattern(source, Kind.CONTAINS, null);
+        }
+    }
+
+    static boolean isLiteral(String source) {
+        for (int i = 0; i < source.length(); i++) {
+            if (REGEX_META.indexOf(source.charAt(i)) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 从正则中提取一个必含的字面子串：只考察顶层（不在分组、字符类中）的连续普通字符，
+     * 被量词修饰的字符不计入。遇到顶层 |、内联标志或带参数的转义时放弃提取。
+     */
+    static String extractLiteral(String regex) {
+        if (regex.contains("(?") || regex.contains("\\Q")) return null;
+
+        List<String> runs = new ArrayList<>();
+        StringBuilder run = new StringBuilder();
+        int i = 0;
+        int n = regex.length();
+        while (i < n) {
+            char c = regex.charAt(i);
+            if (c == '|') {
+                return null;
+            } else if (c == '\\' && i + 1 < n) {
+                char escaped = regex.charAt(i + 1);
+                i += 2;
+                if (Character.isLetterOrDigit(escaped)) {
+                    // 带参数的转义（\x41、\0101、\1、\p{L} 等）不做解析，直接放弃
+                    if (Character.isDigit(escaped) || "xucpPNk".indexOf(escaped) >= 0) return null;
+                    endRun(runs, run);
+                } else {
+                    run.append(escaped);
+                }
+                continue;
+            } else if (c == '[' || c == '(') {
+                endRun(runs, run);
+                i = skipGroup(regex, i);
+                if (i < 0) return null;
+                continue;
+            } else if (c == '?' || c == '*' || c == '+' || c == '{') {
+                // 量词修饰前一个字符，把它从当前连续串中去掉
+                if (run.length() > 0) {
+                    run.setLength(run.length() - 1);
+                }
+                endRun(runs, run);
+                if (c == '{') {
+                    int close = regex.indexOf('}', i);
+                    if (close < 0) return null;
+                    i = close;
+                }
+                i++;
+                // 懒惰/占有量词后缀
+                if (i < n && (regex.charAt(i) == '?' || regex.charAt(i) == '+')) i++;
+                continue;
+            } else if (c == '.' || c == '^' || c == '$') {
+                endRun(runs, run);
+            } else {
+                run.append(c);
+            }
+            i++;
+        }
+        endRun(runs, run);
+
+        String best = null;
+        for (String r : runs) {
+            if (best == null || r.length() > best.length()) best = r;
+        }
+        return best;
+    }
+
+    private static void endRun(List<String> runs, StringBuilder run) {
+        if (run.length() > 0) {
+            runs.add(run.toString());
+            run.setLength(0);
+        }
+    }
+
+    /**
+     * 跳过从 start 开始的分组或字符类（支持嵌套与转义），返回其后的下标；不配对时返回 -1。
+     */
+    private static int skipGroup(String regex, int start) {
+        int depth = 0;
+        int classDepth = 0;
+        for (int i = start; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '[') {
+                classDepth++;
+            } else if (c == ']' && classDepth > 0) {
+                classDepth--;
+                if (classDepth == 0 && depth == 0) return i + 1;
+            } else if (classDepth == 0 && c == '(') {
+                depth++;
+            } else if (classDepth == 0 && c == ')') {
+                depth--;
+                if (depth == 0) return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    public boolean find(CharSequence text) {
+        if (text == null || source == null) return false;
+        switch (kind) {
+            case LITERAL:
+                return indexOfIgnoreAsciiCase(text, source) >= 0;
+            case REGEX:
+                return pattern.matcher(text).find();
+            default:
+                return text.toString().contains(source);
+        }
+    }
+
+    /**
+     * 与 CASE_INSENSITIVE（未开启 UNICODE_CASE）语义一致：仅对 US-ASCII 字母忽略大小写。
+     */
+    static int indexOfIgnoreAsciiCase(CharSequence text, String needle) {
+        int n = needle.length();
+        int max = text.length() - n;
+        if (n == 0) return 0;
+        char first = needle.charAt(0);
+        for (int i = 0; i <= max; i++) {
+            if (!equalsIgnoreAsciiCase(text.charAt(i), first)) continue;
+            int j = 1;
+            while (j < n && equalsIgnoreAsciiCase(text.charAt(i + j), needle.charAt(j))) {
+                j++;
+            }
+            if (j == n) return i;
+        }
+        return -1;
+    }
+
+    static boolean equalsIgnoreAsciiCase(char a, char b) {
+        if (a == b) return true;
+        if (a >= 'A' && a <= 'Z') a += 32;
+        if (b >= 'A' && b <= 'Z') b += 32;
+        return a == b && a >= 'a' && a <= 'z';
+    }
+
+    public String getSource() { return source; }
+    public Kind getKind() { return kind; }
+    public Pattern getPattern() { return pattern; }
+    public String getRequiredLiteral() { return requiredLiteral; }
+}
@@ -0,0 +1,162 @@
+package com.finger.burp.engine;
+
+import com.finger.burp.model.Rule;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 按规则统计匹配开销。每个线程写入自己的计数数组（下标为规则 id），热路径上没有任何同步；
+ * 读取时再把所有线程的计数合并。已结束线程的计数在新线程注册或读取时并入基数后释放，
+ * 工作线程反复重建时内存不会增长。规则集重新编译后，未改动的规则（同一个 Rule 对象）保留原有统计。
+ */
+public final class RuleProfiler {
+    private volatile Profile profile = new Profile(CompiledRuleSet.empty(), null);
+
+    /**
+     * 当前线程在该规则集下的计数器。
+     */
+    Counters countersFor(CompiledRuleSet ruleSet) {
+        Profile current = profile;
+        if (current.ruleSet != ruleSet) current = switchTo(ruleSet);
+        return current.local.get();
+    }
+
+    private synchronized Profile switchTo(CompiledRuleSet ruleSet) {
+        Profile current = profile;
+        if (current.ruleSet == ruleSet) return current;
+        profile = new Profile(ruleSet, current.snapshot());
+        return profile;
+    }
+
+    /**
+     * 该规则集全部规则的统计快照，按规则 id 排序。
+     */
+    public List<RuleStats> getStats(CompiledRuleSet ruleSet) {
+        Profile current = profile;
+        if (current.ruleSet != ruleSet) current = switchTo(ruleSet);
+        return Collections.unmodifiableList(current.snapshot());
+    }
+
+    public synchronized void reset() {
+        profile = new Profile(profile.ruleSet, null);
+    }
+
+    /**
+     * 当前登记了计数数组的线程数（含尚未并入基数的已结束线程）。
+     */
+    int registeredThreads() {
+        return profile.all.size();
+    }
+
+    /**
+     * 单个线程的计数数组，只由所属线程写入。
+     */
+    static final class Counters {
+        // 所属线程，基数为 null
+        final Thread owner;
+        final long[] evaluations;
+        final long[] hits;
+        final long[] totalNanos;
+        final long[] maxNanos;
+
+        Counters(int size, Thread owner) {
+            this.owner = owner;
+            evaluations = new long[size];
+            hits = new long[size];
+            totalNanos = new long[size];
+            maxNanos = new long[size];
+        }
+
+        void record(int ruleId, long nanos, boolean hit) {
+            evaluations[ruleId]++;
+            if (hit) hits[ruleId]++;
+            totalNanos[ruleId] += nanos;
+            if (nanos > maxNanos[ruleId]) maxNanos[ruleId] = nanos;
+        }
+
+        void addAll(Counters other) {
+            for (int i = 0; i < evaluations.length; i++) {
+                evaluations[i] += other.evaluations[i];
+                hits[i] += other.hits[i];
+                totalNanos[i] += other.totalNanos[i];
+                maxNanos[i] = Math.max(maxNanos[i], other.maxNanos[i]);
+            }
+        }
+    }
+
+    private static final class Profile {
+        final CompiledRuleSet ruleSet;
+        // 从上一个规则集继承的统计，作为基数
+        final Counters base;
+        final Queue<Counters> all = new ConcurrentLinkedQueue<>();
+        final ThreadLocal<Counters> local;
+
+        Profile(CompiledRuleSet ruleSet, List<RuleStats> previous) {
+            this.ruleSet = ruleSet;
+            int size = ruleSet.getRules().size();
+            this.base = new Counters(size, null);
+            if (previous != null) {
+                Map<Rule, RuleStats> byRule = new IdentityHashMap<>();
+                for (RuleStats stats : previous) byRule.put(stats.getRule(), stats);
+                for (CompiledRule rule : ruleSet.getRules()) {
+                    RuleStats stats = byRule.get(rule.getRule());
+                    if (stats == null) continue;
+                    int id = rule.getId();
+                    base.evaluations[id] = stats.getEvaluations();
+                    base.hits[id] = stats.getHits();
+                    base.totalNanos[id] = stats.getTotalNanos();
+                    base.maxNanos[id] = stats.getMaxNanos();
+                }
+            }
+            this.local = ThreadLocal.withInitial(() -> register(size));
+        }
+
+        private synchronized Counters register(int size) {
+            foldFinished();
+            Counters counters = new Counters(size, Thread.currentThread());
+            all.add(counters);
+            return counters;
+        }
+
+        /**
+         * 把已结束线程的计数并入基数并移除。线程结束后其计数不再变化，isAlive() 返回 false 保证能看到全部写入。
+         */
+        private void foldFinished() {
+            for (Iterator<Counters> it = all.iterator(); it.hasNext(); ) {
+                Counters counters = it.next();
+                if (!counters.owner.isAlive()) {
+                    base.addAll(counters);
+                    it.remove();
+                }
+            }
+        }
+
+        synchronized List<RuleStats> snapshot() {
+            foldFinished();
+            List<CompiledRule> rules = ruleSet.getRules();
+            List<RuleStats> result = new ArrayList<>(rules.size());
+            for (CompiledRule rule : rules) {
+                int id = rule.getId();
+                long evaluations = base.evaluations[id];
+                long hits = base.hits[id];
+                long total = base.totalNanos[id];
+                long max = base.maxNanos[id];
+                for (Counters counters : all) {
+                    evaluations += counters.evaluations[id];
+                    hits += counters.hits[id];
+                    total += counters.totalNanos[id];
+                    max = Math.max(max, counters.maxNanos[id]);
+                }
+                result.add(new RuleStats(rule.getFingerprint(), rule.getRule(), evaluations, hits, total, max));
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.finger.burp.engine;
+
+import com.finger.burp.model.Fingerprint;
+import com.finger.burp.model.Rule;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 被隔离的慢规则。正则匹配超出时间预算的规则会被加入隔离区，之后不再参与匹配，直到手动释放。
+ * 以 Rule 对象本身为键（Rule 未重写 equals），规则被编辑或重新加载后自然失效。
+ */
+public final class RuleQuarantine {
+    private final Map<Rule, Entry> entries = new ConcurrentHashMap<>();
+    // 隔离区每次变化都递增，用于作废依赖隔离状态的缓存结果
+    private final AtomicLong version = new AtomicLong();
+
+    public boolean contains(Rule rule) {
+        return !entries.isEmpty() && entries.containsKey(rule);
+    }
+
+    /**
+     * @return 该规则此前未被隔离时返回 true
+     */
+    boolean quarantine(Fingerprint fingerprint, Rule rule, String pattern, long elapsedMillis, String url) {
+        boolean added = entries.putIfAbsent(rule, new Entry(fingerprint, rule, pattern, elapsedMillis, url)) == null;
+        if (added) version.incrementAndGet();
+        return added;
+    }
+
+    public void release(Rule rule) {
+        if (entries.remove(rule) != null) version.incrementAndGet();
+    }
+
+    public void clear() {
+        entries.clear();
+        version.incrementAndGet();
+    }
+
+    long getVersion() {
+        return version.get();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 按隔离时间排序的快照。
+     */
+    public List<Entry> getEntries() {
+        List<Entry> list = new ArrayList<>(entries.values());
+        list.sort((a, b) -> Long.compare(a.getTimestamp(), b.getTimestamp()));
+        return Collections.unmodifiableList(list);
+    }
+
+    public static final class Entry {
+        private final Fingerprint fingerprint;
+        private final Rule rule;
+        private final String pattern;
+        private final long elapsedMillis;
+        private final String url;
+        private final long timestamp;
+
+        Entry(Fingerprint fingerprint, Rule rule, String pattern, long elapsedMillis, String url) {
+            this.fingerprint = fingerprint;
+            this.rule = rule;
+            this.pattern = pattern;
+            this.elapsedMillis = elapsedMillis;
+            this.url = url;
+            this.timestamp = System.currentTimeMillis();
+        }
+
+        public Fingerprint getFingerprint() { return fingerprint; }
+        public Rule getRule() { return rule; }
+        /** 超时的正则 */
+        public String getPattern() { return pattern; }
+        /** 被打断前消耗的时间 */
+        public long getElapsedMillis() { return elapsedMillis; }
+        /** 触发超时的消息 URL，未知时为 null */
+        public String getUrl() { return url; }
+        public long getTimestamp() { return timestamp; }
+    }
+}
@@ -0,0 +1,48 @@
+package com.finger.burp.engine;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.finger.burp.model.Fingerprint;
+import com.finger.burp.model.Rule;
+
+/**
+ * 单条规则的评估次数、命中次数与耗时快照。
+ * 耗时包含该规则首次触发的共享计算（如响应体解码、预过滤扫描）。
+ */
+@JsonPropertyOrder({"fingerprint", "type", "location", "field", "path", "match", "hash",
+        "evaluations", "hits", "totalNanos", "maxNanos"})
+public final class RuleStats {
+    private final Fingerprint fingerprint;
+    private final Rule rule;
+    private final long evaluations;
+    private final long hits;
+    private final long totalNanos;
+    private final long maxNanos;
+
+    RuleStats(Fingerprint fingerprint, Rule rule, long evaluations, long hits, long totalNanos, long maxNanos) {
+        this.fingerprint = fingerprint;
+        this.rule = rule;
+        this.evaluations = evaluations;
+        this.hits = hits;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    @JsonIgnore
+    public Fingerprint getFingerprintObject() { return fingerprint; }
+    @JsonIgnore
+    public Rule getRule() { return rule; }
+
+    public String getFingerprint() { return fingerprint.getName(); }
+    public String getType() { return fingerprint.getType(); }
+    public String getLocation() { return rule.getLocation(); }
+    public String getField() { return rule.getField(); }
+    public String getPath() { return rule.getPath(); }
+    public Object getMatch() { return rule.getMatch(); }
+    public String getHash() { return rule.getHash(); }
+
+    public long getEvaluations() { return evaluations; }
+    public long getHits() { return hits; }
+    public long getTotalNanos() { return totalNanos; }
+    public long getMaxNanos() { return maxNanos; }
+}
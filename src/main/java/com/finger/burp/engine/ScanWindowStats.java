@@ -0,0 +1,67 @@
+package com.finger.burp.engine;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 响应体扫描窗口的统计信息，用于调整窗口大小。
+ */
+public final class ScanWindowStats {
+    private final LongAdder messages = new LongAdder();
+    private final LongAdder windowedMessages = new LongAdder();
+    private final LongAdder skippedBytes = new LongAdder();
+    private final LongAdder windowedMatches = new LongAdder();
+    private final LongAdder hashSkipped = new LongAdder();
+    private final LongAdder parallelMessages = new LongAdder();
+
+    void recordMessage() {
+        messages.increment();
+    }
+
+    void recordWindowed(long skipped) {
+        windowedMessages.increment();
+        skippedBytes.add(skipped);
+    }
+
+    void recordWindowedMatch() {
+        windowedMatches.increment();
+    }
+
+    void recordHashSkipped() {
+        hashSkipped.increment();
+    }
+
+    void recordParallel() {
+        parallelMessages.increment();
+    }
+
+    public long getMessages() { return messages.sum(); }
+    /** 超出窗口、只扫描了首尾部分的消息数 */
+    public long getWindowedMessages() { return windowedMessages.sum(); }
+    /** 因窗口限制而未扫描的字节总数 */
+    public long getSkippedBytes() { return skippedBytes.sum(); }
+    /** 在截断后的窗口内命中的 body 规则数 */
+    public long getWindowedMatches() { return windowedMatches.sum(); }
+    /** 因超过大小上限而跳过哈希计算的消息数 */
+    public long getHashSkipped() { return hashSkipped.sum(); }
+    /** 因响应体较大而并行评估规则分片的消息数 */
+    public long getParallelMessages() { return parallelMessages.sum(); }
+
+    public void reset() {
+        messages.reset();
+        windowedMessages.reset();
+        skippedBytes.reset();
+        windowedMatches.reset();
+        hashSkipped.reset();
+        parallelMessages.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "messages=" + getMessages()
+                + ", windowed=" + getWindowedMessages()
+                + ", skippedBytes=" + getSkippedBytes()
+                + ", windowedMatches=" + getWindowedMatches()
+                + ", hashSkipped=" + getHashSkipped()
+                + ", parallel=" + getParallelMessages();
+    }
+}
@@ -50,6 +50,18 @@ public class Rule {
      */
     private String hash;
 
+    /**
+     * 可选的内容类型约束，按前缀匹配 Content-Type（忽略大小写），例如 "image/" 或 "application/json"。
+     * 未设置时按内容分类自动决定：body 规则只作用于文本类响应，hash 规则只作用于图片类响应。
+     */
+    private String contentType;
+
+    /**
+     * 可选的消息方向："request"、"response" 或 "both"。
+     * 未设置时按 location 决定：header 规则同时作用于请求和响应，body、hash、status 规则只作用于响应。
+     */
+    private String direction;
+
     /**
      * 规则描述。可以用来描述指纹的具体特征或潜在漏洞。
      */
@@ -74,6 +86,12 @@ public class Rule {
     public String getHash() { return hash; }
     public void setHash(String hash) { this.hash = hash; }
 
+    public String getContentType() { return contentType; }
+    public void setContentType(String contentType) { this.contentType = contentType; }
+
+    public String getDirection() { return direction; }
+    public void setDirection(String direction) { this.direction = direction; }
+
     public String getDescription() { return description; }
     public void setDescription(String description) { this.description = description; }
 }
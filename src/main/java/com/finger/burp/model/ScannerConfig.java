@@ -6,12 +6,58 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class ScannerConfig {
+    /**
+     * 正则匹配后端：JDK 为 java.util.regex；AUTOMATON 将 body 正则合并为线性时间的多模式自动机，不支持的正则仍使用 JDK。
+     */
+    public enum RegexBackend { JDK, AUTOMATON }
+
+    /**
+     * 被动匹配队列已满时的处理方式：BLOCK 阻塞代理线程直到有空位；DROP_OLDEST 丢弃最早入队的消息；
+     * SAMPLE 每 10 条溢出消息保留 1 条（替换最早入队的消息），其余丢弃。
+     */
+    public enum QueuePolicy { BLOCK, DROP_OLDEST, SAMPLE }
+
+    /**
+     * URL/路径去重集合的实现：LRU 保存 64 位哈希，超出上限后遗忘最久未见的键；
+     * BLOOM 为可扩展 Bloom filter，更省内存但有少量误判。
+     */
+    public enum SeenSetType { LRU, BLOOM }
+
     private List<Integer> excludeStatusCodes;
     private List<String> excludeBodyKeywords;
     private int threadCount;
     private double requestsPerSecond;
     private I18n.Language language;
     private String updateUrl;
+    // 响应体扫描窗口：只对前 bodyScanHeadBytes 与后 bodyScanTailBytes 执行 body 规则，<= 0 表示不限制
+    private int bodyScanHeadBytes;
+    private int bodyScanTailBytes;
+    // 超过该大小的响应体不计算 hash，<= 0 表示不限制
+    private int hashMaxBodyBytes;
+    // 收集全部证据：指纹的每条规则都评估并上报，默认在首条规则命中后停止
+    private boolean collectAllEvidence;
+    // 单条规则正则匹配的时间预算（毫秒），超时的规则会被隔离，<= 0 表示不限制
+    private int regexTimeoutMillis;
+    private RegexBackend regexBackend;
+    // 记录每条规则的评估次数、命中次数与耗时
+    private boolean ruleProfiling;
+    // 响应体达到该大小时按指纹分片并行匹配，<= 0 表示始终串行
+    private int parallelBodyBytes;
+    // 被动匹配工作线程数与队列容量，容量 <= 0 表示在代理线程中同步匹配
+    private int passiveWorkerThreads;
+    private int passiveQueueCapacity;
+    private QueuePolicy passiveQueuePolicy;
+    // 按内容缓存匹配结果的最大条目数，<= 0 表示关闭
+    private int matchCacheEntries;
+    // 去重集合的实现
+    private SeenSetType seenSetType;
+    // 每个去重集合的内存上限（KB）与 Bloom filter 的误判率
+    private int seenSetMaxKB;
+    private double seenSetFalsePositiveRate;
+    // 指纹在某主机上确认后不再对该主机评估；关闭时继续收集证据
+    private boolean skipConfirmedFingerprints;
+    // 后台检查规则更新的间隔（小时），<= 0 表示只手动更新
+    private int updateCheckHours;
 
     public ScannerConfig() {
         // 默认配置
@@ -31,6 +77,22 @@ public class ScannerConfig {
         this.requestsPerSecond = 10.0;
         this.language = I18n.Language.CHINESE;
         this.updateUrl = "https://fingerupload.oss-cn-beijing.aliyuncs.com/fingerprints.json";
+        this.bodyScanHeadBytes = 256 * 1024;
+        this.bodyScanTailBytes = 16 * 1024;
+        this.hashMaxBodyBytes = 1024 * 1024;
+        this.regexTimeoutMillis = 200;
+        this.regexBackend = RegexBackend.JDK;
+        this.ruleProfiling = true;
+        this.parallelBodyBytes = 1024 * 1024;
+        this.passiveWorkerThreads = 2;
+        this.passiveQueueCapacity = 1000;
+        this.passiveQueuePolicy = QueuePolicy.BLOCK;
+        this.matchCacheEntries = 4096;
+        this.seenSetType = SeenSetType.LRU;
+        this.skipConfirmedFingerprints = true;
+        this.seenSetMaxKB = 16 * 1024;
+        this.seenSetFalsePositiveRate = 0.001;
+        this.updateCheckHours = 0;
     }
 
     public String getUpdateUrl() {
@@ -80,4 +142,140 @@ public class ScannerConfig {
     public void setLanguage(I18n.Language language) {
         this.language = language;
     }
+
+    public int getBodyScanHeadBytes() {
+        return bodyScanHeadBytes;
+    }
+
+    public void setBodyScanHeadBytes(int bodyScanHeadBytes) {
+        this.bodyScanHeadBytes = bodyScanHeadBytes;
+    }
+
+    public int getBodyScanTailBytes() {
+        return bodyScanTailBytes;
+    }
+
+    public void setBodyScanTailBytes(int bodyScanTailBytes) {
+        this.bodyScanTailBytes = bodyScanTailBytes;
+    }
+
+    public int getHashMaxBodyBytes() {
+        return hashMaxBodyBytes;
+    }
+
+    public void setHashMaxBodyBytes(int hashMaxBodyBytes) {
+        this.hashMaxBodyBytes = hashMaxBodyBytes;
+    }
+
+    public boolean isCollectAllEvidence() {
+        return collectAllEvidence;
+    }
+
+    public void setCollectAllEvidence(boolean collectAllEvidence) {
+        this.collectAllEvidence = collectAllEvidence;
+    }
+
+    public int getRegexTimeoutMillis() {
+        return regexTimeoutMillis;
+    }
+
+    public void setRegexTimeoutMillis(int regexTimeoutMillis) {
+        this.regexTimeoutMillis = regexTimeoutMillis;
+    }
+
+    public RegexBackend getRegexBackend() {
+        return regexBackend;
+    }
+
+    public void setRegexBackend(RegexBackend regexBackend) {
+        this.regexBackend = regexBackend;
+    }
+
+    public boolean isRuleProfiling() {
+        return ruleProfiling;
+    }
+
+    public void setRuleProfiling(boolean ruleProfiling) {
+        this.ruleProfiling = ruleProfiling;
+    }
+
+    public int getParallelBodyBytes() {
+        return parallelBodyBytes;
+    }
+
+    public void setParallelBodyBytes(int parallelBodyBytes) {
+        this.parallelBodyBytes = parallelBodyBytes;
+    }
+
+    public int getPassiveWorkerThreads() {
+        return passiveWorkerThreads;
+    }
+
+    public void setPassiveWorkerThreads(int passiveWorkerThreads) {
+        this.passiveWorkerThreads = passiveWorkerThreads;
+    }
+
+    public int getPassiveQueueCapacity() {
+        return passiveQueueCapacity;
+    }
+
+    public void setPassiveQueueCapacity(int passiveQueueCapacity) {
+        this.passiveQueueCapacity = passiveQueueCapacity;
+    }
+
+    public QueuePolicy getPassiveQueuePolicy() {
+        return passiveQueuePolicy;
+    }
+
+    public void setPassiveQueuePolicy(QueuePolicy passiveQueuePolicy) {
+        this.passiveQueuePolicy = passiveQueuePolicy;
+    }
+
+    public int getMatchCacheEntries() {
+        return matchCacheEntries;
+    }
+
+    public void setMatchCacheEntries(int matchCacheEntries) {
+        this.matchCacheEntries = matchCacheEntries;
+    }
+
+    public boolean isSkipConfirmedFingerprints() {
+        return skipConfirmedFingerprints;
+    }
+
+    public void setSkipConfirmedFingerprints(boolean skipConfirmedFingerprints) {
+        this.skipConfirmedFingerprints = skipConfirmedFingerprints;
+    }
+
+    public SeenSetType getSeenSetType() {
+        return seenSetType;
+    }
+
+    public void setSeenSetType(SeenSetType seenSetType) {
+        this.seenSetType = seenSetType;
+    }
+
+    public int getSeenSetMaxKB() {
+        return seenSetMaxKB;
+    }
+
+    public void setSeenSetMaxKB(int seenSetMaxKB) {
+        this.seenSetMaxKB = seenSetMaxKB;
+    }
+
+    public double getSeenSetFalsePositiveRate() {
+        return seenSetFalsePositiveRate;
+    }
+
+    public void setSeenSetFalsePositiveRate(double seenSetFalsePositiveRate) {
+        this.seenSetFalsePositiveRate = seenSetFalsePositiveRate;
+    }
+
+    public int getUpdateCheckHours() {
+        return updateCheckHours;
+    }
+
+    public void setUpdateCheckHours(int updateCheckHours) {
+        this.updateCheckHours = updateCheckHours;
+    }
 }
@@ -0,0 +1,110 @@
+package com.finger.burp.replay;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finger.burp.engine.MessageView;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 流式读取 HAR 文件：定位到 log.entries 后逐条解析，内存占用只与单条记录大小相关。
+ * 每条记录产生一个响应消息，请求带有 body 或 header 时也产生一个请求消息。
+ */
+final class HarReader {
+    private final ObjectMapper mapper;
+
+    HarReader(ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    /**
+     * @return 读取的记录数
+     */
+    int read(InputStream in, String source, Consumer<ReplayMessage> consumer) throws IOException {
+        try (JsonParser parser = mapper.getFactory().createParser(in)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token != JsonToken.FIELD_NAME || !"entries".equals(parser.currentName()) || !underLog(parser)) {
+                    continue;
+                }
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw new IOException("log.entries is not an array");
+                }
+                int index = 0;
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    JsonNode entry = mapper.readTree(parser);
+                    emit(entry, source + "#" + index, consumer);
+                    index++;
+                }
+                return index;
+            }
+            throw new IOException("No log.entries array found");
+        }
+    }
+
+    /**
+     * 当前字段是否直接位于顶层的 log 对象中。
+     */
+    private static boolean underLog(JsonParser parser) {
+        JsonStreamContext parent = parser.getParsingContext().getParent();
+        return parent != null && "log".equals(parent.getCurrentName()) && parent.getParent() != null
+                && parent.getParent().inRoot();
+    }
+
+    private void emit(JsonNode entry, String source, Consumer<ReplayMessage> consumer) {
+        JsonNode request = entry.path("request");
+        String url = request.path("url").asText(null);
+        String path = ReplayMessage.pathOf(url);
+
+        List<MessageView.Header> requestHeaders = headers(request.path("headers"));
+        byte[] requestBody = text(request.path("postData"));
+        if (!requestHeaders.isEmpty() || requestBody.length > 0) {
+            consumer.accept(new ReplayMessage(source, true, requestHeaders, 0, requestBody, path, url));
+        }
+
+        JsonNode response = entry.path("response");
+        if (response.isObject()) {
+            consumer.accept(new ReplayMessage(source, false, headers(response.path("headers")),
+                    response.path("status").asInt(), text(response.path("content")), path, url));
+        }
+    }
+
+    /**
+     * HTTP/2 的伪头（:status、:path 等）不是普通 header，跳过。
+     */
+    private static List<MessageView.Header> headers(JsonNode array) {
+        List<MessageView.Header> headers = new ArrayList<>(array.size());
+        for (JsonNode node : array) {
+            String name = node.path("name").asText("");
+            if (name.isEmpty() || name.startsWith(":")) continue;
+            String value = node.path("value").asText("");
+            headers.add(new MessageView.Header(name, value, name + ": " + value));
+        }
+        return headers;
+    }
+
+    /**
+     * HAR 中的文本是解码后的字符串，按 UTF-8 还原为字节；encoding 为 base64 时直接解码。
+     */
+    private static byte[] text(JsonNode content) {
+        String text = content.path("text").asText(null);
+        if (text == null) return new byte[0];
+        if ("base64".equalsIgnoreCase(content.path("encoding").asText(""))) {
+            try {
+                return Base64.getMimeDecoder().decode(text);
+            } catch (IllegalArgumentException e) {
+                return new byte[0];
+            }
+        }
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,85 @@
+package com.finger.burp.replay;
+
+import burp.api.montoya.MontoyaApi;
+import burp.api.montoya.core.Registration;
+import burp.api.montoya.extension.Extension;
+import burp.api.montoya.extension.ExtensionUnloadingHandler;
+import burp.api.montoya.logging.Logging;
+
+import java.io.PrintStream;
+import java.lang.reflect.Proxy;
+
+/**
+ * 脱离 Burp 运行时使用的 MontoyaApi 适配器，只提供 RuleLoader 与 MatchingEngine 用到的日志和插件路径，
+ * 其他接口调用时抛出 UnsupportedOperationException。
+ */
+final class HeadlessApi {
+    private HeadlessApi() {
+    }
+
+    /**
+     * @param extensionFilename Extension.filename() 的返回值，RuleLoader 据此定位默认规则文件
+     * @param log 日志输出，标准输出留给匹配结果
+     */
+    static MontoyaApi create(String extensionFilename, PrintStream log) {
+        Logging logging = new ConsoleLogging(log);
+        Extension extension = new HeadlessExtension(extensionFilename);
+        return (MontoyaApi) Proxy.newProxyInstance(HeadlessApi.class.getClassLoader(), new Class<?>[]{MontoyaApi.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "logging": return logging;
+                        case "extension": return extension;
+                        case "toString": return "HeadlessApi";
+                        case "hashCode": return System.identityHashCode(proxy);
+                        case "equals": return proxy == args[0];
+                        default: throw new UnsupportedOperationException("Not available in headless mode: " + method.getName());
+                    }
+                });
+    }
+
+    private static final class ConsoleLogging implements Logging {
+        private final PrintStream out;
+
+        ConsoleLogging(PrintStream out) {
+            this.out = out;
+        }
+
+        @Deprecated @Override public PrintStream output() { return out; }
+        @Deprecated @Override public PrintStream error() { return out; }
+        @Override public void logToOutput(String message) { out.println(message); }
+        @Override public void logToError(String message) { out.println(message); }
+
+        @Override
+        public void logToError(String message, Throwable cause) {
+            out.println(message);
+            cause.printStackTrace(out);
+        }
+
+        @Override public void logToError(Throwable cause) { cause.printStackTrace(out); }
+        @Override public void raiseDebugEvent(String message) { out.println(message); }
+        @Override public void raiseInfoEvent(String message) { out.println(message); }
+        @Override public void raiseErrorEvent(String message) { out.println(message); }
+        @Override public void raiseCriticalEvent(String message) { out.println(message); }
+    }
+
+    private static final class HeadlessExtension implements Extension {
+        private final String filename;
+
+        HeadlessExtension(String filename) {
+            this.filename = filename;
+        }
+
+        @Override public void setName(String name) { }
+        @Override public String filename() { return filename; }
+        @Override public boolean isBapp() { return false; }
+        @Override public void unload() { }
+
+        @Override
+        public Registration registerUnloadingHandler(ExtensionUnloadingHandler handler) {
+            return new Registration() {
+                @Override public boolean isRegistered() { return false; }
+                @Override public void deregister() { }
+            };
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.finger.burp.replay;
+
+import burp.api.montoya.MontoyaApi;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.finger.burp.engine.MatchResult;
+import com.finger.burp.engine.MatchingEngine;
+import com.finger.burp.model.Fingerprint;
+import com.finger.burp.model.Rule;
+import com.finger.burp.model.ScannerConfig;
+import com.finger.burp.rules.RuleLoader;
+import com.finger.burp.scanner.PassiveMatchQueue;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 离线回放：在 Burp 之外对 HAR 文件和原始 HTTP 报文目录做指纹识别。
+ * <p>
+ * 输入在主线程中流式读取，匹配交给 {@link PassiveMatchQueue} 在所有核心上并行执行，队列满时读取线程阻塞，
+ * 内存占用与输入总量无关。每条命中的消息输出一行 JSON（JSON Lines），结束时在标准错误输出吞吐统计，
+ * 也可以作为匹配引擎的吞吐测试工具使用。
+ */
+public final class OfflineReplay {
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: java -jar finger-replay.jar [options] <input>...",
+            "",
+            "Inputs are HAR files (*.har), raw HTTP message files, or directories of them.",
+            "",
+            "Options:",
+            "  -r, --rules <file>    fingerprints.json to use (default: next to the jar, or the bundled rules)",
+            "  -o, --output <file>   write JSON Lines results to a file instead of stdout",
+            "  -t, --threads <n>     matching threads (default: number of cores)",
+            "  -a, --all-matches     report every fingerprint on every message instead of once per host",
+            "  -h, --help            show this help");
+    // 每个匹配线程对应的队列容量
+    private static final int QUEUE_PER_THREAD = 64;
+    private static final long PROGRESS_SECONDS = 10;
+
+    private final MatchingEngine engine;
+    private final PassiveMatchQueue queue;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final HarReader harReader = new HarReader(mapper);
+    private final Writer out;
+    private final PrintStream log;
+
+    private final LongAdder messages = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder matchedMessages = new LongAdder();
+    private final LongAdder fingerprints = new LongAdder();
+    private final LongAdder inputs = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private volatile boolean writeFailed;
+
+    OfflineReplay(MatchingEngine engine, PassiveMatchQueue queue, Writer out, PrintStream log) {
+        this.engine = engine;
+        this.queue = queue;
+        this.out = out;
+        this.log = log;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+        if (options.help) {
+            System.out.println(USAGE);
+            return;
+        }
+        if (options.rules != null && !Files.isRegularFile(Path.of(options.rules))) {
+            System.err.println("Rule file not found: " + options.rules);
+            System.exit(2);
+        }
+
+        PrintStream log = System.err;
+        MontoyaApi api = HeadlessApi.create(options.rules == null ? jarLocation() : null, log);
+        RuleLoader ruleLoader = new RuleLoader(api, options.rules);
+        ruleLoader.loadAllRules();
+
+        ScannerConfig config = new ScannerConfig();
+        config.setPassiveWorkerThreads(options.threads);
+        config.setPassiveQueueCapacity(options.threads * QUEUE_PER_THREAD);
+        config.setPassiveQueuePolicy(ScannerConfig.QueuePolicy.BLOCK);
+        config.setSkipConfirmedFingerprints(!options.allMatches);
+        MatchingEngine engine = new MatchingEngine(api, ruleLoader, config);
+
+        boolean ok;
+        try (Writer out = options.output != null
+                ? Files.newBufferedWriter(Path.of(options.output), StandardCharsets.UTF_8)
+                : new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8))) {
+            OfflineReplay replay = new OfflineReplay(engine, new PassiveMatchQueue(config), out, log);
+            ok = replay.run(options.inputs);
+        } finally {
+            engine.shutdown();
+            ruleLoader.shutdown();
+        }
+        if (!ok) System.exit(1);
+    }
+
+    /**
+     * 读取全部输入并等待匹配完成。
+     *
+     * @return 所有输入都读取成功且结果全部写出时返回 true
+     */
+    boolean run(List<String> paths) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "finger-replay-progress");
+            t.setDaemon(true);
+            return t;
+        });
+        reporter.scheduleAtFixedRate(() -> log.println("Progress: " + throughput(start) + ", queue depth " + queue.getDepth()),
+                PROGRESS_SECONDS, PROGRESS_SECONDS, TimeUnit.SECONDS);
+        try {
+            for (String p : paths) {
+                Path path = Path.of(p);
+                if (Files.isDirectory(path)) {
+                    try (Stream<Path> files = Files.walk(path)) {
+                        Iterator<Path> it = files.filter(Files::isRegularFile).iterator();
+                        while (it.hasNext()) readFile(it.next());
+                    }
+                } else {
+                    readFile(path);
+                }
+            }
+            queue.drain();
+        } finally {
+            reporter.shutdownNow();
+        }
+        out.flush();
+
+        log.println(String.format(Locale.ROOT, "Replayed %d inputs: %s; %d messages matched, %d fingerprints; %d files skipped, %d failed",
+                inputs.sum(), throughput(start), matchedMessages.sum(), fingerprints.sum(), skipped.sum(), failed.sum()));
+        log.println("Match queue: " + queue);
+        log.println("Result cache: " + engine.getResultCache());
+        log.println("Confirmed fingerprints: " + engine.getConfirmedFingerprints());
+        return failed.sum() == 0 && !writeFailed;
+    }
+
+    private String throughput(long start) {
+        double seconds = Math.max(System.nanoTime() - start, 1) / 1e9;
+        long count = messages.sum();
+        double megabytes = bytes.sum() / (1024.0 * 1024.0);
+        return String.format(Locale.ROOT, "%d messages (%.1f MB body) in %.1f s, %.0f messages/s, %.1f MB/s",
+                count, megabytes, seconds, count / seconds, megabytes / seconds);
+    }
+
+    private void readFile(Path file) {
+        inputs.increment();
+        String source = file.toString();
+        try {
+            if (source.toLowerCase(Locale.ROOT).endsWith(".har")) {
+                try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+                    harReader.read(in, source, this::submit);
+                }
+                return;
+            }
+            ReplayMessage message = RawMessageReader.parse(source, Files.readAllBytes(file));
+            if (message != null) {
+                submit(message);
+            } else {
+                skipped.increment();
+            }
+        } catch (IOException | RuntimeException e) {
+            failed.increment();
+            log.println("Failed to read " + source + ": " + e.getMessage());
+        }
+    }
+
+    private void submit(ReplayMessage message) {
+        queue.submit(() -> process(message));
+    }
+
+    private void process(ReplayMessage message) {
+        try {
+            List<MatchResult> matches = engine.findMatches(message.view());
+            messages.increment();
+            bytes.add(message.body.length);
+            if (matches.isEmpty()) return;
+            matchedMessages.increment();
+            write(toJson(message, matches));
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.println("Failed to match " + message.source + ": " + e);
+        }
+    }
+
+    /**
+     * 与被动扫描一致，同一条消息中的同名指纹只输出第一条命中规则。
+     */
+    private String toJson(ReplayMessage message, List<MatchResult> matches) {
+        ObjectNode node = mapper.createObjectNode();
+        node.put("source", message.source);
+        node.put("direction", message.request ? "request" : "response");
+        if (message.url != null) node.put("url", message.url);
+        if (!message.request) node.put("status", message.statusCode);
+        node.put("length", message.body.length);
+
+        ArrayNode array = node.putArray("fingerprints");
+        Set<String> names = new HashSet<>();
+        for (MatchResult match : matches) {
+            Fingerprint fp = match.getFingerprint();
+            if (!names.add(fp.getName())) continue;
+            Rule rule = match.getMatchedRule();
+            ObjectNode fpNode = array.addObject();
+            fpNode.put("name", fp.getName());
+            if (fp.getType() != null) fpNode.put("type", fp.getType());
+            if (rule.getLocation() != null) fpNode.put("location", rule.getLocation());
+            if (rule.getField() != null) fpNode.put("field", rule.getField());
+            if (rule.getDescription() != null) fpNode.put("description", rule.getDescription());
+            if (rule.getMatch() != null && !rule.getMatch().isEmpty()) {
+                ArrayNode matchNode = fpNode.putArray("match");
+                rule.getMatch().forEach(matchNode::add);
+            }
+        }
+        fingerprints.add(names.size());
+        return node.toString();
+    }
+
+    private void write(String line) {
+        synchronized (out) {
+            try {
+                out.write(line);
+                out.write('\n');
+            } catch (IOException e) {
+                if (!writeFailed) log.println("Failed to write results: " + e.getMessage());
+                writeFailed = true;
+            }
+        }
+    }
+
+    /**
+     * 运行中的 JAR（或 classes 目录）路径，RuleLoader 默认使用其同目录下的 fingerprints.json，与插件一致。
+     */
+    private static String jarLocation() {
+        try {
+            return Path.of(OfflineReplay.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    static final class Options {
+        String rules;
+        String output;
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean allMatches;
+        boolean help;
+        final List<String> inputs = new ArrayList<>();
+
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                switch (arg) {
+                    case "-r": case "--rules": options.rules = value(args, ++i, arg); break;
+                    case "-o": case "--output": options.output = value(args, ++i, arg); break;
+                    case "-t": case "--threads":
+                        try {
+                            options.threads = Integer.parseInt(value(args, ++i, arg));
+                        } catch (NumberFormatException e) {
+                            throw new IllegalArgumentException("Invalid thread count: " + args[i]);
+                        }
+                        if (options.threads < 1) throw new IllegalArgumentException("Thread count must be at least 1");
+                        break;
+                    case "-a": case "--all-matches": options.allMatches = true; break;
+                    case "-h": case "--help": options.help = true; break;
+                    default:
+                        if (arg.startsWith("-") && arg.length() > 1) throw new IllegalArgumentException("Unknown option: " + arg);
+                        options.inputs.add(arg);
+                }
+            }
+            if (options.inputs.isEmpty() && !options.help) throw new IllegalArgumentException("No input given");
+            return options;
+        }
+
+        private static String value(String[] args, int index, String option) {
+            if (index >= args.length) throw new IllegalArgumentException("Missing value for " + option);
+            return args[index];
+        }
+    }
+}
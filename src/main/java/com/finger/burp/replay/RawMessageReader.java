@@ -0,0 +1,72 @@
+package com.finger.burp.replay;
+
+import com.finger.burp.engine.MessageView;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 解析保存为文件的原始 HTTP 报文（如 Burp 的 Save item）。
+ * 以 "HTTP/" 开头的是响应，否则按请求行 "METHOD path HTTP/x" 解析；分块编码等传输格式不做还原，与 Burp 中看到的 body 一致。
+ */
+final class RawMessageReader {
+    private RawMessageReader() {
+    }
+
+    /**
+     * @return 不是 HTTP 报文时返回 null
+     */
+    static ReplayMessage parse(String source, byte[] data) {
+        int headerEnd = indexOf(data, "\r\n\r\n");
+        int bodyStart;
+        if (headerEnd >= 0) {
+            bodyStart = headerEnd + 4;
+        } else {
+            headerEnd = indexOf(data, "\n\n");
+            bodyStart = headerEnd >= 0 ? headerEnd + 2 : data.length;
+            if (headerEnd < 0) headerEnd = data.length;
+        }
+
+        String[] lines = new String(data, 0, headerEnd, StandardCharsets.ISO_8859_1).split("\r?\n");
+        String[] start = lines[0].split(" ", 3);
+        if (start.length < 2) return null;
+
+        List<MessageView.Header> headers = new ArrayList<>(lines.length - 1);
+        String host = null;
+        for (int i = 1; i < lines.length; i++) {
+            int colon = lines[i].indexOf(':');
+            if (colon <= 0) continue;
+            String name = lines[i].substring(0, colon).trim();
+            String value = lines[i].substring(colon + 1).trim();
+            headers.add(new MessageView.Header(name, value, lines[i]));
+            if (host == null && "host".equalsIgnoreCase(name)) host = value;
+        }
+        byte[] body = Arrays.copyOfRange(data, Math.min(bodyStart, data.length), data.length);
+
+        if (start[0].startsWith("HTTP/")) {
+            try {
+                return new ReplayMessage(source, false, headers, Integer.parseInt(start[1].trim()), body, null, null);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        if (start.length < 3 || !start[2].startsWith("HTTP/")) return null;
+        String target = start[1];
+        String url = target.contains("://") ? target : host != null ? "http://" + host + target : null;
+        return new ReplayMessage(source, true, headers, 0, body, ReplayMessage.pathOf(target), url);
+    }
+
+    private static int indexOf(byte[] data, String delimiter) {
+        byte[] d = delimiter.getBytes(StandardCharsets.ISO_8859_1);
+        outer:
+        for (int i = 0; i <= data.length - d.length; i++) {
+            for (int j = 0; j < d.length; j++) {
+                if (data[i + j] != d[j]) continue outer;
+            }
+            return i;
+        }
+        return -1;
+    }
+}
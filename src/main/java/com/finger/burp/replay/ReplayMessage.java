@@ -0,0 +1,53 @@
+package com.finger.burp.replay;
+
+import com.finger.burp.engine.MessageView;
+
+import java.util.List;
+
+/**
+ * 从离线数据中读出的一条请求或响应。
+ */
+final class ReplayMessage {
+    // 数据来源，如 "capture.har#12" 或原始报文文件路径
+    final String source;
+    final boolean request;
+    final List<MessageView.Header> headers;
+    // 请求记为 0
+    final int statusCode;
+    final byte[] body;
+    // 原始响应文件没有对应的请求，path 与 url 为 null
+    final String path;
+    final String url;
+
+    ReplayMessage(String source, boolean request, List<MessageView.Header> headers, int statusCode, byte[] body,
+                  String path, String url) {
+        this.source = source;
+        this.request = request;
+        this.headers = headers;
+        this.statusCode = statusCode;
+        this.body = body;
+        this.path = path;
+        this.url = url;
+    }
+
+    MessageView view() {
+        return MessageView.of(request, headers, statusCode, body, path, url);
+    }
+
+    /**
+     * 从 URL 中取出路径和查询参数部分，解析失败时返回 "/"。
+     */
+    static String pathOf(String url) {
+        if (url == null) return null;
+        int scheme = url.indexOf("://");
+        if (scheme < 0) return url.startsWith("/") ? url : "/";
+        int slash = url.indexOf('/', scheme + 3);
+        int query = url.indexOf('?', scheme + 3);
+        int start = slash < 0 ? query : (query < 0 ? slash : Math.min(slash, query));
+        if (start < 0) return "/";
+        String path = url.substring(start);
+        int fragment = path.indexOf('#');
+        if (fragment >= 0) path = path.substring(0, fragment);
+        return path.startsWith("/") ? path : "/" + path;
+    }
+}
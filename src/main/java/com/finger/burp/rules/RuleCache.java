@@ -0,0 +1,224 @@
+package com.finger.burp.rules;
+
+import com.finger.burp.model.Fingerprint;
+import com.finger.burp.model.Rule;
+import com.google.common.hash.Hashing;
+import com.google.common.io.MoreFiles;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * fingerprints.json 的二进制缓存，与规则文件放在同一目录。
+ * <p>
+ * 文件头记录规则文件内容的校验和，只有校验和一致时才使用缓存，否则回退到 JSON 解析并重写缓存。
+ * 所有字符串去重后存放在字符串表中，规则字段只保存下标；读取时一次读入堆内缓冲区后顺序解码，
+ * 不经过 Jackson，同名的 location、type 等字段共享同一个 String 实例。
+ * 不使用内存映射：Windows 上被映射的文件在缓冲区回收前无法被 write 替换。
+ */
+final class RuleCache {
+    private static final int MAGIC = 0x46475243; // "FGRC"
+    // 格式或 Rule 字段变化时递增，旧缓存自动失效
+    private static final int FORMAT_VERSION = 2;
+    private static final int NULL = -1;
+    // 各类记录编码后的最小字节数，用于在分配前校验文件中的数量
+    private static final int STRING_BYTES = 4;
+    private static final int FINGERPRINT_BYTES = 3 * 4;
+    private static final int RULE_BYTES = 7 * 4 + 1 + 4 + 4;
+
+    private RuleCache() {
+    }
+
+    /**
+     * 规则文件内容的校验和，按块流式计算，不把整个文件读入内存。
+     */
+    static long checksum(Path file) throws IOException {
+        return MoreFiles.asByteSource(file).hash(Hashing.murmur3_128()).asLong();
+    }
+
+    /**
+     * 缓存文件路径：与规则文件同名，扩展名为 .bin。
+     */
+    static Path pathFor(String rulePath) {
+        String base = rulePath.endsWith(".json") ? rulePath.substring(0, rulePath.length() - 5) : rulePath;
+        return Path.of(base + ".bin");
+    }
+
+    /**
+     * @return 缓存不存在、已损坏或校验和不一致时返回 null
+     */
+    static List<Fingerprint> read(Path path, long checksum) throws IOException {
+        if (!Files.isRegularFile(path)) return null;
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION || buffer.getLong() != checksum) {
+                return null;
+            }
+            String[] strings = new String[length(buffer, buffer.getInt(), STRING_BYTES)];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[length(buffer, buffer.getInt(), 1)];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            int count = length(buffer, buffer.getInt(), FINGERPRINT_BYTES);
+            List<Fingerprint> fingerprints = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Fingerprint fp = new Fingerprint();
+                fp.setName(string(buffer, strings));
+                fp.setType(string(buffer, strings));
+                int ruleCount = buffer.getInt();
+                if (ruleCount != NULL) {
+                    List<Rule> rules = new ArrayList<>(length(buffer, ruleCount, RULE_BYTES));
+                    for (int j = 0; j < ruleCount; j++) {
+                        rules.add(readRule(buffer, strings));
+                    }
+                    fp.setRules(rules);
+                }
+                fingerprints.add(fp);
+            }
+            return fingerprints;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            return null;
+        }
+    }
+
+    private static Rule readRule(ByteBuffer buffer, String[] strings) {
+        Rule rule = new Rule();
+        rule.setLocation(string(buffer, strings));
+        rule.setField(string(buffer, strings));
+        rule.setPath(string(buffer, strings));
+        rule.setHash(string(buffer, strings));
+        rule.setContentType(string(buffer, strings));
+        rule.setDirection(string(buffer, strings));
+        rule.setDescription(string(buffer, strings));
+        boolean hasStatus = buffer.get() != 0;
+        int status = buffer.getInt();
+        rule.setStatus(hasStatus ? status : null);
+        int matchCount = buffer.getInt();
+        if (matchCount != NULL) {
+            List<String> match = new ArrayList<>(length(buffer, matchCount, STRING_BYTES));
+            for (int k = 0; k < matchCount; k++) {
+                match.add(string(buffer, strings));
+            }
+            rule.setMatch(match);
+        }
+        return rule;
+    }
+
+    /**
+     * 校验文件中记录的数量：剩余字节不足以容纳这么多记录时视为损坏，避免按错误的长度分配内存。
+     */
+    private static int length(ByteBuffer buffer, int count, int recordBytes) {
+        if (count < 0 || count > buffer.remaining() / recordBytes) throw new BufferUnderflowException();
+        return count;
+    }
+
+    private static String string(ByteBuffer buffer, String[] strings) {
+        int index = buffer.getInt();
+        return index == NULL ? null : strings[index];
+    }
+
+    /**
+     * 写入缓存。先写临时文件再原子替换，避免其他进程读到写了一半的文件。
+     */
+    static void write(Path path, long checksum, List<Fingerprint> fingerprints) throws IOException {
+        Map<String, Integer> ids = new HashMap<>();
+        List<String> table = new ArrayList<>();
+        for (Fingerprint fp : fingerprints) {
+            intern(fp.getName(), ids, table);
+            intern(fp.getType(), ids, table);
+            for (Rule rule : rulesOf(fp)) {
+                if (rule == null) continue;
+                intern(rule.getLocation(), ids, table);
+                intern(rule.getField(), ids, table);
+                intern(rule.getPath(), ids, table);
+                intern(rule.getHash(), ids, table);
+                intern(rule.getContentType(), ids, table);
+                intern(rule.getDirection(), ids, table);
+                intern(rule.getDescription(), ids, table);
+                if (rule.getMatch() != null) {
+                    for (String m : rule.getMatch()) intern(m, ids, table);
+                }
+            }
+        }
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (OutputStream os = Files.newOutputStream(temp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(checksum);
+            out.writeInt(table.size());
+            for (String s : table) {
+                byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+
+            out.writeInt(fingerprints.size());
+            for (Fingerprint fp : fingerprints) {
+                writeString(out, fp.getName(), ids);
+                writeString(out, fp.getType(), ids);
+                if (fp.getRules() == null) {
+                    out.writeInt(NULL);
+                    continue;
+                }
+                List<Rule> rules = rulesOf(fp);
+                int nonNull = 0;
+                for (Rule rule : rules) if (rule != null) nonNull++;
+                out.writeInt(nonNull);
+                for (Rule rule : rules) {
+                    if (rule != null) writeRule(out, rule, ids);
+                }
+            }
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeRule(DataOutputStream out, Rule rule, Map<String, Integer> ids) throws IOException {
+        writeString(out, rule.getLocation(), ids);
+        writeString(out, rule.getField(), ids);
+        writeString(out, rule.getPath(), ids);
+        writeString(out, rule.getHash(), ids);
+        writeString(out, rule.getContentType(), ids);
+        writeString(out, rule.getDirection(), ids);
+        writeString(out, rule.getDescription(), ids);
+        out.writeBoolean(rule.getStatus() != null);
+        out.writeInt(rule.getStatus() != null ? rule.getStatus() : 0);
+        if (rule.getMatch() == null) {
+            out.writeInt(NULL);
+        } else {
+            out.writeInt(rule.getMatch().size());
+            for (String m : rule.getMatch()) writeString(out, m, ids);
+        }
+    }
+
+    private static List<Rule> rulesOf(Fingerprint fp) {
+        return fp.getRules() != null ? fp.getRules() : Collections.emptyList();
+    }
+
+    private static void intern(String s, Map<String, Integer> ids, List<String> table) {
+        if (s != null && !ids.containsKey(s)) {
+            ids.put(s, table.size());
+            table.add(s);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String s, Map<String, Integer> ids) throws IOException {
+        out.writeInt(s == null ? NULL : ids.get(s));
+    }
+}
@@ -2,6 +2,9 @@ package com.finger.burp.rules;
 
 import burp.api.montoya.MontoyaApi;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finger.burp.engine.CompiledRuleSet;
+import com.finger.burp.engine.RuleLinter;
+import com.finger.burp.engine.RulePattern;
 import com.finger.burp.model.Fingerprint;
 import com.finger.burp.model.FingerprintList;
 
@@ -10,8 +13,15 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -20,14 +30,37 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 public class RuleLoader {
     private final MontoyaApi api;
     private final ObjectMapper mapper;
+    private final RuleStreamReader reader;
     private String externalRulePath;
+    // 当前生效的规则快照。扫描器只通过这一个 volatile 引用读取规则，无需加锁
+    private volatile CompiledRuleSet compiledRuleSet = CompiledRuleSet.empty();
+    private final AtomicLong versions = new AtomicLong();
+    // 规则修改串行执行，编译与写文件都不占用 UI 线程
+    private final Object writeLock = new Object();
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "finger-rule-writer");
+        t.setDaemon(true);
+        return t;
+    });
 
     public RuleLoader(MontoyaApi api) {
+        this(api, null);
+    }
+
+    /**
+     * @param externalRulePath 外部规则文件路径，为 null 时使用插件 JAR 同目录下的 fingerprints.json
+     */
+    public RuleLoader(MontoyaApi api, String externalRulePath) {
         this.api = api;
         this.mapper = new ObjectMapper()
                 .enable(SerializationFeature.INDENT_OUTPUT)
                 .setSerializationInclusion(JsonInclude.Include.NON_NULL);
-        initExternalPath();
+        this.reader = new RuleStreamReader(mapper);
+        if (externalRulePath != null) {
+            this.externalRulePath = externalRulePath;
+        } else {
+            initExternalPath();
+        }
     }
 
     private void initExternalPath() {
@@ -50,21 +83,44 @@ public class RuleLoader {
         return externalRulePath;
     }
 
+    public CompiledRuleSet getCompiledRuleSet() {
+        return compiledRuleSet;
+    }
+
+    /**
+     * 当前快照中的指纹（只读）。
+     */
+    public List<Fingerprint> getFingerprints() {
+        return compiledRuleSet.getFingerprints();
+    }
+
+    /**
+     * 编译规则并原子替换当前生效的规则集，当前快照中已编译的正则直接复用。
+     */
+    private CompiledRuleSet compileRules(List<Fingerprint> fingerprints) {
+        CompiledRuleSet ruleSet = CompiledRuleSet.compile(fingerprints, versions.incrementAndGet(), compiledRuleSet);
+        this.compiledRuleSet = ruleSet;
+        api.logging().logToOutput(ruleSet.summary());
+        api.logging().logToOutput(ruleSet.getLintReport().summary());
+        for (RulePattern pattern : ruleSet.getFallbackPatterns()) {
+            api.logging().logToOutput("Invalid regex, using contains match: " + pattern.getSource());
+        }
+        return ruleSet;
+    }
+
     /**
      * 加载所有指纹规则。
-     * 优先从外部 fingerprints.json 加载，如果不存在则从内部资源初始化。
+     * 优先从外部 fingerprints.json 加载（校验和一致时直接读取二进制缓存），如果不存在则从内部资源初始化。
      */
     public List<Fingerprint> loadAllRules() {
+        long start = System.nanoTime();
         List<Fingerprint> allFingerprints = new ArrayList<>();
         File externalFile = new File(externalRulePath);
 
         if (externalFile.exists()) {
             api.logging().logToOutput("Loading rules from external file: " + externalRulePath);
-            try (InputStream is = new FileInputStream(externalFile)) {
-                List<Fingerprint> list = mapper.readValue(is, mapper.getTypeFactory().constructCollectionType(List.class, Fingerprint.class));
-                if (list != null) {
-                    allFingerprints.addAll(list);
-                }
+            try {
+                allFingerprints.addAll(readExternalRules(externalFile.toPath()));
             } catch (Exception e) {
                 api.logging().logToError("Failed to load external rules, falling back to internal: " + e.getMessage());
             }
@@ -76,12 +132,10 @@ public class RuleLoader {
             String internalPath = "/rules/fingerprints.json";
             try (InputStream is = getClass().getResourceAsStream(internalPath)) {
                 if (is != null) {
-                    List<Fingerprint> list = mapper.readValue(is, mapper.getTypeFactory().constructCollectionType(List.class, Fingerprint.class));
-                    if (list != null) {
-                        allFingerprints.addAll(list);
-                        // 初始化外部文件
-                        saveRules(allFingerprints);
-                    }
+                    reader.read(new BufferedInputStream(is), allFingerprints::add, logRejected(internalPath));
+                    // 初始化外部文件，在后台写入，不阻塞插件初始化
+                    List<Fingerprint> snapshot = new ArrayList<>(allFingerprints);
+                    writer.execute(() -> writeRules(snapshot));
                 } else {
                     api.logging().logToError("Internal rules not found: " + internalPath);
                 }
@@ -91,13 +145,107 @@ public class RuleLoader {
         }
 
         api.logging().logToOutput("Total fingerprints loaded: " + allFingerprints.size());
+        CompiledRuleSet ruleSet = compileRules(allFingerprints);
+        for (RuleLinter.Issue issue : ruleSet.getLintReport().getIssues()) {
+            if (issue.getSeverity() != RuleLinter.Severity.INFO) api.logging().logToOutput("Rule lint: " + issue);
+        }
+        api.logging().logToOutput(String.format("Rules ready in %.1f ms", (System.nanoTime() - start) / 1e6));
         return allFingerprints;
     }
 
-    public void saveRules(List<Fingerprint> fingerprints) {
+    /**
+     * 读取外部规则文件：校验和与二进制缓存一致时通过内存映射读取缓存，否则解析 JSON 并重建缓存。
+     */
+    private List<Fingerprint> readExternalRules(Path path) throws IOException {
+        long checksum = RuleCache.checksum(path);
+        Path cachePath = RuleCache.pathFor(path.toString());
+        try {
+            List<Fingerprint> cached = RuleCache.read(cachePath, checksum);
+            if (cached != null) {
+                api.logging().logToOutput("Loaded " + cached.size() + " fingerprints from rule cache: " + cachePath);
+                return cached;
+            }
+        } catch (IOException e) {
+            api.logging().logToError("Failed to read rule cache " + cachePath + ": " + e.getMessage());
+        }
+
+        List<Fingerprint> list;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+            list = reader.readAll(in, logRejected(path.toString()));
+        }
+        writeCache(cachePath, checksum, list);
+        return list;
+    }
+
+    /**
+     * 记录未通过校验而被跳过的指纹。
+     */
+    private RuleStreamReader.Listener logRejected(String source) {
+        return new RuleStreamReader.Listener() {
+            @Override
+            public void rejected(int index, String name, String reason) {
+                api.logging().logToError("Skipped invalid fingerprint #" + index + (name != null ? " (" + name + ")" : "")
+                        + " in " + source + ": " + reason);
+            }
+        };
+    }
+
+    private void writeCache(Path cachePath, long checksum, List<Fingerprint> fingerprints) {
+        try {
+            RuleCache.write(cachePath, checksum, fingerprints);
+        } catch (IOException e) {
+            // 缓存只用于加速启动，写入失败时下次仍可从 JSON 加载
+            api.logging().logToError("Failed to write rule cache " + cachePath + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * 基于当前快照修改规则：复制指纹列表并交给 edit 修改，编译成新快照后原子发布，再写入外部文件。
+     * 修改操作互斥执行，匹配线程在整个过程中始终读取某个完整的快照。
+     * edit 只能替换列表中的元素，不能修改已发布的 Fingerprint 对象。
+     */
+    public CompiledRuleSet updateRules(Consumer<List<Fingerprint>> edit) {
+        synchronized (writeLock) {
+            List<Fingerprint> fingerprints = new ArrayList<>(compiledRuleSet.getFingerprints());
+            edit.accept(fingerprints);
+            CompiledRuleSet ruleSet = compileRules(fingerprints);
+            writeRules(fingerprints);
+            return ruleSet;
+        }
+    }
+
+    /**
+     * 在后台线程中执行 {@link #updateRules}，供 UI 调用。
+     */
+    public CompletableFuture<CompiledRuleSet> updateRulesAsync(Consumer<List<Fingerprint>> edit) {
+        return CompletableFuture.supplyAsync(() -> updateRules(edit), writer);
+    }
+
+    /**
+     * 等待正在写入的规则文件完成，写线程是守护线程，进程退出时未完成的修改会丢失。
+     */
+    public void shutdown() {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeRules(List<Fingerprint> fingerprints) {
         try {
-            mapper.writerWithDefaultPrettyPrinter().writeValue(new File(externalRulePath), fingerprints);
+            // 直接序列化到文件，不在内存中生成完整的 JSON；先写临时文件再原子替换，中途退出不会留下写了一半的规则文件
+            Path path = Paths.get(externalRulePath);
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            try {
+                mapper.writerWithDefaultPrettyPrinter().writeValue(temp.toFile(), fingerprints);
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
             api.logging().logToOutput("Rules saved to: " + externalRulePath);
+            writeCache(RuleCache.pathFor(externalRulePath), RuleCache.checksum(path), fingerprints);
         } catch (Exception e) {
             api.logging().logToError("Failed to save rules to " + externalRulePath + ": " + e.getMessage());
         }
@@ -0,0 +1,139 @@
+package com.finger.burp.rules;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonEOFException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finger.burp.model.Fingerprint;
+import com.finger.burp.model.Rule;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 基于 Jackson token 流的规则读取器：逐个解析 JSON 数组中的指纹，解析完一个立即校验并交给调用方，
+ * 不需要先把整个文件读成字符串或树，读取大型规则包时额外内存只与单个指纹大小相关。
+ */
+public final class RuleStreamReader {
+    // 每解析多少个指纹报告一次进度
+    private static final int PROGRESS_INTERVAL = 100;
+
+    /**
+     * 读取过程回调，默认不处理。
+     */
+    public interface Listener {
+        /**
+         * @param fingerprints 已接受的指纹数
+         * @param bytesRead 已读取的字节数
+         */
+        default void progress(int fingerprints, long bytesRead) {
+        }
+
+        /**
+         * 指纹未通过校验被跳过。
+         *
+         * @param index 指纹在数组中的下标
+         */
+        default void rejected(int index, String name, String reason) {
+        }
+    }
+
+    private static final Listener NO_OP = new Listener() {
+    };
+
+    private final ObjectMapper mapper;
+
+    public RuleStreamReader(ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    public List<Fingerprint> readAll(InputStream in, Listener listener) throws IOException {
+        List<Fingerprint> fingerprints = new ArrayList<>();
+        read(in, fingerprints::add, listener);
+        return fingerprints;
+    }
+
+    /**
+     * 读取顶层为数组的规则 JSON。
+     *
+     * @return 接受的指纹数
+     */
+    public int read(InputStream in, Consumer<Fingerprint> consumer, Listener listener) throws IOException {
+        Listener l = listener != null ? listener : NO_OP;
+        try (JsonParser parser = mapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Rule file must be a JSON array of fingerprints");
+            }
+            int index = 0;
+            int accepted = 0;
+            JsonToken token;
+            while ((token = nextToken(parser, index)) != JsonToken.END_ARRAY) {
+                Fingerprint fp;
+                try {
+                    fp = token == JsonToken.VALUE_NULL ? null : mapper.readValue(parser, Fingerprint.class);
+                } catch (JsonProcessingException e) {
+                    throw endOfInput(e) ? truncated(index, e) : e;
+                }
+                String reason = validate(fp);
+                if (reason != null) {
+                    l.rejected(index, fp != null ? fp.getName() : null, reason);
+                } else {
+                    consumer.accept(fp);
+                    accepted++;
+                    if (accepted % PROGRESS_INTERVAL == 0) {
+                        l.progress(accepted, parser.currentLocation().getByteOffset());
+                    }
+                }
+                index++;
+            }
+            l.progress(accepted, parser.currentLocation().getByteOffset());
+            return accepted;
+        }
+    }
+
+    /**
+     * 文件在数组结束前截断时，Jackson 可能返回 null，也可能抛出 end-of-input 解析异常，统一报告为截断。
+     */
+    private static JsonToken nextToken(JsonParser parser, int index) throws IOException {
+        JsonToken token;
+        try {
+            token = parser.nextToken();
+        } catch (JsonProcessingException e) {
+            throw endOfInput(e) ? truncated(index, e) : e;
+        }
+        if (token == null) throw truncated(index, null);
+        return token;
+    }
+
+    private static boolean endOfInput(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof JsonEOFException || (t.getMessage() != null && t.getMessage().contains("end-of-input"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static IOException truncated(int index, Throwable cause) {
+        return new IOException("Unexpected end of rule file after " + index + " fingerprints", cause);
+    }
+
+    /**
+     * 校验单个指纹：必须有名称，且至少有一条非空规则。加载时跳过不合法的指纹，编辑保存前也使用同一校验。
+     *
+     * @return 不合法的原因，合法时返回 null
+     */
+    public static String validate(Fingerprint fp) {
+        if (fp == null) return "null entry";
+        if (fp.getName() == null || fp.getName().trim().isEmpty()) return "missing name";
+        if (fp.getRules() == null || fp.getRules().isEmpty()) return "no rules";
+        for (Rule rule : fp.getRules()) {
+            if (rule != null) return null;
+        }
+        return "no rules";
+    }
+}
@@ -0,0 +1,442 @@
+package com.finger.burp.rules;
+
+import burp.api.montoya.MontoyaApi;
+import burp.api.montoya.persistence.PersistedObject;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finger.burp.model.Fingerprint;
+import com.google.common.hash.Hashing;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 在线规则更新。
+ * <p>
+ * 更新地址可以返回完整的指纹数组，也可以返回清单（manifest）：
+ * <pre>
+ * {"fingerprints": [{"name": "Shiro", "hash": "…", "url": "fingerprints/….json"}, …]}
+ * </pre>
+ * hash 为 {@link #hashOf} 计算的指纹内容哈希；url 可省略，默认为清单所在目录下的 fingerprints/&lt;hash&gt;.json。
+ * 使用清单时只下载 hash 与本地不同的指纹。两种格式都携带 If-None-Match / If-Modified-Since，
+ * 远程未变化时服务器返回 304；内容与本地一致时也不会重新编译或重写本地文件。
+ */
+public class RuleUpdater {
+    public static final String DEFAULT_URL = "https://fingerupload.oss-cn-beijing.aliyuncs.com/fingerprints.json";
+
+    private static final String ETAG_KEY = "finger_update_etag";
+    private static final String LAST_MODIFIED_KEY = "finger_update_last_modified";
+    private static final String VALIDATED_URL_KEY = "finger_update_validated_url";
+    // 清单模式下同时下载的指纹数
+    private static final int MAX_CONCURRENT_FETCHES = 8;
+
+    /**
+     * 更新进度，percent 未知时为 -1。
+     */
+    public interface Progress {
+        void update(int fingerprints, int percent);
+    }
+
+    private final MontoyaApi api;
+    private final RuleLoader ruleLoader;
+    private final RuleStreamReader reader;
+    // 紧凑输出、省略 null 字段，用于计算内容哈希与导出清单
+    private final ObjectMapper mapper;
+    private final HttpClient client;
+    private final List<Consumer<Result>> listeners = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "finger-rule-updater");
+        t.setDaemon(true);
+        return t;
+    });
+    private ScheduledFuture<?> scheduled;
+    private int scheduledHours;
+
+    public RuleUpdater(MontoyaApi api, RuleLoader ruleLoader) {
+        this.api = api;
+        this.ruleLoader = ruleLoader;
+        this.mapper = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        this.reader = new RuleStreamReader(mapper);
+        this.client = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.ALWAYS)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    /**
+     * 指纹内容哈希：紧凑 JSON（省略 null 字段）的 murmur3_128 十六进制值。
+     */
+    public String hashOf(Fingerprint fp) {
+        try {
+            return Hashing.murmur3_128().hashBytes(mapper.writeValueAsBytes(fp)).toString();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 后台更新完成并修改了规则时通知，回调在更新线程中执行。
+     */
+    public void addListener(Consumer<Result> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 按固定间隔在后台检查更新，<= 0 表示关闭。首次检查在一个间隔之后，不影响插件加载；间隔不变时保持原计划。
+     */
+    public synchronized void schedule(int intervalHours, Supplier<String> url) {
+        if (intervalHours == scheduledHours && (scheduled != null || intervalHours <= 0)) return;
+        scheduledHours = intervalHours;
+        if (scheduled != null) {
+            scheduled.cancel(false);
+            scheduled = null;
+        }
+        if (intervalHours <= 0) return;
+        scheduled = scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                Result result = update(url.get(), null);
+                api.logging().logToOutput("Scheduled rule update: " + result);
+            } catch (Exception e) {
+                api.logging().logToError("Scheduled rule update failed: " + e);
+            }
+        }, intervalHours, intervalHours, TimeUnit.HOURS);
+        api.logging().logToOutput("Rule update check scheduled every " + intervalHours + "h");
+    }
+
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 检查并应用远程规则：同名指纹被替换，新指纹追加，仅存在于本地的指纹保留。
+     */
+    public Result update(String url, Progress progress) throws IOException, InterruptedException {
+        if (url == null || url.isEmpty()) url = DEFAULT_URL;
+        Progress p = progress != null ? progress : (count, percent) -> { };
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(Duration.ofSeconds(30))
+                .GET();
+        PersistedObject data = api.persistence().extensionData();
+        // 验证信息只对上次成功应用的地址有效；本地没有规则时总是完整下载
+        if (url.equals(data.getString(VALIDATED_URL_KEY)) && !ruleLoader.getFingerprints().isEmpty()) {
+            String etag = data.getString(ETAG_KEY);
+            String lastModified = data.getString(LAST_MODIFIED_KEY);
+            if (etag != null) builder.header("If-None-Match", etag);
+            if (lastModified != null) builder.header("If-Modified-Since", lastModified);
+        }
+
+        HttpResponse<InputStream> response = client.send(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+        Result result;
+        // 清单中有条目被拒绝时不保存验证信息，下次检查重新下载清单并重试这些指纹
+        boolean retry = false;
+        try (InputStream in = new BufferedInputStream(response.body())) {
+            if (response.statusCode() == 304) {
+                result = Result.notModified(ruleLoader.getFingerprints().size());
+            } else if (response.statusCode() != 200) {
+                throw new IOException("HTTP Status: " + response.statusCode());
+            } else if (startsWithObject(in)) {
+                Manifest manifest = mapper.readValue(in, Manifest.class);
+                result = applyManifest(response.uri(), manifest, p);
+                retry = result.getRejected() > 0;
+            } else {
+                long total = response.headers().firstValueAsLong("Content-Length").orElse(-1);
+                List<Fingerprint> remote = reader.readAll(in, new RuleStreamReader.Listener() {
+                    @Override
+                    public void progress(int fingerprints, long bytesRead) {
+                        p.update(fingerprints, total > 0 ? (int) Math.min(100, bytesRead * 100 / total) : -1);
+                    }
+
+                    @Override
+                    public void rejected(int index, String name, String reason) {
+                        logRejected(index, name, reason);
+                    }
+                });
+                if (remote.isEmpty()) throw new IOException("No valid fingerprints in " + url);
+                Set<String> remoteNames = new HashSet<>();
+                for (Fingerprint fp : remote) remoteNames.add(fp.getName());
+                result = apply(changedOnly(remote), remoteNames, remote.size(), 0);
+            }
+        }
+        if (retry) {
+            api.logging().logToError("Rejected " + result.getRejected()
+                    + " manifest entries, they will be retried on the next update check");
+        } else {
+            saveValidators(data, url, response.headers());
+        }
+        if (result.isChanged()) {
+            for (Consumer<Result> listener : listeners) listener.accept(result);
+        }
+        return result;
+    }
+
+    private Result applyManifest(URI base, Manifest manifest, Progress progress) throws IOException {
+        if (manifest.fingerprints == null || manifest.fingerprints.isEmpty()) {
+            throw new IOException("Empty rule manifest: " + base);
+        }
+        Set<String> localHashes = localHashes();
+        Set<String> remoteNames = new HashSet<>();
+        List<ManifestEntry> changed = new ArrayList<>();
+        for (ManifestEntry entry : manifest.fingerprints) {
+            if (entry.name == null || entry.hash == null) continue;
+            remoteNames.add(entry.name);
+            if (!localHashes.contains(entry.hash)) changed.add(entry);
+        }
+
+        // 只下载内容变化的指纹，并发数受限
+        Semaphore permits = new Semaphore(MAX_CONCURRENT_FETCHES);
+        AtomicInteger done = new AtomicInteger();
+        List<CompletableFuture<Fingerprint>> fetches = new ArrayList<>();
+        for (ManifestEntry entry : changed) {
+            URI uri = base.resolve(entry.url != null ? entry.url : "fingerprints/" + entry.hash + ".json");
+            HttpRequest request = HttpRequest.newBuilder().uri(uri).timeout(Duration.ofSeconds(30)).GET().build();
+            permits.acquireUninterruptibly();
+            fetches.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                    .whenComplete((r, e) -> {
+                        permits.release();
+                        int count = done.incrementAndGet();
+                        progress.update(count, count * 100 / changed.size());
+                    })
+                    .thenApply(r -> {
+                        if (r.statusCode() != 200) {
+                            throw new CompletionException(new IOException("HTTP Status " + r.statusCode() + ": " + uri));
+                        }
+                        try {
+                            return mapper.readValue(r.body(), Fingerprint.class);
+                        } catch (IOException e) {
+                            throw new CompletionException(e);
+                        }
+                    }));
+        }
+
+        List<Fingerprint> fetched = new ArrayList<>();
+        for (int i = 0; i < fetches.size(); i++) {
+            ManifestEntry entry = changed.get(i);
+            Fingerprint fp;
+            try {
+                fp = fetches.get(i).join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+            }
+            String reason = RuleStreamReader.validate(fp);
+            if (reason == null && !entry.name.equals(fp.getName())) reason = "name does not match manifest";
+            if (reason == null && !entry.hash.equals(hashOf(fp))) reason = "hash does not match manifest";
+            if (reason != null) {
+                logRejected(i, entry.name, reason);
+            } else {
+                fetched.add(fp);
+            }
+        }
+        return apply(fetched, remoteNames, fetched.size(), changed.size() - fetched.size());
+    }
+
+    /**
+     * 本地指纹的内容哈希。哈希包含名称，按集合比较时同名的重复指纹也不会被误判为变化。
+     */
+    private Set<String> localHashes() {
+        Set<String> hashes = new HashSet<>();
+        for (Fingerprint fp : ruleLoader.getFingerprints()) hashes.add(hashOf(fp));
+        return hashes;
+    }
+
+    /**
+     * 去掉与本地某个指纹内容完全一致的远程指纹。
+     */
+    private List<Fingerprint> changedOnly(List<Fingerprint> remote) {
+        Set<String> localHashes = localHashes();
+        List<Fingerprint> changed = new ArrayList<>();
+        for (Fingerprint fp : remote) {
+            if (!localHashes.contains(hashOf(fp))) changed.add(fp);
+        }
+        return changed;
+    }
+
+    /**
+     * 合并变化的指纹。没有变化时不发布新快照，也不重写本地文件。
+     */
+    private Result apply(List<Fingerprint> changed, Set<String> remoteNames, int downloaded, int rejected) {
+        int[] counts = new int[2]; // 新增、更新
+        List<String> preserved = new ArrayList<>();
+        if (changed.isEmpty()) {
+            for (Fingerprint fp : ruleLoader.getFingerprints()) {
+                if (fp.getName() != null && !remoteNames.contains(fp.getName())) preserved.add(fp.getName());
+            }
+        } else {
+            ruleLoader.updateRules(fingerprints -> {
+                // 本地有同名指纹时替换最后一个，新指纹按远程顺序全部追加
+                Map<String, Integer> indexes = new LinkedHashMap<>();
+                for (int i = 0; i < fingerprints.size(); i++) {
+                    Fingerprint fp = fingerprints.get(i);
+                    if (fp.getName() == null) continue;
+                    indexes.put(fp.getName(), i);
+                    if (!remoteNames.contains(fp.getName())) preserved.add(fp.getName());
+                }
+                for (Fingerprint fp : changed) {
+                    Integer index = indexes.get(fp.getName());
+                    if (index != null) {
+                        fingerprints.set(index, fp);
+                        counts[1]++;
+                    } else {
+                        fingerprints.add(fp);
+                        counts[0]++;
+                    }
+                }
+            });
+        }
+        int unchanged = remoteNames.size() - counts[0] - counts[1] - rejected;
+        return new Result(false, counts[0], counts[1], Math.max(0, unchanged), downloaded, rejected, preserved);
+    }
+
+    /**
+     * 导出清单：在目录下写入 manifest.json 与 fingerprints/&lt;hash&gt;.json，可直接部署到静态文件服务器。
+     *
+     * @return 写入的指纹数
+     */
+    public int exportManifest(List<Fingerprint> fingerprints, Path dir) throws IOException {
+        Path fpDir = dir.resolve("fingerprints");
+        Files.createDirectories(fpDir);
+        Manifest manifest = new Manifest();
+        manifest.fingerprints = new ArrayList<>();
+        for (Fingerprint fp : fingerprints) {
+            if (RuleStreamReader.validate(fp) != null) continue;
+            byte[] json = mapper.writeValueAsBytes(fp);
+            String hash = Hashing.murmur3_128().hashBytes(json).toString();
+            Files.write(fpDir.resolve(hash + ".json"), json);
+            ManifestEntry entry = new ManifestEntry();
+            entry.name = fp.getName();
+            entry.hash = hash;
+            manifest.fingerprints.add(entry);
+        }
+        mapper.writerWithDefaultPrettyPrinter().writeValue(dir.resolve("manifest.json").toFile(), manifest);
+        return manifest.fingerprints.size();
+    }
+
+    private void saveValidators(PersistedObject data, String url, HttpHeaders headers) {
+        String etag = headers.firstValue("ETag").orElse(null);
+        String lastModified = headers.firstValue("Last-Modified").orElse(null);
+        // 304 响应可能不带验证信息，此时保留原值
+        if (etag == null && lastModified == null && url.equals(data.getString(VALIDATED_URL_KEY))) return;
+        data.setString(VALIDATED_URL_KEY, url);
+        setOrDelete(data, ETAG_KEY, etag);
+        setOrDelete(data, LAST_MODIFIED_KEY, lastModified);
+    }
+
+    private static void setOrDelete(PersistedObject data, String key, String value) {
+        if (value != null) {
+            data.setString(key, value);
+        } else {
+            data.deleteString(key);
+        }
+    }
+
+    /**
+     * 跳过空白后查看第一个字符，对象为清单，否则按指纹数组解析。
+     */
+    private static boolean startsWithObject(InputStream in) throws IOException {
+        while (true) {
+            in.mark(1);
+            int c = in.read();
+            if (c == -1) return false;
+            if (!Character.isWhitespace(c) && c != 0xEF && c != 0xBB && c != 0xBF) {
+                in.reset();
+                return c == '{';
+            }
+        }
+    }
+
+    private void logRejected(int index, String name, String reason) {
+        api.logging().logToError("Skipped invalid remote fingerprint #" + index + (name != null ? " (" + name + ")" : "")
+                + ": " + reason);
+    }
+
+    /**
+     * 一次更新的结果。
+     */
+    public static final class Result {
+        private final boolean notModified;
+        private final int added;
+        private final int updated;
+        private final int unchanged;
+        private final int downloaded;
+        private final int rejected;
+        private final List<String> preserved;
+
+        Result(boolean notModified, int added, int updated, int unchanged, int downloaded, int rejected,
+               List<String> preserved) {
+            this.notModified = notModified;
+            this.added = added;
+            this.updated = updated;
+            this.unchanged = unchanged;
+            this.downloaded = downloaded;
+            this.rejected = rejected;
+            this.preserved = preserved;
+        }
+
+        static Result notModified(int unchanged) {
+            return new Result(true, 0, 0, unchanged, 0, 0, List.of());
+        }
+
+        /** 服务器返回 304 */
+        public boolean isNotModified() { return notModified; }
+        public boolean isChanged() { return added + updated > 0; }
+        public int getAdded() { return added; }
+        public int getUpdated() { return updated; }
+        public int getUnchanged() { return unchanged; }
+        /** 实际下载的指纹数 */
+        public int getDownloaded() { return downloaded; }
+        /** 下载后校验失败被跳过的指纹数（清单模式） */
+        public int getRejected() { return rejected; }
+        /** 仅存在于本地、被保留的指纹名称 */
+        public List<String> getPreserved() { return preserved; }
+
+        @Override
+        public String toString() {
+            return notModified ? "not modified"
+                    : String.format("added=%d, updated=%d, unchanged=%d, downloaded=%d, rejected=%d, preserved=%d",
+                    added, updated, unchanged, downloaded, rejected, preserved.size());
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static final class Manifest {
+        public List<ManifestEntry> fingerprints;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    static final class ManifestEntry {
+        public String name;
+        public String hash;
+        public String url;
+    }
+}
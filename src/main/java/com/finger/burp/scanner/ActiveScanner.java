@@ -5,10 +5,12 @@ import burp.api.montoya.http.HttpService;
 import burp.api.montoya.http.message.requests.HttpRequest;
 import burp.api.montoya.http.message.responses.HttpResponse;
 import burp.api.montoya.http.message.HttpRequestResponse;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.util.concurrent.RateLimiter;
-import com.finger.burp.engine.MatchingEngine;
 import com.finger.burp.model.Fingerprint;
 import com.finger.burp.model.Rule;
+import com.finger.burp.rules.RuleLoader;
 import com.finger.burp.ui.FingerTableModel;
 import com.finger.burp.ui.ScanResult;
 import com.finger.burp.utils.HashUtils;
@@ -19,8 +21,7 @@ import java.util.concurrent.*;
 
 public class ActiveScanner {
     private final MontoyaApi api;
-    private final List<Fingerprint> fingerprints;
-    private final MatchingEngine matchingEngine;
+    private final RuleLoader ruleLoader;
     private final ResultPersistence persistence;
     private Executor executor;
     private final RateLimiter rateLimiter;
@@ -29,19 +30,18 @@ public class ActiveScanner {
     private int scanDepth = 1; // 默认探测深度为 1
 
     // 记录已经执行过完整主动探测的路径 (Host + Path)，防止递归扫描导致的重复
-    private final Set<String> alreadyScannedPaths = Collections.newSetFromMap(new java.util.concurrent.ConcurrentHashMap<>());
+    private volatile SeenSet alreadyScannedPaths;
 
-    public ActiveScanner(MontoyaApi api, List<Fingerprint> fingerprints, FingerTableModel tableModel) {
-        this(api, fingerprints, tableModel, null);
+    public ActiveScanner(MontoyaApi api, RuleLoader ruleLoader, FingerTableModel tableModel) {
+        this(api, ruleLoader, tableModel, null);
     }
 
     /**
      * 主要供测试使用，允许注入自定义 Executor
      */
-    public ActiveScanner(MontoyaApi api, List<Fingerprint> fingerprints, FingerTableModel tableModel, Executor executor) {
+    public ActiveScanner(MontoyaApi api, RuleLoader ruleLoader, FingerTableModel tableModel, Executor executor) {
         this.api = api;
-        this.fingerprints = fingerprints;
-        this.matchingEngine = new MatchingEngine(api, fingerprints);
+        this.ruleLoader = ruleLoader;
         this.persistence = new ResultPersistence();
         this.tableModel = tableModel;
         
@@ -50,6 +50,7 @@ public class ActiveScanner {
         this.config = configPersistence.loadConfig();
         
         this.rateLimiter = RateLimiter.create(config.getRequestsPerSecond());
+        this.alreadyScannedPaths = SeenSet.create(config);
         
         if (executor != null) {
             this.executor = executor;
@@ -68,6 +69,9 @@ public class ActiveScanner {
             tpe.setCorePoolSize(newConfig.getThreadCount());
             tpe.setMaximumPoolSize(newConfig.getThreadCount());
         }
+        if (!alreadyScannedPaths.matches(newConfig)) {
+            alreadyScannedPaths = SeenSet.create(newConfig);
+        }
     }
 
     public void shutdown() {
@@ -133,10 +137,9 @@ public class ActiveScanner {
                 }
 
                 String hostPathKey = baseUrl + pathToScan;
-                if (alreadyScannedPaths.contains(hostPathKey)) {
+                if (!alreadyScannedPaths.add(hostPathKey)) {
                     continue;
                 }
-                alreadyScannedPaths.add(hostPathKey);
 
                 int depth = calculateDepth(pathToScan);
                 if (depth > scanDepth) continue;
@@ -150,6 +153,10 @@ public class ActiveScanner {
         alreadyScannedPaths.clear();
     }
 
+    public SeenSet getScannedPaths() {
+        return alreadyScannedPaths;
+    }
+
     /**
      * 在指定路径下执行实际的扫描任务
      */
@@ -159,7 +166,7 @@ public class ActiveScanner {
 
         // 1. 提取所有定义了 path 或 hash 规则的指纹
         Map<String, List<Fingerprint>> pathRules = new HashMap<>();
-        for (Fingerprint fp : fingerprints) {
+        for (Fingerprint fp : ruleLoader.getFingerprints()) {
             if (fp.getRules() == null) continue;
             for (Rule rule : fp.getRules()) {
                 String location = rule.getLocation();
@@ -233,6 +240,11 @@ public class ActiveScanner {
                         return;
                     }
 
+                    // 同一响应的哈希只计算一次，避免每条 hash 规则重复计算
+                    byte[] bodyBytes = response.body().getBytes();
+                    Supplier<String> murmurHash = Suppliers.memoize(() -> HashUtils.calculateFaviconHash(bodyBytes));
+                    Supplier<String> md5Hash = Suppliers.memoize(() -> HashUtils.calculateMD5(bodyBytes));
+
                     for (Fingerprint fp : relatedFps) {
                             // 检查该指纹下所有对应当前路径的规则 (path 或 hash)
                             for (Rule rule : fp.getRules()) {
@@ -245,7 +257,7 @@ public class ActiveScanner {
                                 }
 
                                 if (path.equals(effectivePath)) {
-                                    if (checkSingleRule(rule, response)) {
+                                    if (checkSingleRule(rule, response, body, murmurHash, md5Hash)) {
                                         String resultUrl = baseUrl + fullPath;
                                         api.logging().logToOutput("[+] Active Match Found: " + fp.getName() + " at " + resultUrl);
                                         persistence.saveResults(resultUrl, Collections.singletonList(fp));
@@ -327,7 +339,7 @@ public class ActiveScanner {
         return scanDepth;
     }
 
-    private boolean checkSingleRule(Rule rule, HttpResponse response) {
+    private boolean checkSingleRule(Rule rule, HttpResponse response, String body, Supplier<String> murmurHash, Supplier<String> md5Hash) {
         // 匹配状态码
         if (rule.getStatus() != null && response.statusCode() != rule.getStatus()) {
             return false;
@@ -335,7 +347,6 @@ public class ActiveScanner {
         
         // 匹配字符串 (AND 逻辑)
         if (rule.getMatch() != null && !rule.getMatch().isEmpty()) {
-            String body = response.bodyToString();
             if (body == null) return false;
             for (String m : rule.getMatch()) {
                 if (!body.contains(m)) {
@@ -346,11 +357,7 @@ public class ActiveScanner {
 
         // 匹配 Hash (支持 MurmurHash3 和 MD5)
         if (rule.getHash() != null && !rule.getHash().isEmpty()) {
-            byte[] bodyBytes = response.body().getBytes();
-            String actualMurmur = HashUtils.calculateFaviconHash(bodyBytes);
-            String actualMD5 = HashUtils.calculateMD5(bodyBytes);
-            
-            if (!rule.getHash().equals(actualMurmur) && !rule.getHash().equalsIgnoreCase(actualMD5)) {
+            if (!rule.getHash().equals(murmurHash.get()) && !rule.getHash().equalsIgnoreCase(md5Hash.get())) {
                 return false;
             }
         }
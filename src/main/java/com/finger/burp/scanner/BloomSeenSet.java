@@ -0,0 +1,122 @@
+package com.finger.burp.scanner;
+
+import com.finger.burp.model.ScannerConfig;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 可扩展的 Bloom filter：当前分段写满后追加一个容量翻倍、误判率减半的新分段，总误判率不超过配置值。
+ * 总内存达到上限后不再扩容，而是丢弃最早的分段（这些键会被重新视为新键）。
+ * 误判意味着少量从未见过的 URL 被当作已扫描而跳过。
+ */
+public class BloomSeenSet implements SeenSet {
+    private static final int INITIAL_CAPACITY = 16 * 1024;
+
+    private final long maxBytes;
+    private final double falsePositiveRate;
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private long bytes;
+    private long dropped;
+
+    public BloomSeenSet(long maxBytes, double falsePositiveRate) {
+        this.maxBytes = maxBytes;
+        this.falsePositiveRate = clampRate(falsePositiveRate);
+        addSegment(INITIAL_CAPACITY, this.falsePositiveRate / 2);
+    }
+
+    @Override
+    public synchronized boolean add(String key) {
+        for (Segment segment : segments) {
+            if (segment.filter.mightContain(key)) return false;
+        }
+        Segment current = segments.getLast();
+        if (current.count >= current.capacity) {
+            // 下一段容量翻倍、误判率减半，使各段误判率之和收敛
+            current = addSegment(current.capacity * 2, current.fpp / 2);
+        }
+        current.filter.put(key);
+        current.count++;
+        return true;
+    }
+
+    private Segment addSegment(long capacity, double fpp) {
+        long segmentBytes = bitsFor(capacity, fpp) / 8;
+        if (segmentBytes > maxBytes / 2 && !segments.isEmpty()) {
+            // 已达到内存上限：保持上一段的规模，丢弃最早的分段腾出空间
+            Segment last = segments.getLast();
+            capacity = last.capacity;
+            fpp = last.fpp;
+            segmentBytes = last.bytes;
+        }
+        while (!segments.isEmpty() && bytes + segmentBytes > maxBytes) {
+            Segment oldest = segments.removeFirst();
+            bytes -= oldest.bytes;
+            dropped += oldest.count;
+        }
+        Segment segment = new Segment(capacity, fpp, segmentBytes);
+        segments.addLast(segment);
+        bytes += segmentBytes;
+        return segment;
+    }
+
+    private static double clampRate(double rate) {
+        return Math.min(0.5, Math.max(1e-9, rate));
+    }
+
+    /**
+     * Bloom filter 在给定容量与误判率下所需的位数。
+     */
+    private static long bitsFor(long capacity, double fpp) {
+        return (long) (-capacity * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+    }
+
+    @Override
+    public synchronized void clear() {
+        segments.clear();
+        bytes = 0;
+        dropped = 0;
+        addSegment(INITIAL_CAPACITY, falsePositiveRate / 2);
+    }
+
+    @Override
+    public synchronized long size() {
+        long count = 0;
+        for (Segment segment : segments) count += segment.count;
+        return count;
+    }
+
+    @Override
+    public synchronized long getEstimatedBytes() {
+        return bytes;
+    }
+
+    @Override
+    public boolean matches(ScannerConfig config) {
+        return config.getSeenSetType() == ScannerConfig.SeenSetType.BLOOM
+                && maxBytes == SeenSet.maxBytesOf(config)
+                && Double.compare(falsePositiveRate, clampRate(config.getSeenSetFalsePositiveRate())) == 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("Bloom %d, segments=%d, forgotten=%d, %dKB", size(), segments.size(), dropped, bytes / 1024);
+    }
+
+    private static final class Segment {
+        final BloomFilter<CharSequence> filter;
+        final long capacity;
+        final double fpp;
+        final long bytes;
+        long count;
+
+        Segment(long capacity, double fpp, long bytes) {
+            this.filter = BloomFilter.create(Funnels.unencodedCharsFunnel(), capacity, fpp);
+            this.capacity = capacity;
+            this.fpp = fpp;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.finger.burp.scanner;
+
+import com.finger.burp.model.ScannerConfig;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 只保存键的 64 位哈希，条目数达到上限后淘汰最久未访问的条目。
+ * 被淘汰的键会被再次视为新键；哈希碰撞的概率可以忽略。
+ */
+public class LruHashSeenSet implements SeenSet {
+    // LinkedHashMap 每个条目（Entry + Long）的大致开销
+    private static final int BYTES_PER_ENTRY = 80;
+    private static final HashFunction HASH = Hashing.farmHashFingerprint64();
+
+    private final long maxBytes;
+    private final int maxEntries;
+    private final LinkedHashMap<Long, Boolean> entries;
+    private long evicted;
+
+    public LruHashSeenSet(long maxBytes) {
+        this.maxBytes = maxBytes;
+        this.maxEntries = (int) Math.min(Integer.MAX_VALUE, Math.max(1, maxBytes / BYTES_PER_ENTRY));
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+                if (size() > maxEntries) {
+                    evicted++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public synchronized boolean add(String key) {
+        return entries.put(HASH.hashUnencodedChars(key).asLong(), Boolean.TRUE) == null;
+    }
+
+    @Override
+    public synchronized void clear() {
+        entries.clear();
+        evicted = 0;
+    }
+
+    @Override
+    public synchronized long size() {
+        return entries.size();
+    }
+
+    @Override
+    public synchronized long getEstimatedBytes() {
+        return (long) entries.size() * BYTES_PER_ENTRY;
+    }
+
+    @Override
+    public boolean matches(ScannerConfig config) {
+        return config.getSeenSetType() == ScannerConfig.SeenSetType.LRU && maxBytes == SeenSet.maxBytesOf(config);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("LRU %d/%d, evicted=%d, %dKB", entries.size(), maxEntries, evicted, getEstimatedBytes() / 1024);
+    }
+}
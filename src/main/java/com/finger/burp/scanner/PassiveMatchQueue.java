@@ -0,0 +1,211 @@
+package com.finger.burp.scanner;
+
+import com.finger.burp.model.ScannerConfig;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 被动匹配的有界交接队列：代理线程只负责入队并立即返回，匹配、结果持久化与表格更新由独立的工作线程完成。
+ * 队列满时按 {@link ScannerConfig.QueuePolicy} 处理；容量 <= 0 时退化为在调用线程中同步执行。
+ */
+public class PassiveMatchQueue {
+    // SAMPLE 策略下，队列满时每 SAMPLE_EVERY 条消息保留一条
+    private static final int SAMPLE_EVERY = 10;
+
+    private final AtomicInteger threadIndex = new AtomicInteger();
+    private final ThreadFactory threadFactory = r -> {
+        Thread t = new Thread(r, "finger-passive-" + threadIndex.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+    };
+
+    private volatile ThreadPoolExecutor executor;
+    private volatile ScannerConfig.QueuePolicy policy;
+    private int capacity;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder overflows = new LongAdder();
+    private final LongAdder lagNanos = new LongAdder();
+    private final AtomicLong maxLagNanos = new AtomicLong();
+    private final AtomicInteger maxDepth = new AtomicInteger();
+
+    public PassiveMatchQueue(ScannerConfig config) {
+        updateConfig(config);
+    }
+
+    /**
+     * 调整线程数与策略；容量变化时新建线程池，旧线程池处理完已入队的消息后退出。
+     */
+    public synchronized void updateConfig(ScannerConfig config) {
+        this.policy = config.getPassiveQueuePolicy();
+        int threads = Math.max(1, config.getPassiveWorkerThreads());
+        int newCapacity = config.getPassiveQueueCapacity();
+
+        ThreadPoolExecutor old = executor;
+        if (old != null && newCapacity == capacity) {
+            if (threads > old.getMaximumPoolSize()) {
+                old.setMaximumPoolSize(threads);
+                old.setCorePoolSize(threads);
+            } else {
+                old.setCorePoolSize(threads);
+                old.setMaximumPoolSize(threads);
+            }
+            return;
+        }
+
+        capacity = newCapacity;
+        executor = newCapacity > 0
+                ? new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(newCapacity), threadFactory, new OverflowHandler())
+                : null;
+        if (old != null) {
+            old.shutdown();
+        }
+    }
+
+    /**
+     * 提交一条待匹配的消息；未启用队列时直接在当前线程执行，队列已关闭时丢弃。
+     */
+    public void submit(Runnable task) {
+        submitted.increment();
+        ThreadPoolExecutor current = executor;
+        if (current == null) {
+            run(task, System.nanoTime());
+            return;
+        }
+        long enqueued = System.nanoTime();
+        current.execute(() -> run(task, enqueued));
+        int depth = current.getQueue().size();
+        maxDepth.accumulateAndGet(depth, Math::max);
+    }
+
+    private void run(Runnable task, long enqueued) {
+        long lag = System.nanoTime() - enqueued;
+        lagNanos.add(lag);
+        maxLagNanos.accumulateAndGet(lag, Math::max);
+        try {
+            task.run();
+        } finally {
+            processed.increment();
+        }
+    }
+
+    public void shutdown() {
+        ThreadPoolExecutor current = executor;
+        if (current == null) return;
+        current.shutdown();
+        try {
+            if (!current.awaitTermination(5, TimeUnit.SECONDS)) {
+                current.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            current.shutdownNow();
+        }
+    }
+
+    /**
+     * 停止接收新消息并等待已入队的消息全部处理完，供离线回放等批处理场景使用。
+     */
+    public void drain() throws InterruptedException {
+        ThreadPoolExecutor current = executor;
+        if (current == null) return;
+        current.shutdown();
+        current.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    /** 当前排队等待匹配的消息数 */
+    public int getDepth() {
+        ThreadPoolExecutor current = executor;
+        return current != null ? current.getQueue().size() : 0;
+    }
+
+    public int getMaxDepth() { return maxDepth.get(); }
+    public long getSubmitted() { return submitted.sum(); }
+    public long getProcessed() { return processed.sum(); }
+    /** 因队列已满或已关闭被丢弃的消息数 */
+    public long getDropped() { return dropped.sum(); }
+
+    /** 从入队到开始匹配的平均等待时间（毫秒） */
+    public double getAverageLagMillis() {
+        long count = processed.sum();
+        return count == 0 ? 0 : lagNanos.sum() / 1_000_000.0 / count;
+    }
+
+    public double getMaxLagMillis() {
+        return maxLagNanos.get() / 1_000_000.0;
+    }
+
+    public void resetStats() {
+        submitted.reset();
+        processed.reset();
+        dropped.reset();
+        overflows.reset();
+        lagNanos.reset();
+        maxLagNanos.set(0);
+        maxDepth.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("depth=%d, maxDepth=%d, submitted=%d, processed=%d, dropped=%d, avgLag=%.1fms, maxLag=%.1fms",
+                getDepth(), getMaxDepth(), getSubmitted(), getProcessed(), getDropped(),
+                getAverageLagMillis(), getMaxLagMillis());
+    }
+
+    private final class OverflowHandler implements RejectedExecutionHandler {
+        @Override
+        public void rejectedExecution(Runnable r, ThreadPoolExecutor pool) {
+            if (pool.isShutdown()) {
+                // 线程池已被替换时交给当前线程池；已关闭时丢弃，不在代理线程中匹配
+                ThreadPoolExecutor current = executor;
+                if (current != null && current != pool && !current.isShutdown()) {
+                    current.execute(r);
+                } else {
+                    dropped.increment();
+                }
+                return;
+            }
+            switch (policy) {
+                case BLOCK:
+                    try {
+                        pool.getQueue().put(r);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        dropped.increment();
+                    }
+                    break;
+                case SAMPLE:
+                    overflows.increment();
+                    if (overflows.sum() % SAMPLE_EVERY != 0) {
+                        dropped.increment();
+                    } else {
+                        // 保留本条，丢弃最旧的一条
+                        replaceOldest(r, pool);
+                    }
+                    break;
+                case DROP_OLDEST:
+                    replaceOldest(r, pool);
+                    break;
+                default:
+                    dropped.increment();
+            }
+        }
+
+        private void replaceOldest(Runnable r, ThreadPoolExecutor pool) {
+            while (!pool.getQueue().offer(r)) {
+                if (pool.getQueue().poll() != null) {
+                    dropped.increment();
+                }
+            }
+        }
+    }
+}
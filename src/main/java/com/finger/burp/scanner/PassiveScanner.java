@@ -1,6 +1,8 @@
 package com.finger.burp.scanner;
 
 import burp.api.montoya.MontoyaApi;
+import burp.api.montoya.http.HttpService;
+import burp.api.montoya.http.message.responses.HttpResponse;
 import burp.api.montoya.proxy.http.ProxyRequestHandler;
 import burp.api.montoya.proxy.http.ProxyRequestReceivedAction;
 import burp.api.montoya.proxy.http.ProxyRequestToBeSentAction;
@@ -13,14 +15,15 @@ import com.finger.burp.engine.MatchingEngine;
 import com.finger.burp.engine.MatchResult;
 import com.finger.burp.model.Fingerprint;
 import com.finger.burp.model.Rule;
+import com.finger.burp.model.ScannerConfig;
+import com.finger.burp.rules.RuleLoader;
 import com.finger.burp.ui.FingerTableModel;
 import com.finger.burp.ui.ScanResult;
+import com.finger.burp.utils.ConfigPersistence;
 import com.finger.burp.utils.ResultPersistence;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 public class PassiveScanner implements ProxyResponseHandler, ProxyRequestHandler {
@@ -29,20 +32,26 @@ public class PassiveScanner implements ProxyResponseHandler, ProxyRequestHandler
     private final ResultPersistence persistence;
     private final ActiveScanner activeScanner;
     private final FingerTableModel tableModel;
+    // 匹配在独立的工作线程中进行，代理线程只负责入队
+    private final PassiveMatchQueue matchQueue;
     
     // 主动探测开关
-    private boolean activeScanEnabled = true;
+    private volatile boolean activeScanEnabled = true;
     // 已扫描过主动探测的路径集合 (Host + Path)，用于去重
-    private final Set<String> scannedActivePaths = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private volatile SeenSet scannedActivePaths;
     // 已扫描过的 URL 集合，用于被动匹配去重
-    private final Set<String> scannedUrls = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private volatile SeenSet scannedUrls;
 
-    public PassiveScanner(MontoyaApi api, List<Fingerprint> fingerprints, FingerTableModel tableModel) {
+    public PassiveScanner(MontoyaApi api, RuleLoader ruleLoader, FingerTableModel tableModel) {
         this.api = api;
-        this.matchingEngine = new MatchingEngine(api, fingerprints);
+        ScannerConfig config = new ConfigPersistence(api).loadConfig();
+        this.matchingEngine = new MatchingEngine(api, ruleLoader, config);
+        this.matchQueue = new PassiveMatchQueue(config);
+        this.scannedActivePaths = SeenSet.create(config);
+        this.scannedUrls = SeenSet.create(config);
         this.persistence = new ResultPersistence();
         this.tableModel = tableModel;
-        this.activeScanner = new ActiveScanner(api, fingerprints, tableModel);
+        this.activeScanner = new ActiveScanner(api, ruleLoader, tableModel);
     }
 
     @Override
@@ -50,12 +59,13 @@ public class PassiveScanner implements ProxyResponseHandler, ProxyRequestHandler
         String url = interceptedRequest.url();
         String path = interceptedRequest.path();
         
-        // 1. 请求匹配逻辑
-        List<MatchResult> matches = matchingEngine.findMatches(interceptedRequest, path);
-        
-        if (!matches.isEmpty()) {
-            processMatches(url, matches, "Passive (Request)");
-        }
+        // 1. 请求匹配逻辑（Montoya 的消息对象不可变，入队时保留引用即可）
+        matchQueue.submit(() -> {
+            List<MatchResult> matches = matchingEngine.findMatches(interceptedRequest, path, url);
+            if (!matches.isEmpty()) {
+                processMatches(url, matches, "Passive (Request)");
+            }
+        });
         
         return ProxyRequestReceivedAction.continueWith(interceptedRequest);
     }
@@ -69,16 +79,23 @@ public class PassiveScanner implements ProxyResponseHandler, ProxyRequestHandler
     public ProxyResponseReceivedAction handleResponseReceived(InterceptedResponse interceptedResponse) {
         String url = interceptedResponse.initiatingRequest().url();
         String path = interceptedResponse.initiatingRequest().path();
-        String host = interceptedResponse.initiatingRequest().httpService().toString();
+        HttpService service = interceptedResponse.initiatingRequest().httpService();
         
-        // 1. URL 级别去重：如果已经扫描过该 URL，则不再进行被动匹配
-        if (scannedUrls.contains(url)) {
-            return ProxyResponseReceivedAction.continueWith(interceptedResponse);
-        }
-        scannedUrls.add(url);
+        // 被动匹配与主动探测触发交给工作线程，代理线程立即返回
+        matchQueue.submit(() -> processResponse(interceptedResponse, url, path, service));
         
-        // 2. 被动匹配逻辑
-        List<MatchResult> matches = matchingEngine.findMatches(interceptedResponse, path);
+        return ProxyResponseReceivedAction.continueWith(interceptedResponse);
+    }
+
+    private void processResponse(HttpResponse response, String url, String path, HttpService service) {
+        // 1. URL 级别去重：如果已经扫描过该 URL，则不再进行被动匹配。
+        // 在工作线程中标记，队列溢出丢弃的消息不会让该 URL 被误记为已扫描
+        if (!scannedUrls.add(url)) {
+            return;
+        }
+
+        // 2. 被动匹配
+        List<MatchResult> matches = matchingEngine.findMatches(response, path, url);
         
         if (!matches.isEmpty()) {
             processMatches(url, matches, "Passive (Response)");
@@ -86,9 +103,8 @@ public class PassiveScanner implements ProxyResponseHandler, ProxyRequestHandler
 
         // 3. 主动探测逻辑触发
         if (activeScanEnabled) {
-            String fullPath = interceptedResponse.initiatingRequest().path();
             // 提取纯路径部分，去掉查询参数
-            String basePath = fullPath.contains("?") ? fullPath.substring(0, fullPath.indexOf("?")) : fullPath;
+            String basePath = path.contains("?") ? path.substring(0, path.indexOf("?")) : path;
             
             // 进一步规范化路径：统一去掉结尾的 /，防止 /admin 和 /admin/ 重复触发
             String normalizedPath = basePath;
@@ -96,14 +112,11 @@ public class PassiveScanner implements ProxyResponseHandler, ProxyRequestHandler
                 normalizedPath = normalizedPath.substring(0, normalizedPath.length() - 1);
             }
             
-            String hostPathKey = host + normalizedPath;
-            if (!scannedActivePaths.contains(hostPathKey)) {
-                scannedActivePaths.add(hostPathKey);
-                activeScanner.scan(interceptedResponse.initiatingRequest().httpService(), basePath);
+            String hostPathKey = service.toString() + normalizedPath;
+            if (scannedActivePaths.add(hostPathKey)) {
+                activeScanner.scan(service, basePath);
             }
         }
-        
-        return ProxyResponseReceivedAction.continueWith(interceptedResponse);
     }
 
     private void processMatches(String url, List<MatchResult> matches, String method) {
@@ -157,6 +170,33 @@ public class PassiveScanner implements ProxyResponseHandler, ProxyRequestHandler
         return activeScanner;
     }
 
+    public MatchingEngine getMatchingEngine() {
+        return matchingEngine;
+    }
+
+    public PassiveMatchQueue getMatchQueue() {
+        return matchQueue;
+    }
+
+    /**
+     * 同步配置到被动匹配引擎与主动扫描器。
+     */
+    public void updateConfig(ScannerConfig config) {
+        matchingEngine.updateConfig(config);
+        matchQueue.updateConfig(config);
+        activeScanner.updateConfig(config);
+        // 去重集合的类型或上限变化时重新创建（已记录的内容随之清空）
+        if (!scannedUrls.matches(config)) scannedUrls = SeenSet.create(config);
+        if (!scannedActivePaths.matches(config)) scannedActivePaths = SeenSet.create(config);
+    }
+
+    /**
+     * 各去重集合的占用情况。
+     */
+    public String getSeenSetStats() {
+        return "urls[" + scannedUrls + "] paths[" + scannedActivePaths + "] active[" + activeScanner.getScannedPaths() + "]";
+    }
+
     public void setActiveScanEnabled(boolean enabled) {
         this.activeScanEnabled = enabled;
     }
@@ -168,14 +208,17 @@ public class PassiveScanner implements ProxyResponseHandler, ProxyRequestHandler
     public void clearCache() {
         scannedActivePaths.clear();
         scannedUrls.clear();
+        matchingEngine.getConfirmedFingerprints().clear();
         if (activeScanner != null) {
             activeScanner.clearCache();
         }
     }
 
     public void shutdown() {
+        matchQueue.shutdown();
         if (activeScanner != null) {
             activeScanner.shutdown();
         }
+        matchingEngine.shutdown();
     }
 }
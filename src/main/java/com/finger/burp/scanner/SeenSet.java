@@ -0,0 +1,41 @@
+package com.finger.burp.scanner;
+
+import com.finger.burp.model.ScannerConfig;
+
+/**
+ * 去重用的“已见”集合，内存占用有上限。
+ * 超出上限后，实现可以遗忘较早的元素，也可以有少量误判；代价只是重复扫描或漏扫少量 URL。
+ */
+public interface SeenSet {
+
+    /**
+     * 记录一个键。
+     *
+     * @return 此前未见过时返回 true
+     */
+    boolean add(String key);
+
+    void clear();
+
+    /** 当前记录的元素数（近似） */
+    long size();
+
+    /** 估算的内存占用（字节） */
+    long getEstimatedBytes();
+
+    /** 是否与给定配置一致；不一致时调用方需要重新创建 */
+    boolean matches(ScannerConfig config);
+
+    static SeenSet create(ScannerConfig config) {
+        long maxBytes = maxBytesOf(config);
+        if (config.getSeenSetType() == ScannerConfig.SeenSetType.BLOOM) {
+            return new BloomSeenSet(maxBytes, config.getSeenSetFalsePositiveRate());
+        }
+        return new LruHashSeenSet(maxBytes);
+    }
+
+    /** 配置的内存上限，最少 64KB */
+    static long maxBytesOf(ScannerConfig config) {
+        return Math.max(64L * 1024, (long) config.getSeenSetMaxKB() * 1024);
+    }
+}
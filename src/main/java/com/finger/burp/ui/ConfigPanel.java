@@ -1,7 +1,9 @@
 package com.finger.burp.ui;
 
 import burp.api.montoya.MontoyaApi;
+import com.finger.burp.engine.RuleQuarantine;
 import com.finger.burp.model.ScannerConfig;
+import com.finger.burp.rules.RuleUpdater;
 import com.finger.burp.scanner.PassiveScanner;
 import com.finger.burp.utils.ConfigPersistence;
 
@@ -9,6 +11,7 @@ import com.finger.burp.utils.I18n;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
+import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -19,6 +22,7 @@ public class ConfigPanel extends JPanel {
     private final MontoyaApi api;
     private final ConfigPersistence configPersistence;
     private final PassiveScanner passiveScanner;
+    private final RuleUpdater ruleUpdater;
     private final FingerTabPanel parentTabPanel;
     private ScannerConfig config;
 
@@ -26,12 +30,30 @@ public class ConfigPanel extends JPanel {
     private JTextArea bodyKeywordsArea;
     private JSpinner threadCountSpinner;
     private JSpinner rpsSpinner;
+    private JSpinner scanHeadSpinner;
+    private JSpinner scanTailSpinner;
+    private JSpinner hashMaxSpinner;
+    private JSpinner regexTimeoutSpinner;
+    private JSpinner parallelThresholdSpinner;
+    private JSpinner passiveThreadsSpinner;
+    private JSpinner passiveQueueSpinner;
+    private JComboBox<ScannerConfig.QueuePolicy> queuePolicyComboBox;
+    private JSpinner matchCacheSpinner;
+    private JComboBox<ScannerConfig.SeenSetType> seenSetTypeComboBox;
+    private JSpinner seenSetMaxSpinner;
+    private JSpinner seenSetFppSpinner;
+    private JComboBox<ScannerConfig.RegexBackend> regexBackendComboBox;
+    private JCheckBox collectAllEvidenceCheckBox;
+    private JCheckBox ruleProfilingCheckBox;
+    private JCheckBox skipConfirmedCheckBox;
     private JComboBox<I18n.Language> languageComboBox;
     private JTextField updateUrlField;
+    private JSpinner updateIntervalSpinner;
 
-    public ConfigPanel(MontoyaApi api, PassiveScanner passiveScanner, FingerTabPanel parentTabPanel) {
+    public ConfigPanel(MontoyaApi api, PassiveScanner passiveScanner, RuleUpdater ruleUpdater, FingerTabPanel parentTabPanel) {
         this.api = api;
         this.passiveScanner = passiveScanner;
+        this.ruleUpdater = ruleUpdater;
         this.parentTabPanel = parentTabPanel;
         this.configPersistence = new ConfigPersistence(api);
         this.config = configPersistence.loadConfig();
@@ -39,8 +61,8 @@ public class ConfigPanel extends JPanel {
         // 初始化语言设置
         I18n.setLanguage(config.getLanguage());
 
-        // 同步配置到 ActiveScanner
-        passiveScanner.getActiveScanner().updateConfig(this.config);
+        // 同步配置到匹配引擎与 ActiveScanner
+        passiveScanner.updateConfig(this.config);
 
         setLayout(new BorderLayout());
         setBorder(new EmptyBorder(10, 10, 10, 10));
@@ -91,8 +113,8 @@ public class ConfigPanel extends JPanel {
         mainPanel.add(Box.createVerticalStrut(10));
 
         // 3. 线程数和 RPS
-        JPanel settingsPanel = new JPanel(new GridLayout(2, 2, 5, 5));
-        settingsPanel.setMaximumSize(new Dimension(400, 60));
+        JPanel settingsPanel = new JPanel(new GridLayout(15, 2, 5, 5));
+        settingsPanel.setMaximumSize(new Dimension(400, 450));
         settingsPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
 
         settingsPanel.add(new JLabel(I18n.get("config_thread_count")));
@@ -103,7 +125,149 @@ public class ConfigPanel extends JPanel {
         rpsSpinner = new JSpinner(new SpinnerNumberModel(config.getRequestsPerSecond(), 0.1, 1000.0, 1.0));
         settingsPanel.add(rpsSpinner);
 
+        // 响应体扫描窗口（界面以 KB 为单位，0 表示不限制）
+        settingsPanel.add(new JLabel(I18n.get("config_scan_head")));
+        scanHeadSpinner = new JSpinner(new SpinnerNumberModel(config.getBodyScanHeadBytes() / 1024, 0, 102400, 64));
+        settingsPanel.add(scanHeadSpinner);
+
+        settingsPanel.add(new JLabel(I18n.get("config_scan_tail")));
+        scanTailSpinner = new JSpinner(new SpinnerNumberModel(config.getBodyScanTailBytes() / 1024, 0, 102400, 16));
+        settingsPanel.add(scanTailSpinner);
+
+        settingsPanel.add(new JLabel(I18n.get("config_hash_max")));
+        hashMaxSpinner = new JSpinner(new SpinnerNumberModel(config.getHashMaxBodyBytes() / 1024, 0, 102400, 256));
+        settingsPanel.add(hashMaxSpinner);
+
+        settingsPanel.add(new JLabel(I18n.get("config_regex_timeout")));
+        regexTimeoutSpinner = new JSpinner(new SpinnerNumberModel(config.getRegexTimeoutMillis(), 0, 60000, 50));
+        settingsPanel.add(regexTimeoutSpinner);
+
+        settingsPanel.add(new JLabel(I18n.get("config_parallel_threshold")));
+        parallelThresholdSpinner = new JSpinner(new SpinnerNumberModel(config.getParallelBodyBytes() / 1024, 0, 1024000, 256));
+        settingsPanel.add(parallelThresholdSpinner);
+
+        settingsPanel.add(new JLabel(I18n.get("config_regex_backend")));
+        regexBackendComboBox = new JComboBox<>(ScannerConfig.RegexBackend.values());
+        regexBackendComboBox.setSelectedItem(config.getRegexBackend());
+        regexBackendComboBox.setToolTipText(I18n.get("config_regex_backend_tip"));
+        settingsPanel.add(regexBackendComboBox);
+
+        // 被动匹配队列（容量为 0 表示在代理线程中同步匹配）
+        settingsPanel.add(new JLabel(I18n.get("config_passive_threads")));
+        passiveThreadsSpinner = new JSpinner(new SpinnerNumberModel(config.getPassiveWorkerThreads(), 1, 64, 1));
+        settingsPanel.add(passiveThreadsSpinner);
+
+        settingsPanel.add(new JLabel(I18n.get("config_passive_queue")));
+        passiveQueueSpinner = new JSpinner(new SpinnerNumberModel(config.getPassiveQueueCapacity(), 0, 100000, 100));
+        settingsPanel.add(passiveQueueSpinner);
+
+        settingsPanel.add(new JLabel(I18n.get("config_queue_policy")));
+        queuePolicyComboBox = new JComboBox<>(ScannerConfig.QueuePolicy.values());
+        queuePolicyComboBox.setSelectedItem(config.getPassiveQueuePolicy());
+        queuePolicyComboBox.setToolTipText(I18n.get("config_queue_policy_tip"));
+        settingsPanel.add(queuePolicyComboBox);
+
+        settingsPanel.add(new JLabel(I18n.get("config_match_cache")));
+        matchCacheSpinner = new JSpinner(new SpinnerNumberModel(config.getMatchCacheEntries(), 0, 1000000, 1024));
+        settingsPanel.add(matchCacheSpinner);
+
+        // URL/路径去重集合
+        settingsPanel.add(new JLabel(I18n.get("config_seen_set_type")));
+        seenSetTypeComboBox = new JComboBox<>(ScannerConfig.SeenSetType.values());
+        seenSetTypeComboBox.setSelectedItem(config.getSeenSetType());
+        seenSetTypeComboBox.setToolTipText(I18n.get("config_seen_set_type_tip"));
+        settingsPanel.add(seenSetTypeComboBox);
+
+        settingsPanel.add(new JLabel(I18n.get("config_seen_set_max")));
+        seenSetMaxSpinner = new JSpinner(new SpinnerNumberModel(config.getSeenSetMaxKB(), 64, 1024 * 1024, 1024));
+        settingsPanel.add(seenSetMaxSpinner);
+
+        settingsPanel.add(new JLabel(I18n.get("config_seen_set_fpp")));
+        seenSetFppSpinner = new JSpinner(new SpinnerNumberModel(config.getSeenSetFalsePositiveRate(), 0.000001, 0.1, 0.001));
+        seenSetFppSpinner.setEditor(new JSpinner.NumberEditor(seenSetFppSpinner, "0.######"));
+        settingsPanel.add(seenSetFppSpinner);
+
         mainPanel.add(settingsPanel);
+        mainPanel.add(Box.createVerticalStrut(5));
+
+        collectAllEvidenceCheckBox = new JCheckBox(I18n.get("config_collect_all_evidence"), config.isCollectAllEvidence());
+        collectAllEvidenceCheckBox.setToolTipText(I18n.get("config_collect_all_evidence_tip"));
+        collectAllEvidenceCheckBox.setAlignmentX(Component.LEFT_ALIGNMENT);
+        mainPanel.add(collectAllEvidenceCheckBox);
+
+        ruleProfilingCheckBox = new JCheckBox(I18n.get("config_rule_profiling"), config.isRuleProfiling());
+        ruleProfilingCheckBox.setAlignmentX(Component.LEFT_ALIGNMENT);
+        mainPanel.add(ruleProfilingCheckBox);
+
+        skipConfirmedCheckBox = new JCheckBox(I18n.get("config_skip_confirmed"), config.isSkipConfirmedFingerprints());
+        skipConfirmedCheckBox.setToolTipText(I18n.get("config_skip_confirmed_tip"));
+        skipConfirmedCheckBox.setAlignmentX(Component.LEFT_ALIGNMENT);
+        mainPanel.add(skipConfirmedCheckBox);
+
+        // 扫描窗口统计，便于调整窗口大小
+        JPanel statsPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        statsPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        JLabel windowStatsLabel = new JLabel(I18n.get("config_window_stats") + passiveScanner.getMatchingEngine().getWindowStats());
+        windowStatsLabel.setForeground(Color.GRAY);
+        JButton refreshStatsButton = new JButton(I18n.get("config_refresh_stats"));
+        refreshStatsButton.addActionListener(e -> windowStatsLabel.setText(
+                I18n.get("config_window_stats") + passiveScanner.getMatchingEngine().getWindowStats()));
+        statsPanel.add(refreshStatsButton);
+        statsPanel.add(windowStatsLabel);
+        mainPanel.add(statsPanel);
+
+        // 被动匹配队列深度与延迟，便于调整工作线程数
+        JPanel queueStatsPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        queueStatsPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        JLabel queueStatsLabel = new JLabel(I18n.get("config_queue_stats") + passiveScanner.getMatchQueue());
+        queueStatsLabel.setForeground(Color.GRAY);
+        JButton refreshQueueButton = new JButton(I18n.get("config_refresh_stats"));
+        refreshQueueButton.addActionListener(e -> queueStatsLabel.setText(
+                I18n.get("config_queue_stats") + passiveScanner.getMatchQueue()));
+        queueStatsPanel.add(refreshQueueButton);
+        queueStatsPanel.add(queueStatsLabel);
+        mainPanel.add(queueStatsPanel);
+
+        // 匹配结果缓存命中率与内存占用
+        JPanel cacheStatsPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        cacheStatsPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        JLabel cacheStatsLabel = new JLabel(I18n.get("config_cache_stats") + passiveScanner.getMatchingEngine().getResultCache());
+        cacheStatsLabel.setForeground(Color.GRAY);
+        JButton refreshCacheButton = new JButton(I18n.get("config_refresh_stats"));
+        refreshCacheButton.addActionListener(e -> cacheStatsLabel.setText(
+                I18n.get("config_cache_stats") + passiveScanner.getMatchingEngine().getResultCache()));
+        cacheStatsPanel.add(refreshCacheButton);
+        cacheStatsPanel.add(cacheStatsLabel);
+        mainPanel.add(cacheStatsPanel);
+
+        // 去重集合占用
+        JPanel seenStatsPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        seenStatsPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        JLabel seenStatsLabel = new JLabel(I18n.get("config_seen_set_stats") + passiveScanner.getSeenSetStats());
+        seenStatsLabel.setForeground(Color.GRAY);
+        JButton refreshSeenButton = new JButton(I18n.get("config_refresh_stats"));
+        refreshSeenButton.addActionListener(e -> seenStatsLabel.setText(
+                I18n.get("config_seen_set_stats") + passiveScanner.getSeenSetStats()));
+        seenStatsPanel.add(refreshSeenButton);
+        seenStatsPanel.add(seenStatsLabel);
+        mainPanel.add(seenStatsPanel);
+
+        // 已确认指纹跳过统计
+        JPanel confirmedStatsPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        confirmedStatsPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        JLabel confirmedStatsLabel = new JLabel(I18n.get("config_confirmed_stats") + passiveScanner.getMatchingEngine().getConfirmedFingerprints());
+        confirmedStatsLabel.setForeground(Color.GRAY);
+        JButton refreshConfirmedButton = new JButton(I18n.get("config_refresh_stats"));
+        refreshConfirmedButton.addActionListener(e -> confirmedStatsLabel.setText(
+                I18n.get("config_confirmed_stats") + passiveScanner.getMatchingEngine().getConfirmedFingerprints()));
+        confirmedStatsPanel.add(refreshConfirmedButton);
+        confirmedStatsPanel.add(confirmedStatsLabel);
+        mainPanel.add(confirmedStatsPanel);
+        mainPanel.add(Box.createVerticalStrut(10));
+
+        // 被隔离的慢规则
+        mainPanel.add(createSectionLabel(I18n.get("config_quarantine")));
+        mainPanel.add(createQuarantinePanel());
         mainPanel.add(Box.createVerticalStrut(15));
 
         // 4. 规则更新地址
@@ -117,6 +281,12 @@ public class ConfigPanel extends JPanel {
         hintLabel.setFont(hintLabel.getFont().deriveFont(11f));
         hintLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
         mainPanel.add(hintLabel);
+        JPanel updateIntervalPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 0, 5));
+        updateIntervalPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        updateIntervalPanel.add(new JLabel(I18n.get("config_update_interval")));
+        updateIntervalSpinner = new JSpinner(new SpinnerNumberModel(config.getUpdateCheckHours(), 0, 24 * 7, 1));
+        updateIntervalPanel.add(updateIntervalSpinner);
+        mainPanel.add(updateIntervalPanel);
         mainPanel.add(Box.createVerticalStrut(20));
 
         // 5. 保存按钮
@@ -131,6 +301,60 @@ public class ConfigPanel extends JPanel {
         repaint();
     }
 
+    private JPanel createQuarantinePanel() {
+        RuleQuarantine quarantine = passiveScanner.getMatchingEngine().getQuarantine();
+        DefaultTableModel model = new DefaultTableModel(new Object[]{
+                I18n.get("column_name"), I18n.get("config_quarantine_pattern"),
+                I18n.get("config_quarantine_elapsed"), I18n.get("column_url")}, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        List<RuleQuarantine.Entry> shown = new ArrayList<>();
+        Runnable reload = () -> {
+            shown.clear();
+            shown.addAll(quarantine.getEntries());
+            model.setRowCount(0);
+            for (RuleQuarantine.Entry entry : shown) {
+                model.addRow(new Object[]{entry.getFingerprint().getName(), entry.getPattern(),
+                        entry.getElapsedMillis(), entry.getUrl() != null ? entry.getUrl() : ""});
+            }
+        };
+        reload.run();
+
+        JTable table = new JTable(model);
+        JScrollPane scrollPane = new JScrollPane(table);
+        scrollPane.setPreferredSize(new Dimension(800, 100));
+
+        JButton refreshButton = new JButton(I18n.get("config_refresh_stats"));
+        refreshButton.addActionListener(e -> reload.run());
+        JButton releaseButton = new JButton(I18n.get("config_quarantine_release"));
+        releaseButton.addActionListener(e -> {
+            for (int row : table.getSelectedRows()) {
+                quarantine.release(shown.get(row).getRule());
+            }
+            reload.run();
+        });
+        JButton releaseAllButton = new JButton(I18n.get("config_quarantine_release_all"));
+        releaseAllButton.addActionListener(e -> {
+            quarantine.clear();
+            reload.run();
+        });
+
+        JPanel buttons = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        buttons.add(refreshButton);
+        buttons.add(releaseButton);
+        buttons.add(releaseAllButton);
+
+        JPanel panel = new JPanel(new BorderLayout());
+        panel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        panel.setMaximumSize(new Dimension(800, 150));
+        panel.add(scrollPane, BorderLayout.CENTER);
+        panel.add(buttons, BorderLayout.SOUTH);
+        return panel;
+    }
+
     private JLabel createSectionLabel(String text) {
         JLabel label = new JLabel(text);
         label.setFont(label.getFont().deriveFont(Font.BOLD));
@@ -158,14 +382,32 @@ public class ConfigPanel extends JPanel {
             config.setExcludeBodyKeywords(keywords);
             config.setThreadCount((int) threadCountSpinner.getValue());
             config.setRequestsPerSecond((double) rpsSpinner.getValue());
+            config.setBodyScanHeadBytes((int) scanHeadSpinner.getValue() * 1024);
+            config.setBodyScanTailBytes((int) scanTailSpinner.getValue() * 1024);
+            config.setHashMaxBodyBytes((int) hashMaxSpinner.getValue() * 1024);
+            config.setCollectAllEvidence(collectAllEvidenceCheckBox.isSelected());
+            config.setRuleProfiling(ruleProfilingCheckBox.isSelected());
+            config.setSkipConfirmedFingerprints(skipConfirmedCheckBox.isSelected());
+            config.setRegexTimeoutMillis((int) regexTimeoutSpinner.getValue());
+            config.setParallelBodyBytes((int) parallelThresholdSpinner.getValue() * 1024);
+            config.setRegexBackend((ScannerConfig.RegexBackend) regexBackendComboBox.getSelectedItem());
+            config.setPassiveWorkerThreads((int) passiveThreadsSpinner.getValue());
+            config.setPassiveQueueCapacity((int) passiveQueueSpinner.getValue());
+            config.setPassiveQueuePolicy((ScannerConfig.QueuePolicy) queuePolicyComboBox.getSelectedItem());
+            config.setMatchCacheEntries((int) matchCacheSpinner.getValue());
+            config.setSeenSetType((ScannerConfig.SeenSetType) seenSetTypeComboBox.getSelectedItem());
+            config.setSeenSetMaxKB((int) seenSetMaxSpinner.getValue());
+            config.setSeenSetFalsePositiveRate((double) seenSetFppSpinner.getValue());
             config.setUpdateUrl(updateUrlField.getText().trim());
+            config.setUpdateCheckHours((int) updateIntervalSpinner.getValue());
             
             I18n.Language newLang = (I18n.Language) languageComboBox.getSelectedItem();
             config.setLanguage(newLang);
             I18n.setLanguage(newLang);
 
             configPersistence.saveConfig(config);
-            passiveScanner.getActiveScanner().updateConfig(config);
+            passiveScanner.updateConfig(config);
+            ruleUpdater.schedule(config.getUpdateCheckHours(), () -> configPersistence.loadConfig().getUpdateUrl());
 
             // 刷新所有 UI
             parentTabPanel.refreshI18n();
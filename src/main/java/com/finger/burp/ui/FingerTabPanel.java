@@ -1,8 +1,8 @@
 package com.finger.burp.ui;
 
 import burp.api.montoya.MontoyaApi;
-import com.finger.burp.model.Fingerprint;
 import com.finger.burp.rules.RuleLoader;
+import com.finger.burp.rules.RuleUpdater;
 import com.finger.burp.scanner.PassiveScanner;
 import com.finger.burp.utils.I18n;
 
@@ -10,7 +10,6 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.datatransfer.Clipboard;
 import java.awt.datatransfer.StringSelection;
-import java.util.List;
 
 public class FingerTabPanel extends JTabbedPane {
     private final MontoyaApi api;
@@ -18,7 +17,7 @@ public class FingerTabPanel extends JTabbedPane {
     private final FingerDetailTableModel detailTableModel;
     private final PassiveScanner passiveScanner;
     private final RuleLoader ruleLoader;
-    private final List<Fingerprint> fingerprints;
+    private final RuleUpdater ruleUpdater;
     private final JTable hostTable;
     private final JTable detailTable;
 
@@ -31,13 +30,14 @@ public class FingerTabPanel extends JTabbedPane {
     private RuleManagerPanel ruleManagerPanel;
     private ConfigPanel configPanel;
 
-    public FingerTabPanel(MontoyaApi api, FingerTableModel tableModel, PassiveScanner passiveScanner, RuleLoader ruleLoader, List<Fingerprint> fingerprints) {
+    public FingerTabPanel(MontoyaApi api, FingerTableModel tableModel, PassiveScanner passiveScanner, RuleLoader ruleLoader,
+                          RuleUpdater ruleUpdater) {
         this.api = api;
         this.tableModel = tableModel;
         this.detailTableModel = new FingerDetailTableModel();
         this.passiveScanner = passiveScanner;
         this.ruleLoader = ruleLoader;
-        this.fingerprints = fingerprints;
+        this.ruleUpdater = ruleUpdater;
         
         // 1. 第一个标签页：扫描结果
         JPanel resultsPanel = new JPanel(new BorderLayout());
@@ -142,10 +142,10 @@ public class FingerTabPanel extends JTabbedPane {
         resultsPanel.add(splitPane, BorderLayout.CENTER);
         
         // 2. 第二个标签页：规则管理
-        ruleManagerPanel = new RuleManagerPanel(api, ruleLoader, fingerprints);
+        ruleManagerPanel = new RuleManagerPanel(api, ruleLoader, ruleUpdater, passiveScanner.getMatchingEngine().getProfiler());
         
         // 3. 第三个标签页：系统配置
-        configPanel = new ConfigPanel(api, passiveScanner, this);
+        configPanel = new ConfigPanel(api, passiveScanner, ruleUpdater, this);
         
         this.addTab(I18n.get("tab_finger"), resultsPanel);
         this.addTab(I18n.get("tab_rules"), ruleManagerPanel);
@@ -4,29 +4,41 @@ import burp.api.montoya.MontoyaApi;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.finger.burp.engine.CompiledRuleSet;
+import com.finger.burp.engine.RuleLinter;
+import com.finger.burp.engine.RuleProfiler;
+import com.finger.burp.engine.RuleStats;
 import com.finger.burp.model.Fingerprint;
 import com.finger.burp.model.ScannerConfig;
 import com.finger.burp.rules.RuleLoader;
+import com.finger.burp.rules.RuleStreamReader;
+import com.finger.burp.rules.RuleUpdater;
 import com.finger.burp.utils.ConfigPersistence;
 import com.finger.burp.utils.I18n;
 
 import javax.swing.*;
 import javax.swing.table.AbstractTableModel;
 import java.awt.*;
+import java.io.BufferedInputStream;
 import java.io.File;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.time.Duration;
+import java.io.FileInputStream;
+import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 public class RuleManagerPanel extends JPanel {
     private final MontoyaApi api;
     private final RuleLoader ruleLoader;
-    private final List<Fingerprint> allFingerprints;
+    private final RuleUpdater ruleUpdater;
+    private final RuleProfiler profiler;
+    // 按指纹汇总的规则统计：评估次数、命中次数、总耗时、最大耗时（纳秒）
+    private Map<Fingerprint, long[]> profileByFingerprint = new IdentityHashMap<>();
     private List<Fingerprint> filteredFingerprints;
     private final RuleTableModel tableModel;
     private final JTable table;
@@ -39,17 +51,21 @@ public class RuleManagerPanel extends JPanel {
     private final JLabel pathLabel;
     private final JButton importButton;
     private final JButton exportButton;
+    private final JButton exportManifestButton;
     private final JButton addButton;
     private final JButton updateButton;
     private final JButton helpButton;
+    private final JButton profileButton;
+    private final JButton lintButton;
     private final JMenuItem editItem;
     private final JMenuItem deleteItem;
 
-    public RuleManagerPanel(MontoyaApi api, RuleLoader ruleLoader, List<Fingerprint> fingerprints) {
+    public RuleManagerPanel(MontoyaApi api, RuleLoader ruleLoader, RuleUpdater ruleUpdater, RuleProfiler profiler) {
         this.api = api;
         this.ruleLoader = ruleLoader;
-        this.allFingerprints = fingerprints;
-        this.filteredFingerprints = new ArrayList<>(fingerprints);
+        this.ruleUpdater = ruleUpdater;
+        this.profiler = profiler;
+        this.filteredFingerprints = new ArrayList<>(ruleLoader.getFingerprints());
         this.tableModel = new RuleTableModel();
         this.mapper = new ObjectMapper()
                 .enable(SerializationFeature.INDENT_OUTPUT)
@@ -93,22 +109,31 @@ public class RuleManagerPanel extends JPanel {
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
         importButton = new JButton(I18n.get("rule_import"));
         exportButton = new JButton(I18n.get("rule_export"));
+        exportManifestButton = new JButton(I18n.get("rule_export_manifest"));
         addButton = new JButton(I18n.get("rule_add"));
         updateButton = new JButton(I18n.get("rule_update"));
         helpButton = new JButton(I18n.get("rule_help"));
+        profileButton = new JButton(I18n.get("rule_profile"));
+        lintButton = new JButton(I18n.get("rule_lint"));
 
         importButton.addActionListener(e -> importRules());
         exportButton.addActionListener(e -> exportRules());
+        exportManifestButton.addActionListener(e -> exportManifest());
         addButton.addActionListener(e -> addRule());
         updateButton.addActionListener(e -> updateRulesOnline());
         helpButton.addActionListener(e -> showHelpDialog());
+        profileButton.addActionListener(e -> showProfileDialog());
+        lintButton.addActionListener(e -> showLintDialog());
 
         buttonPanel.add(helpButton);
+        buttonPanel.add(profileButton);
+        buttonPanel.add(lintButton);
         buttonPanel.add(new JSeparator(JSeparator.VERTICAL));
         buttonPanel.add(updateButton);
         buttonPanel.add(addButton);
         buttonPanel.add(importButton);
         buttonPanel.add(exportButton);
+        buttonPanel.add(exportManifestButton);
 
         topPanel.add(searchAndPathPanel, BorderLayout.WEST);
         topPanel.add(buttonPanel, BorderLayout.EAST);
@@ -132,6 +157,9 @@ public class RuleManagerPanel extends JPanel {
 
         this.add(topPanel, BorderLayout.NORTH);
         this.add(scrollPane, BorderLayout.CENTER);
+
+        // 后台定时更新修改规则后刷新列表
+        ruleUpdater.addListener(result -> SwingUtilities.invokeLater(this::filter));
     }
 
     private void showHelpDialog() {
@@ -161,6 +189,8 @@ public class RuleManagerPanel extends JPanel {
                 "<li><b>path</b>: 主动探测路径。仅对主动规则有效，例如 <code>/favicon.ico</code>。</li>" +
                 "<li><b>status</b>: 预期的状态码，如 <code>200</code>。</li>" +
                 "<li><b>field</b>: 当 location 为 header 时，指定匹配的字段，如 <code>Server</code>。</li>" +
+                "<li><b>contentType</b>: 可选，限定 Content-Type 前缀，如 <code>image/</code>。未设置时 body 规则只匹配文本响应，hash 规则只匹配图片响应。</li>" +
+                "<li><b>direction</b>: 可选，<code>request</code>、<code>response</code> 或 <code>both</code>。未设置时 header 规则同时匹配请求和响应，其余规则只匹配响应。</li>" +
                 "<li><b>is_active</b>: 是否为主动扫描规则 (true/false)。</li>" +
                 "</ul>" +
                 "<h3>3. 规则示例</h3>" +
@@ -199,6 +229,8 @@ public class RuleManagerPanel extends JPanel {
                 "<li><b>path</b>: Probe path. For active rules only (e.g., <code>/favicon.ico</code>).</li>" +
                 "<li><b>status</b>: Expected status code (e.g., <code>200</code>).</li>" +
                 "<li><b>field</b>: Header field name if location is header (e.g., <code>Server</code>).</li>" +
+                "<li><b>contentType</b>: Optional Content-Type prefix (e.g., <code>image/</code>). If unset, body rules only run on text responses and hash rules only on images.</li>" +
+                "<li><b>direction</b>: Optional, <code>request</code>, <code>response</code> or <code>both</code>. If unset, header rules run on requests and responses, all other rules on responses only.</li>" +
                 "<li><b>is_active</b>: Whether it's an active scan rule (true/false).</li>" +
                 "</ul>" +
                 "<h3>3. Example</h3>" +
@@ -247,9 +279,12 @@ public class RuleManagerPanel extends JPanel {
         pathLabel.setText(I18n.get("rule_file_label") + ruleLoader.getExternalRulePath());
         importButton.setText(I18n.get("rule_import"));
         exportButton.setText(I18n.get("rule_export"));
+        exportManifestButton.setText(I18n.get("rule_export_manifest"));
         addButton.setText(I18n.get("rule_add"));
         updateButton.setText(I18n.get("rule_update"));
         helpButton.setText(I18n.get("rule_help"));
+        profileButton.setText(I18n.get("rule_profile"));
+        lintButton.setText(I18n.get("rule_lint"));
         editItem.setText(I18n.get("rule_edit"));
         deleteItem.setText(I18n.get("rule_delete"));
         
@@ -260,7 +295,7 @@ public class RuleManagerPanel extends JPanel {
         String query = searchField.getText().toLowerCase();
         int typeIndex = scanTypeFilter.getSelectedIndex();
         
-        filteredFingerprints = allFingerprints.stream()
+        filteredFingerprints = ruleLoader.getFingerprints().stream()
                 .filter(f -> {
                     // 1. 关键词搜索
                     String name = f.getName() != null ? f.getName().toLowerCase() : "";
@@ -280,19 +315,133 @@ public class RuleManagerPanel extends JPanel {
                     return true;
                 })
                 .collect(Collectors.toList());
+        refreshProfile();
         tableModel.fireTableDataChanged();
     }
 
+    /**
+     * 重新汇总每个指纹的规则统计。
+     */
+    private void refreshProfile() {
+        Map<Fingerprint, long[]> byFingerprint = new IdentityHashMap<>();
+        for (RuleStats stats : profiler.getStats(ruleLoader.getCompiledRuleSet())) {
+            long[] sum = byFingerprint.computeIfAbsent(stats.getFingerprintObject(), k -> new long[4]);
+            sum[0] += stats.getEvaluations();
+            sum[1] += stats.getHits();
+            sum[2] += stats.getTotalNanos();
+            sum[3] = Math.max(sum[3], stats.getMaxNanos());
+        }
+        profileByFingerprint = byFingerprint;
+    }
+
+    /**
+     * 单条规则粒度的统计，可排序、可导出为 JSON。
+     */
+    private void showProfileDialog() {
+        List<RuleStats> stats = new ArrayList<>(profiler.getStats(ruleLoader.getCompiledRuleSet()));
+        RuleLinter.Report lint = ruleLoader.getCompiledRuleSet().getLintReport();
+        String[] columns = {I18n.get("column_name"), I18n.get("profile_location"), I18n.get("profile_rule"),
+                I18n.get("profile_evaluations"), I18n.get("profile_hits"), I18n.get("profile_total_ms"),
+                I18n.get("profile_avg_us"), I18n.get("profile_max_ms"), I18n.get("profile_cost")};
+        AbstractTableModel model = new AbstractTableModel() {
+            @Override
+            public int getRowCount() { return stats.size(); }
+            @Override
+            public int getColumnCount() { return columns.length; }
+            @Override
+            public String getColumnName(int column) { return columns[column]; }
+
+            @Override
+            public Class<?> getColumnClass(int columnIndex) {
+                switch (columnIndex) {
+                    case 3: case 4: return Long.class;
+                    case 5: case 6: case 7: return Double.class;
+                    default: return String.class;
+                }
+            }
+
+            @Override
+            public Object getValueAt(int rowIndex, int columnIndex) {
+                RuleStats s = stats.get(rowIndex);
+                switch (columnIndex) {
+                    case 0: return s.getFingerprint();
+                    case 1: return s.getLocation();
+                    case 2: return describeRule(s);
+                    case 3: return s.getEvaluations();
+                    case 4: return s.getHits();
+                    case 5: return s.getTotalNanos() / 1_000_000.0;
+                    case 6: return s.getEvaluations() > 0 ? s.getTotalNanos() / 1000.0 / s.getEvaluations() : 0.0;
+                    case 7: return s.getMaxNanos() / 1_000_000.0;
+                    case 8: return String.valueOf(lint.costOf(s.getRule()));
+                    default: return null;
+                }
+            }
+        };
+        JTable profileTable = new JTable(model);
+        profileTable.setAutoCreateRowSorter(true);
+        JScrollPane scrollPane = new JScrollPane(profileTable);
+        scrollPane.setPreferredSize(new Dimension(900, 450));
+
+        JButton exportProfileButton = new JButton(I18n.get("profile_export"));
+        exportProfileButton.addActionListener(e -> exportProfile(stats));
+        JButton resetProfileButton = new JButton(I18n.get("profile_reset"));
+        resetProfileButton.addActionListener(e -> {
+            profiler.reset();
+            stats.clear();
+            stats.addAll(profiler.getStats(ruleLoader.getCompiledRuleSet()));
+            model.fireTableDataChanged();
+            filter();
+        });
+        JPanel buttons = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        buttons.add(exportProfileButton);
+        buttons.add(resetProfileButton);
+
+        JPanel panel = new JPanel(new BorderLayout());
+        panel.add(scrollPane, BorderLayout.CENTER);
+        panel.add(buttons, BorderLayout.SOUTH);
+        JOptionPane.showMessageDialog(this, panel, I18n.get("rule_profile"), JOptionPane.PLAIN_MESSAGE);
+        filter();
+    }
+
+    private static String describeRule(RuleStats stats) {
+        if (stats.getMatch() != null) return String.valueOf(stats.getMatch());
+        if (stats.getHash() != null) return stats.getHash();
+        if (stats.getRule().getStatus() != null) return "status " + stats.getRule().getStatus();
+        return "";
+    }
+
+    private void exportProfile(List<RuleStats> stats) {
+        JFileChooser fileChooser = new JFileChooser();
+        if (fileChooser.showSaveDialog(this) == JFileChooser.APPROVE_OPTION) {
+            File file = fileChooser.getSelectedFile();
+            if (!file.getName().toLowerCase().endsWith(".json")) {
+                file = new File(file.getAbsolutePath() + ".json");
+            }
+            try {
+                mapper.writeValue(file, stats);
+                api.logging().logToOutput("Exported profile of " + stats.size() + " rules to " + file.getName());
+            } catch (Exception e) {
+                api.logging().logToError("Failed to export profile: " + e.getMessage());
+                JOptionPane.showMessageDialog(this, "Export failed: " + e.getMessage(), I18n.get("common_error"), JOptionPane.ERROR_MESSAGE);
+            }
+        }
+    }
+
     private void importRules() {
         JFileChooser fileChooser = new JFileChooser();
         if (fileChooser.showOpenDialog(this) == JFileChooser.APPROVE_OPTION) {
             File file = fileChooser.getSelectedFile();
-            try {
-                List<Fingerprint> imported = mapper.readValue(file, mapper.getTypeFactory().constructCollectionType(List.class, Fingerprint.class));
-                allFingerprints.addAll(imported);
-                filter();
-                ruleLoader.saveRules(allFingerprints); // 自动保存
-                api.logging().logToOutput("Imported " + imported.size() + " rules from " + file.getName());
+            try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+                AtomicInteger skipped = new AtomicInteger();
+                List<Fingerprint> imported = new RuleStreamReader(mapper).readAll(in, logRejected(file.getName(), skipped));
+                String name = file.getName();
+                if (skipped.get() > 0) {
+                    JOptionPane.showMessageDialog(this, String.format(I18n.get("rule_import_skipped"), skipped.get()),
+                            I18n.get("common_error"), JOptionPane.WARNING_MESSAGE);
+                }
+                if (!confirmLint(list -> list.addAll(imported), imported)) return;
+                applyEdit(list -> list.addAll(imported)) // 自动保存
+                        .thenRun(() -> api.logging().logToOutput("Imported " + imported.size() + " rules from " + name));
             } catch (Exception e) {
                 api.logging().logToError("Failed to import rules: " + e.getMessage());
                 JOptionPane.showMessageDialog(this, "Import failed: " + e.getMessage(), I18n.get("common_error"), JOptionPane.ERROR_MESSAGE);
@@ -319,6 +468,25 @@ public class RuleManagerPanel extends JPanel {
         }
     }
 
+    /**
+     * 导出当前过滤结果的更新清单，部署后可作为规则更新地址（指向 manifest.json）。
+     */
+    private void exportManifest() {
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setFileSelectionMode(JFileChooser.DIRECTORIES_ONLY);
+        if (fileChooser.showSaveDialog(this) == JFileChooser.APPROVE_OPTION) {
+            File dir = fileChooser.getSelectedFile();
+            try {
+                int count = ruleUpdater.exportManifest(filteredFingerprints, dir.toPath());
+                api.logging().logToOutput("Exported manifest of " + count + " rules to " + dir);
+                JOptionPane.showMessageDialog(this, String.format(I18n.get("rule_export_manifest_done"), count, dir));
+            } catch (Exception e) {
+                api.logging().logToError("Failed to export manifest: " + e.getMessage());
+                JOptionPane.showMessageDialog(this, "Export failed: " + e.getMessage(), I18n.get("common_error"), JOptionPane.ERROR_MESSAGE);
+            }
+        }
+    }
+
     private void updateRulesOnline() {
         if (JOptionPane.showConfirmDialog(this, I18n.get("rule_update_confirm"),
                 I18n.get("common_confirm"), JOptionPane.YES_NO_OPTION) != JOptionPane.YES_OPTION) {
@@ -330,109 +498,54 @@ public class RuleManagerPanel extends JPanel {
 
         new Thread(() -> {
             try {
-                ConfigPersistence configPersistence = new ConfigPersistence(api);
-                ScannerConfig config = configPersistence.loadConfig();
-                String url = config.getUpdateUrl();
-                
-                if (url == null || url.isEmpty()) {
-                    url = "https://fingerupload.oss-cn-beijing.aliyuncs.com/fingerprints.json";
-                }
-
-                HttpClient client = HttpClient.newBuilder()
-                        .followRedirects(HttpClient.Redirect.ALWAYS)
-                        .connectTimeout(Duration.ofSeconds(10))
-                        .build();
-
-                HttpRequest request = HttpRequest.newBuilder()
-                        .uri(URI.create(url))
-                        .timeout(Duration.ofSeconds(30))
-                        .GET()
-                        .build();
-
-                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-
-                if (response.statusCode() == 200) {
-                    List<Fingerprint> newRules = mapper.readValue(response.body(),
-                            mapper.getTypeFactory().constructCollectionType(List.class, Fingerprint.class));
-
-                    if (newRules != null && !newRules.isEmpty()) {
-                        SwingUtilities.invokeLater(() -> {
-                            int addedCount = 0;
-                            int updatedCount = 0;
-                            List<String> preservedNames = new ArrayList<>();
-                            
-                            // 创建名称到指纹的映射，并记录所有本地规则名称
-                            java.util.Map<String, Fingerprint> localMap = new java.util.HashMap<>();
-                            java.util.Set<String> remoteNames = new java.util.HashSet<>();
-                            for (Fingerprint remoteFp : newRules) {
-                                if (remoteFp.getName() != null) remoteNames.add(remoteFp.getName());
-                            }
-
-                            for (Fingerprint fp : allFingerprints) {
-                                if (fp.getName() != null) {
-                                    localMap.put(fp.getName(), fp);
-                                    if (!remoteNames.contains(fp.getName())) {
-                                        preservedNames.add(fp.getName());
-                                    }
-                                }
-                            }
+                ScannerConfig config = new ConfigPersistence(api).loadConfig();
+                // 边下载边解析；远程未变化（304 或内容一致）时不会重写本地规则
+                RuleUpdater.Result result = ruleUpdater.update(config.getUpdateUrl(), (fingerprints, percent) -> {
+                    String text = String.format(I18n.get("rule_update_progress"), fingerprints)
+                            + (percent >= 0 ? String.format(" (%d%%)", percent) : "");
+                    SwingUtilities.invokeLater(() -> updateButton.setText(text));
+                });
+                List<String> preservedNames = result.getPreserved();
+                api.logging().logToOutput("Online update: " + result);
 
-                            for (Fingerprint remoteFp : newRules) {
-                                if (remoteFp.getName() == null) continue;
-                                
-                                if (localMap.containsKey(remoteFp.getName())) {
-                                    // 更新现有规则
-                                    Fingerprint localFp = localMap.get(remoteFp.getName());
-                                    int index = allFingerprints.indexOf(localFp);
-                                    if (index != -1) {
-                                        allFingerprints.set(index, remoteFp);
-                                        updatedCount++;
-                                    }
-                                } else {
-                                    // 新增规则
-                                    allFingerprints.add(remoteFp);
-                                    addedCount++;
-                                }
-                            }
+                SwingUtilities.invokeLater(() -> {
+                    filter();
+                    updateButton.setEnabled(true);
+                    updateButton.setText(I18n.get("rule_update"));
 
-                            filter();
-                            ruleLoader.saveRules(allFingerprints);
-                            updateButton.setEnabled(true);
-                            updateButton.setText(I18n.get("rule_update"));
-                            
-                            StringBuilder sb = new StringBuilder();
-                            if (I18n.getLanguage() == I18n.Language.CHINESE) {
-                                sb.append(String.format("更新完成！\n\n新增规则: %d 条\n更新规则: %d 条\n保留自定义规则: %d 条", 
-                                    addedCount, updatedCount, preservedNames.size()));
-                                if (!preservedNames.isEmpty()) {
-                                    sb.append("\n\n保留的规则列表:\n");
-                                    for (String name : preservedNames) {
-                                        sb.append("- ").append(name).append("\n");
-                                    }
-                                }
-                            } else {
-                                sb.append(String.format("Update Complete!\n\nAdded: %d\nUpdated: %d\nPreserved: %d", 
-                                    addedCount, updatedCount, preservedNames.size()));
-                                if (!preservedNames.isEmpty()) {
-                                    sb.append("\n\nPreserved Rules:\n");
-                                    for (String name : preservedNames) {
-                                        sb.append("- ").append(name).append("\n");
-                                    }
-                                }
+                    if (!result.isChanged() && preservedNames.isEmpty()) {
+                        JOptionPane.showMessageDialog(this, I18n.get("rule_update_not_modified"));
+                        return;
+                    }
+                    StringBuilder sb = new StringBuilder();
+                    if (I18n.getLanguage() == I18n.Language.CHINESE) {
+                        sb.append(String.format("更新完成！\n\n新增规则: %d 条\n更新规则: %d 条\n未变化规则: %d 条\n保留自定义规则: %d 条",
+                            result.getAdded(), result.getUpdated(), result.getUnchanged(), preservedNames.size()));
+                        if (!preservedNames.isEmpty()) {
+                            sb.append("\n\n保留的规则列表:\n");
+                            for (String name : preservedNames) {
+                                sb.append("- ").append(name).append("\n");
                             }
-                            
-                            // 同时打印到控制台方便复制
-                            if (!preservedNames.isEmpty()) {
-                                api.logging().logToOutput("--- Preserved Custom Rules ---");
-                                for (String name : preservedNames) api.logging().logToOutput(name);
+                        }
+                    } else {
+                        sb.append(String.format("Update Complete!\n\nAdded: %d\nUpdated: %d\nUnchanged: %d\nPreserved: %d",
+                            result.getAdded(), result.getUpdated(), result.getUnchanged(), preservedNames.size()));
+                        if (!preservedNames.isEmpty()) {
+                            sb.append("\n\nPreserved Rules:\n");
+                            for (String name : preservedNames) {
+                                sb.append("- ").append(name).append("\n");
                             }
+                        }
+                    }
 
-                            JOptionPane.showMessageDialog(this, sb.toString());
-                        });
+                    // 同时打印到控制台方便复制
+                    if (!preservedNames.isEmpty()) {
+                        api.logging().logToOutput("--- Preserved Custom Rules ---");
+                        for (String name : preservedNames) api.logging().logToOutput(name);
                     }
-                } else {
-                    throw new Exception("HTTP Status: " + response.statusCode());
-                }
+
+                    JOptionPane.showMessageDialog(this, sb.toString());
+                });
             } catch (Exception ex) {
                 api.logging().logToError("Online update failed: " + ex.toString());
                 ex.printStackTrace(); // Optional: will print to Burp's stderr
@@ -454,6 +567,17 @@ public class RuleManagerPanel extends JPanel {
         }).start();
     }
 
+    private RuleStreamReader.Listener logRejected(String source, AtomicInteger skipped) {
+        return new RuleStreamReader.Listener() {
+            @Override
+            public void rejected(int index, String name, String reason) {
+                skipped.incrementAndGet();
+                api.logging().logToError("Skipped invalid fingerprint #" + index + (name != null ? " (" + name + ")" : "")
+                        + " from " + source + ": " + reason);
+            }
+        };
+    }
+
     private void addRule() {
         // 简化版：弹出一个文本域让用户输入 JSON
         showEditDialog(new Fingerprint(), true);
@@ -474,9 +598,7 @@ public class RuleManagerPanel extends JPanel {
             Fingerprint fp = filteredFingerprints.get(modelRow);
             String message = I18n.getLanguage() == I18n.Language.CHINESE ? "确定要删除 " + fp.getName() + " 吗？" : "Delete " + fp.getName() + "?";
             if (JOptionPane.showConfirmDialog(this, message, I18n.get("common_confirm"), JOptionPane.YES_NO_OPTION) == JOptionPane.YES_OPTION) {
-                allFingerprints.remove(fp);
-                filter();
-                ruleLoader.saveRules(allFingerprints); // 自动保存
+                applyEdit(list -> list.remove(fp)); // 自动保存
             }
         }
     }
@@ -495,34 +617,87 @@ public class RuleManagerPanel extends JPanel {
             try {
                 Fingerprint updated = mapper.readValue(textArea.getText(), Fingerprint.class);
                 
-                // 校验：名称不能为空
+                // 与加载时的校验一致：名称不能为空且至少有一条规则，否则保存后下次加载会被丢弃
                 if (updated.getName() == null || updated.getName().trim().isEmpty()) {
                     String errorMsg = I18n.getLanguage() == I18n.Language.CHINESE ? "指纹名称不能为空！" : "Fingerprint name cannot be empty!";
                     JOptionPane.showMessageDialog(this, errorMsg, I18n.get("common_error"), JOptionPane.ERROR_MESSAGE);
                     return;
                 }
+                String invalid = RuleStreamReader.validate(updated);
+                if (invalid != null) {
+                    JOptionPane.showMessageDialog(this, String.format(I18n.get("rule_invalid"), invalid),
+                            I18n.get("common_error"), JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
 
-                if (isNew) {
-                    allFingerprints.add(updated);
-                } else {
-                    int index = allFingerprints.indexOf(fp);
-                    if (index != -1) {
-                        allFingerprints.set(index, updated);
+                Consumer<List<Fingerprint>> edit = list -> {
+                    if (isNew) {
+                        list.add(updated);
+                    } else {
+                        int index = list.indexOf(fp);
+                        if (index != -1) {
+                            list.set(index, updated);
+                        }
                     }
-                }
-                filter();
-                ruleLoader.saveRules(allFingerprints); // 自动保存
+                };
+                if (!confirmLint(edit, List.of(updated))) return;
+                applyEdit(edit); // 自动保存
             } catch (Exception e) {
                 JOptionPane.showMessageDialog(this, "Invalid JSON: " + e.getMessage(), I18n.get("common_error"), JOptionPane.ERROR_MESSAGE);
             }
         }
     }
 
+    /**
+     * 在规则进入被动扫描之前做静态检查：编译修改后的规则集，只提示与 changed 相关的警告，由用户决定是否保存。
+     */
+    private boolean confirmLint(Consumer<List<Fingerprint>> edit, List<Fingerprint> changed) {
+        List<Fingerprint> candidate = new ArrayList<>(ruleLoader.getFingerprints());
+        edit.accept(candidate);
+        CompiledRuleSet ruleSet = CompiledRuleSet.compile(candidate, 0, ruleLoader.getCompiledRuleSet());
+        List<RuleLinter.Issue> issues = ruleSet.getLintReport().issuesFor(changed, RuleLinter.Severity.WARNING);
+        if (issues.isEmpty()) return true;
+
+        StringBuilder sb = new StringBuilder(I18n.get("rule_lint_confirm")).append("\n\n");
+        for (RuleLinter.Issue issue : issues) {
+            sb.append("- ").append(issue).append(" (").append(ruleSet.getLintReport().costOf(issue.getRule())).append(")\n");
+        }
+        JTextArea textArea = new JTextArea(sb.toString(), Math.min(20, issues.size() + 3), 80);
+        textArea.setEditable(false);
+        return JOptionPane.showConfirmDialog(this, new JScrollPane(textArea), I18n.get("rule_lint"),
+                JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE) == JOptionPane.YES_OPTION;
+    }
+
+    private void showLintDialog() {
+        RuleLinter.Report report = ruleLoader.getCompiledRuleSet().getLintReport();
+        StringBuilder sb = new StringBuilder(report.summary()).append("\n\n");
+        for (RuleLinter.Issue issue : report.getIssues()) {
+            sb.append(issue).append("\n");
+        }
+        JTextArea textArea = new JTextArea(sb.toString(), 25, 100);
+        textArea.setEditable(false);
+        textArea.setCaretPosition(0);
+        JOptionPane.showMessageDialog(this, new JScrollPane(textArea), I18n.get("rule_lint"), JOptionPane.PLAIN_MESSAGE);
+    }
+
+    /**
+     * 在后台线程中基于当前快照修改规则并发布新快照，完成后在 UI 线程刷新列表。
+     */
+    private CompletableFuture<CompiledRuleSet> applyEdit(Consumer<List<Fingerprint>> edit) {
+        return ruleLoader.updateRulesAsync(edit).whenComplete((ruleSet, error) -> SwingUtilities.invokeLater(() -> {
+            if (error != null) {
+                api.logging().logToError("Failed to update rules: " + error.getMessage());
+                JOptionPane.showMessageDialog(this, "Save failed: " + error.getMessage(), I18n.get("common_error"), JOptionPane.ERROR_MESSAGE);
+            }
+            filter();
+        }));
+    }
+
     class RuleTableModel extends AbstractTableModel {
         @Override
         public int getRowCount() { return filteredFingerprints.size(); }
         @Override
-        public int getColumnCount() { return 3; }
+        public int getColumnCount() { return 7; }
         
         @Override
         public String getColumnName(int column) {
@@ -530,17 +705,36 @@ public class RuleManagerPanel extends JPanel {
                 case 0: return I18n.get("column_name");
                 case 1: return I18n.get("column_types");
                 case 2: return I18n.get("rule_count");
+                case 3: return I18n.get("profile_evaluations");
+                case 4: return I18n.get("profile_hits");
+                case 5: return I18n.get("profile_total_ms");
+                case 6: return I18n.get("profile_max_ms");
                 default: return "";
             }
         }
 
+        @Override
+        public Class<?> getColumnClass(int columnIndex) {
+            switch (columnIndex) {
+                case 2: return Integer.class;
+                case 3: case 4: return Long.class;
+                case 5: case 6: return Double.class;
+                default: return String.class;
+            }
+        }
+
         @Override
         public Object getValueAt(int rowIndex, int columnIndex) {
             Fingerprint fp = filteredFingerprints.get(rowIndex);
+            long[] profile = profileByFingerprint.getOrDefault(fp, new long[4]);
             switch (columnIndex) {
                 case 0: return fp.getName();
                 case 1: return fp.getType();
                 case 2: return fp.getRules() != null ? fp.getRules().size() : 0;
+                case 3: return profile[0];
+                case 4: return profile[1];
+                case 5: return profile[2] / 1_000_000.0;
+                case 6: return profile[3] / 1_000_000.0;
                 default: return null;
             }
         }
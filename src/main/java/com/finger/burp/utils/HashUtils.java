@@ -20,7 +20,16 @@ public class HashUtils {
         if (data == null || data.length == 0) {
             return "";
         }
-        
+        return String.valueOf(faviconHash(data));
+    }
+
+    /**
+     * 计算 favicon 的 MurmurHash3_32 原始整数值，供哈希索引直接查找使用。
+     *
+     * @param data 原始字节数组（非空）
+     * @return 哈希值
+     */
+    public static int faviconHash(byte[] data) {
         // 1. Base64 编码
         String base64 = Base64.getEncoder().encodeToString(data);
         
@@ -35,8 +44,7 @@ public class HashUtils {
         sb.append("\n");
         
         // 3. 计算 MurmurHash3_32 (Seed = 0)
-        int hash = Hashing.murmur3_32_fixed().hashString(sb.toString(), StandardCharsets.UTF_8).asInt();
-        return String.valueOf(hash);
+        return Hashing.murmur3_32_fixed().hashString(sb.toString(), StandardCharsets.UTF_8).asInt();
     }
 
     /**
@@ -38,6 +38,39 @@ public class I18n {
         add("config_save_error", "保存配置出错: ", "Error saving configuration: ");
         add("config_invalid_status", "状态码格式错误，请输入数字。", "Invalid status code format. Please use numbers only.");
         add("config_language", "语言 (Language):", "Language:");
+        add("config_scan_head", "Body 扫描头部 (KB, 0 不限):", "Body Scan Head (KB, 0 = no limit):");
+        add("config_scan_tail", "Body 扫描尾部 (KB):", "Body Scan Tail (KB):");
+        add("config_hash_max", "Hash 计算上限 (KB, 0 不限):", "Hash Max Body (KB, 0 = no limit):");
+        add("config_collect_all_evidence", "收集全部证据（评估指纹的所有规则，用于调试）", "Collect all evidence (evaluate every rule of a fingerprint, for debugging)");
+        add("config_collect_all_evidence_tip", "关闭时每个指纹命中一条规则后即停止评估其余规则", "When off, a fingerprint stops evaluating its remaining rules after the first hit");
+        add("config_regex_timeout", "正则超时 (ms, 0 不限):", "Regex Timeout (ms, 0 = no limit):");
+        add("config_parallel_threshold", "并行匹配阈值 (KB, 0 关闭):", "Parallel Match Threshold (KB, 0 = off):");
+        add("config_passive_threads", "被动匹配线程数:", "Passive Match Threads:");
+        add("config_passive_queue", "被动匹配队列容量 (0 同步):", "Passive Queue Capacity (0 = inline):");
+        add("config_queue_policy", "队列满时:", "When Queue Is Full:");
+        add("config_queue_policy_tip", "BLOCK: 阻塞代理直到有空位; DROP_OLDEST: 丢弃最早的消息; SAMPLE: 每 10 条保留 1 条", "BLOCK: stall the proxy until space frees up; DROP_OLDEST: discard the oldest message; SAMPLE: keep 1 in 10 overflowing messages");
+        add("config_queue_stats", "被动队列: ", "Passive queue: ");
+        add("config_match_cache", "结果缓存条目数 (0 关闭):", "Match Cache Entries (0 = off):");
+        add("config_cache_stats", "结果缓存: ", "Match cache: ");
+        add("config_seen_set_type", "去重集合:", "Dedup Set:");
+        add("config_seen_set_type_tip", "LRU: 保存 URL 哈希，超出上限后遗忘最久未见的; BLOOM: 更省内存，但有少量误判（极少数 URL 被跳过）", "LRU: stores URL hashes and forgets the least recently seen past the cap; BLOOM: smaller, with a small false-positive rate (a few URLs are skipped)");
+        add("config_seen_set_max", "去重集合内存上限 (KB):", "Dedup Set Memory Cap (KB):");
+        add("config_seen_set_fpp", "Bloom 误判率:", "Bloom False-Positive Rate:");
+        add("config_seen_set_stats", "去重集合: ", "Dedup sets: ");
+        add("config_skip_confirmed", "跳过主机上已确认的指纹", "Skip fingerprints already confirmed for a host");
+        add("config_skip_confirmed_tip", "指纹在某主机上命中后，该主机后续消息不再评估该指纹；取消勾选可继续收集证据", "Once a fingerprint matches on a host, later messages from that host skip it; untick to keep collecting evidence");
+        add("config_confirmed_stats", "已确认指纹: ", "Confirmed fingerprints: ");
+        add("config_regex_backend", "正则引擎:", "Regex Engine:");
+        add("config_regex_backend_tip", "AUTOMATON：body 正则合并为线性时间自动机，一次扫描完成；不支持的正则仍使用 JDK",
+                "AUTOMATON: body regexes are merged into one linear-time automaton scanned once; unsupported ones still use the JDK");
+        add("config_quarantine", "已隔离的慢规则（正则超时后不再参与匹配）", "Quarantined Slow Rules (skipped after a regex timeout)");
+        add("config_quarantine_pattern", "正则", "Pattern");
+        add("config_quarantine_elapsed", "耗时 (ms)", "Time (ms)");
+        add("config_quarantine_release", "释放选中", "Release Selected");
+        add("config_quarantine_release_all", "全部释放", "Release All");
+        add("config_rule_profiling", "记录规则性能统计（在规则管理中查看）", "Record per-rule profiling (shown in Rule Manager)");
+        add("config_window_stats", "扫描窗口统计: ", "Scan window stats: ");
+        add("config_refresh_stats", "刷新统计", "Refresh Stats");
 
         // Finger Panel
         add("finger_enable_active", "启用主动扫描", "Enable Active Scan");
@@ -76,11 +109,30 @@ public class I18n {
         add("rule_edit", "编辑", "Edit");
         add("rule_delete", "删除", "Delete");
         add("rule_edit_title", "编辑规则 (JSON 格式)", "Edit Rule (JSON Format)");
+        add("rule_invalid", "指纹无效: %s", "Invalid fingerprint: %s");
+        add("rule_import_skipped", "已跳过 %d 条无效指纹（缺少名称或规则），详见插件日志。", "Skipped %d invalid fingerprints (missing name or rules), see the extension log.");
         add("rule_update", "在线更新", "Online Update");
         add("rule_updating", "正在更新规则库...", "Updating rules...");
+        add("rule_update_progress", "正在更新... %d 条", "Updating... %d rules");
+        add("rule_update_not_modified", "规则库已是最新，无需更新。", "Rules are already up to date.");
+        add("rule_export_manifest", "导出清单", "Export Manifest");
+        add("rule_export_manifest_done", "已导出 %d 条指纹的清单到 %s", "Exported manifest of %d fingerprints to %s");
         add("rule_update_success", "规则库更新成功！共加载 %d 条规则。", "Rules updated! %d rules loaded.");
         add("rule_update_failed", "更新失败: ", "Update failed: ");
         add("rule_update_confirm", "确定要从 GitHub 更新规则库吗？\n这将覆盖本地规则文件。", "Update rules from GitHub? This will overwrite local rules.");
+        add("rule_profile", "规则性能", "Rule Profile");
+        add("profile_location", "位置", "Location");
+        add("profile_rule", "规则", "Rule");
+        add("profile_evaluations", "评估次数", "Evaluations");
+        add("profile_hits", "命中次数", "Hits");
+        add("profile_total_ms", "总耗时 (ms)", "Total (ms)");
+        add("profile_avg_us", "平均耗时 (μs)", "Avg (μs)");
+        add("profile_max_ms", "最大耗时 (ms)", "Max (ms)");
+        add("profile_export", "导出 JSON", "Export JSON");
+        add("profile_reset", "清空统计", "Reset");
+        add("profile_cost", "开销等级", "Cost");
+        add("rule_lint", "规则检查", "Rule Lint");
+        add("rule_lint_confirm", "以下规则可能拖慢被动扫描或不会生效，仍要保存吗？", "The following rules may slow down passive scanning or never take effect. Save anyway?");
 
         // Help Dialog
         add("help_title", "=== 指纹规则字段规格说明 ===", "=== Fingerprint Rule Specification ===");
@@ -102,6 +154,7 @@ public class I18n {
         add("common_total", "总数: ", "Total: ");
         add("config_update_url", "规则更新地址: ", "Update URL: ");
         add("config_update_url_hint", "提示: 若 GitHub 访问困难，可尝试使用镜像地址或代理前缀", "Hint: Try mirror or proxy if GitHub is inaccessible");
+        add("config_update_interval", "自动检查更新间隔 (小时，0 为关闭): ", "Auto Update Check (hours, 0 = off): ");
     }
 
     private static void add(String key, String cn, String en) {
@@ -0,0 +1,131 @@
+package com.finger.burp.engine;
+
+import burp.api.montoya.MontoyaApi;
+import burp.api.montoya.extension.Extension;
+import burp.api.montoya.logging.Logging;
+import com.finger.burp.model.ScannerConfig;
+import com.finger.burp.rules.RuleLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MatchResultCacheTest {
+    private static final List<MessageView.Header> HTML = List.of(
+            new MessageView.Header("Content-Type", "text/html", "Content-Type: text/html"));
+
+    @TempDir
+    Path dir;
+
+    private MontoyaApi api;
+    private RuleLoader ruleLoader;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String json = "[{\"name\":\"alpha\",\"rules\":[{\"location\":\"body\",\"match\":[\"alpha-marker\"]}]},"
+                + "{\"name\":\"beta\",\"rules\":[{\"location\":\"body\",\"match\":[\"beta-marker\"]}]}]";
+        Files.writeString(dir.resolve("fingerprints.json"), json);
+        Extension extension = mock(Extension.class);
+        when(extension.filename()).thenReturn(dir.resolve("finger.jar").toString());
+        api = mock(MontoyaApi.class);
+        when(api.logging()).thenReturn(mock(Logging.class));
+        when(api.extension()).thenReturn(extension);
+        ruleLoader = new RuleLoader(api);
+        ruleLoader.loadAllRules();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ruleLoader.shutdown();
+    }
+
+    /**
+     * 主机还没有确认的指纹时缓存完整结果，其他主机取出后各自过滤。
+     */
+    @Test
+    void cachesUnfilteredResultsForUnconfirmedHosts() {
+        MatchingEngine engine = new MatchingEngine(api, ruleLoader, new ScannerConfig());
+        byte[] both = "alpha-marker beta-marker".getBytes(StandardCharsets.ISO_8859_1);
+
+        assertEquals(List.of("alpha", "beta"), names(engine, both, "http://a.example"));
+        assertEquals(List.of("alpha", "beta"), names(engine, both, "http://b.example"));
+        assertEquals(List.of(), names(engine, both, "http://b.example"));
+        assertEquals(2, engine.getResultCache().getHits());
+        engine.shutdown();
+    }
+
+    /**
+     * 主机上已确认的指纹不再评估其规则，跳过后的不完整结果不写入缓存。
+     */
+    @Test
+    void skipsConfirmedFingerprintsWithoutCaching() {
+        MatchingEngine engine = new MatchingEngine(api, ruleLoader, new ScannerConfig());
+        byte[] both = "alpha-marker beta-marker".getBytes(StandardCharsets.ISO_8859_1);
+
+        assertEquals(List.of("alpha"), names(engine, "alpha-marker".getBytes(StandardCharsets.ISO_8859_1), "http://a.example"));
+        assertEquals(List.of("beta"), names(engine, both, "http://a.example"));
+        assertEquals(1, evaluations(engine, "alpha"));
+        assertEquals(2, evaluations(engine, "beta"));
+        assertEquals(1, engine.getResultCache().size());
+
+        // 另一个主机不能命中只含 beta 的结果
+        assertEquals(List.of("alpha", "beta"), names(engine, both, "http://b.example"));
+        engine.shutdown();
+    }
+
+    /**
+     * 超过 hash 上限的响应体只按扫描窗口与长度作键，窗口外的内容不影响缓存命中。
+     */
+    @Test
+    void keysLargeBodiesOnScannedWindow() {
+        ScannerConfig config = new ScannerConfig();
+        config.setBodyScanHeadBytes(1024);
+        config.setBodyScanTailBytes(256);
+        config.setHashMaxBodyBytes(2048);
+        config.setSkipConfirmedFingerprints(false);
+        MatchingEngine engine = new MatchingEngine(api, ruleLoader, config);
+
+        byte[] body = filler(8192);
+        byte[] marker = "alpha-marker".getBytes(StandardCharsets.ISO_8859_1);
+        System.arraycopy(marker, 0, body, 100, marker.length);
+        assertEquals(List.of("alpha"), names(engine, body, "http://a.example"));
+
+        byte[] middle = body.clone();
+        System.arraycopy("beta-marker".getBytes(StandardCharsets.ISO_8859_1), 0, middle, 4000, 11);
+        assertEquals(List.of("alpha"), names(engine, middle, "http://a.example"));
+        assertEquals(1, engine.getResultCache().getHits());
+
+        byte[] tail = body.clone();
+        System.arraycopy("beta-marker".getBytes(StandardCharsets.ISO_8859_1), 0, tail, 8100, 11);
+        assertEquals(List.of("alpha", "beta"), names(engine, tail, "http://a.example"));
+        assertEquals(1, engine.getResultCache().getHits());
+        engine.shutdown();
+    }
+
+    private static List<String> names(MatchingEngine engine, byte[] body, String host) {
+        MessageView view = MessageView.of(false, HTML, 200, body, "/", host + "/");
+        return engine.findMatches(view).stream().map(m -> m.getFingerprint().getName()).toList();
+    }
+
+    private long evaluations(MatchingEngine engine, String fingerprint) {
+        return engine.getProfiler().getStats(ruleLoader.getCompiledRuleSet()).stream()
+                .filter(stats -> stats.getFingerprint().equals(fingerprint))
+                .mapToLong(RuleStats::getEvaluations).sum();
+    }
+
+    private static byte[] filler(int length) {
+        byte[] body = new byte[length];
+        Arrays.fill(body, (byte) 'x');
+        return body;
+    }
+}
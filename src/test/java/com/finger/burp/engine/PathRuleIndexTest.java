@@ -0,0 +1,29 @@
+package com.finger.burp.engine;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finger.burp.model.Fingerprint;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PathRuleIndexTest {
+    @Test
+    void looksUpPathsIgnoringCase() throws Exception {
+        String json = "[{\"name\":\"a\",\"rules\":[{\"location\":\"body\",\"path\":\"/Admin/\",\"match\":[\"x\"]},"
+                + "{\"location\":\"body\",\"path\":\"/admin\",\"match\":[\"y\"]}]},"
+                + "{\"name\":\"b\",\"rules\":[{\"location\":\"body\",\"path\":\"/login\",\"match\":[\"z\"]}]}]";
+        PathRuleIndex index = CompiledRuleSet.compile(Arrays.asList(new ObjectMapper().readValue(json, Fingerprint[].class)))
+                .getPathIndex();
+
+        assertEquals(2, index.getPathCount());
+        BitSet admin = index.rulesForPath(MessageView.normalizePath("/ADMIN?x=1"));
+        assertEquals(2, admin.cardinality());
+        assertEquals(1, index.rulesForPath("/Login").cardinality());
+        assertTrue(index.rulesForPath("/other").isEmpty());
+        assertTrue(index.rulesForPath(null).isEmpty());
+    }
+}
@@ -0,0 +1,125 @@
+package com.finger.burp.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 与 java.util.regex 的差分测试：随机生成受支持子集内的正则与文本，自动机的命中结果必须与 Matcher.find() 一致。
+ */
+class RegexAutomatonTest {
+    private static final long SEED = 20240611L;
+    private static final int ROUNDS = 40;
+    private static final int PATTERNS_PER_ROUND = 24;
+    private static final int TEXTS_PER_ROUND = 100;
+    // 文本字母表包含大小写、数字、空白与换行，覆盖忽略大小写、\d \w \s 与 DOTALL
+    private static final String TEXT_CHARS = "abcABC019 _-.\n\t/";
+    private static final String[] ATOMS = {
+            "a", "b", "c", "A", "B", "0", "9", " ", "-", "/", "_",
+            "\\.", "\\-", "\\/", ".", "\\d", "\\D", "\\w", "\\W", "\\s", "\\S", "\\n", "\\t",
+            "[ab]", "[^a]", "[a-c]", "[A-B0-9]", "[-a]", "[a-]", "[\\d_]", "[^\\s]", "[.]"
+    };
+
+    @Test
+    void matchesJdkOnRandomPatterns() {
+        Random random = new Random(SEED);
+        int compared = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            RegexAutomaton.Builder builder = new RegexAutomaton.Builder();
+            List<String> regexes = new ArrayList<>();
+            List<Integer> ids = new ArrayList<>();
+            for (int i = 0; i < PATTERNS_PER_ROUND; i++) {
+                String regex = randomRegex(random, 3);
+                int id = builder.idOf(regex);
+                assertTrue(id >= 0, () -> "Supported syntax rejected: " + regex);
+                regexes.add(regex);
+                ids.add(id);
+            }
+            RegexAutomaton automaton = builder.build();
+
+            for (int t = 0; t < TEXTS_PER_ROUND; t++) {
+                String text = randomText(random);
+                BitSet hits = automaton.scan(text);
+                for (int i = 0; i < regexes.size(); i++) {
+                    String regex = regexes.get(i);
+                    boolean expected = Pattern.compile(regex, RulePattern.FLAGS).matcher(text).find();
+                    assertEquals(expected, hits.get(ids.get(i)),
+                            () -> "seed=" + SEED + " regex=" + regex + " text=" + escape(text));
+                    compared++;
+                }
+            }
+        }
+        assertTrue(compared > 0);
+    }
+
+    @Test
+    void rejectsUnsupportedSyntax() {
+        RegexAutomaton.Builder builder = new RegexAutomaton.Builder();
+        for (String regex : new String[]{"^a", "a$", "\\ba", "(a)\\1", "(?=a)", "(?i)a", "a++", "[[a]]", "[a&&b]", "\\x41"}) {
+            assertEquals(-1, builder.idOf(regex), regex);
+        }
+        assertEquals(0, builder.size());
+    }
+
+    @Test
+    void returnsNullOnSurrogates() {
+        RegexAutomaton.Builder builder = new RegexAutomaton.Builder();
+        builder.idOf("a.b");
+        assertNull(builder.build().scan("a\uD83D\uDE00b"));
+    }
+
+    private static String randomRegex(Random random, int depth) {
+        int items = 1 + random.nextInt(3);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < items; i++) {
+            String atom;
+            int kind = random.nextInt(depth > 0 ? 10 : 8);
+            if (kind >= 8) {
+                // 分组，可能带分支
+                String inner = randomRegex(random, depth - 1);
+                if (random.nextBoolean()) inner += "|" + randomRegex(random, depth - 1);
+                atom = (random.nextBoolean() ? "(?:" : "(") + inner + ")";
+            } else {
+                atom = ATOMS[random.nextInt(ATOMS.length)];
+            }
+            sb.append(atom).append(randomQuantifier(random));
+        }
+        if (depth == 3 && random.nextInt(4) == 0) sb.append('|').append(randomRegex(random, 1));
+        return sb.toString();
+    }
+
+    private static String randomQuantifier(Random random) {
+        String q;
+        switch (random.nextInt(10)) {
+            case 0: q = "*"; break;
+            case 1: q = "+"; break;
+            case 2: q = "?"; break;
+            case 3: q = "{2}"; break;
+            case 4: q = "{1,3}"; break;
+            case 5: q = "{0,}"; break;
+            default: return "";
+        }
+        return random.nextInt(4) == 0 ? q + "?" : q;
+    }
+
+    private static String randomText(Random random) {
+        int length = random.nextInt(24);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(TEXT_CHARS.charAt(random.nextInt(TEXT_CHARS.length())));
+        }
+        return sb.toString();
+    }
+
+    private static String escape(String text) {
+        return text.replace("\n", "\\n").replace("\t", "\\t");
+    }
+}
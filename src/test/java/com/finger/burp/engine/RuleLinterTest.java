@@ -0,0 +1,50 @@
+package com.finger.burp.engine;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finger.burp.model.Fingerprint;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RuleLinterTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static List<RuleLinter.Issue> lint(String json) throws Exception {
+        List<Fingerprint> fingerprints = Arrays.asList(MAPPER.readValue(json, Fingerprint[].class));
+        return RuleLinter.lint(CompiledRuleSet.compile(fingerprints)).getIssues();
+    }
+
+    private static List<RuleLinter.Check> checks(String json) throws Exception {
+        return lint(json).stream().map(RuleLinter.Issue::getCheck).toList();
+    }
+
+    @Test
+    void headerRuleWithoutMatchNeverMatches() throws Exception {
+        assertEquals(List.of(RuleLinter.Check.NEVER_MATCHES),
+                checks("[{\"name\":\"a\",\"rules\":[{\"location\":\"header\"}]}]"));
+        assertEquals(List.of(RuleLinter.Check.NEVER_MATCHES),
+                checks("[{\"name\":\"a\",\"rules\":[{\"location\":\"header\",\"field\":\"Server\",\"match\":[]}]}]"));
+    }
+
+    @Test
+    void statusRuleWithoutPathAlwaysMatches() throws Exception {
+        assertEquals(List.of(RuleLinter.Check.ALWAYS_MATCHES),
+                checks("[{\"name\":\"a\",\"rules\":[{\"status\":200}]}]"));
+        assertEquals(List.of(RuleLinter.Check.ALWAYS_MATCHES),
+                checks("[{\"name\":\"a\",\"rules\":[{\"location\":\"status\",\"status\":404}]}]"));
+    }
+
+    @Test
+    void activeProbeRuleIsNotFlagged() throws Exception {
+        assertTrue(lint("[{\"name\":\"a\",\"rules\":[{\"location\":\"status\",\"path\":\"/actuator\",\"status\":200}]}]").isEmpty());
+    }
+
+    @Test
+    void headerRuleWithMatchIsNotFlagged() throws Exception {
+        assertTrue(lint("[{\"name\":\"a\",\"rules\":[{\"location\":\"header\",\"field\":\"Server\",\"match\":[\"nginx\"]}]}]").isEmpty());
+    }
+}
@@ -0,0 +1,38 @@
+package com.finger.burp.engine;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finger.burp.model.Fingerprint;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RuleProfilerTest {
+    /**
+     * 已结束线程的计数并入基数后释放，反复创建线程时登记的计数数组不会增长，统计也不丢失。
+     */
+    @Test
+    void foldsCountersOfFinishedThreads() throws Exception {
+        List<Fingerprint> fingerprints = Arrays.asList(new ObjectMapper().readValue(
+                "[{\"name\":\"a\",\"rules\":[{\"location\":\"body\",\"match\":[\"x\"]}]}]", Fingerprint[].class));
+        CompiledRuleSet ruleSet = CompiledRuleSet.compile(fingerprints);
+        RuleProfiler profiler = new RuleProfiler();
+
+        int threads = 50;
+        for (int i = 0; i < threads; i++) {
+            Thread t = new Thread(() -> profiler.countersFor(ruleSet).record(0, 10, true));
+            t.start();
+            t.join();
+        }
+
+        RuleStats stats = profiler.getStats(ruleSet).get(0);
+        assertEquals(threads, stats.getEvaluations());
+        assertEquals(threads, stats.getHits());
+        assertEquals(threads * 10L, stats.getTotalNanos());
+        assertEquals(10, stats.getMaxNanos());
+        assertTrue(profiler.registeredThreads() <= 1, "finished threads should be folded");
+    }
+}
@@ -0,0 +1,81 @@
+package com.finger.burp.rules;
+
+import com.finger.burp.model.Fingerprint;
+import com.finger.burp.model.Rule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RuleCacheTest {
+    private static final long CHECKSUM = 42;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void roundTripsAndReplacesExistingCache() throws Exception {
+        Path path = dir.resolve("fingerprints.bin");
+        RuleCache.write(path, CHECKSUM, List.of(fingerprint("old", "a")));
+        RuleCache.read(path, CHECKSUM);
+        // 读取后立即覆盖写入，读取不能占用文件
+        RuleCache.write(path, CHECKSUM, List.of(fingerprint("x", "a"), fingerprint("y", "b")));
+
+        List<Fingerprint> read = RuleCache.read(path, CHECKSUM);
+        assertEquals(List.of("x", "y"), read.stream().map(Fingerprint::getName).toList());
+        Rule rule = read.get(1).getRules().get(0);
+        assertEquals("body", rule.getLocation());
+        assertEquals(List.of("b"), rule.getMatch());
+        assertEquals(200, rule.getStatus());
+        assertNull(RuleCache.read(path, CHECKSUM + 1));
+    }
+
+    @Test
+    void rejectsTruncatedCache() throws Exception {
+        Path path = dir.resolve("fingerprints.bin");
+        RuleCache.write(path, CHECKSUM, List.of(fingerprint("x", "a")));
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertNull(RuleCache.read(path, CHECKSUM));
+    }
+
+    /**
+     * 文件中记录的数量大于剩余字节时视为损坏，不按该长度分配内存。
+     */
+    @Test
+    void rejectsLengthsLargerThanFile() throws Exception {
+        Path path = dir.resolve("fingerprints.bin");
+        RuleCache.write(path, CHECKSUM, List.of(fingerprint("x", "a")));
+        byte[] bytes = Files.readAllBytes(path);
+
+        // 字符串表数量
+        ByteBuffer.wrap(bytes).putInt(16, Integer.MAX_VALUE);
+        Files.write(path, bytes);
+        assertNull(RuleCache.read(path, CHECKSUM));
+
+        // 第一个字符串的字节数
+        bytes = Files.readAllBytes(path);
+        ByteBuffer.wrap(bytes).putInt(16, 1).putInt(20, Integer.MAX_VALUE - 8);
+        Files.write(path, bytes);
+        assertNull(RuleCache.read(path, CHECKSUM));
+    }
+
+    private static Fingerprint fingerprint(String name, String match) {
+        Rule rule = new Rule();
+        rule.setLocation("body");
+        rule.setMatch(List.of(match));
+        rule.setStatus(200);
+        Fingerprint fp = new Fingerprint();
+        fp.setName(name);
+        fp.setRules(List.of(rule));
+        return fp;
+    }
+}
@@ -0,0 +1,114 @@
+package com.finger.burp.rules;
+
+import burp.api.montoya.MontoyaApi;
+import burp.api.montoya.extension.Extension;
+import burp.api.montoya.logging.Logging;
+import com.finger.burp.model.Fingerprint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RuleLoaderTest {
+    @TempDir
+    Path dir;
+
+    private StubServer server;
+    private Logging logging;
+    private MontoyaApi api;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new StubServer();
+        logging = mock(Logging.class);
+        Extension extension = mock(Extension.class);
+        when(extension.filename()).thenReturn(dir.resolve("finger.jar").toString());
+        api = mock(MontoyaApi.class);
+        when(api.logging()).thenReturn(logging);
+        when(api.extension()).thenReturn(extension);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    /**
+     * 从本地 HTTP 服务下载规则文件作为外部规则，加载时跳过非法条目并写出二进制缓存。
+     */
+    @Test
+    void loadsDownloadedRulesAndSkipsInvalidEntries() throws Exception {
+        String json = "[{\"name\":\"a\",\"rules\":[{\"location\":\"body\",\"match\":[\"x\"]}]},"
+                + "{\"name\":\"b\",\"rules\":[]},"
+                + "{\"name\":\"c\",\"rules\":[{\"location\":\"header\",\"field\":\"Server\",\"match\":[\"y\"]}]}]";
+        server.put("/fingerprints.json", json.getBytes(StandardCharsets.UTF_8));
+        try (InputStream in = URI.create(server.url("/fingerprints.json")).toURL().openStream()) {
+            Files.copy(in, dir.resolve("fingerprints.json"));
+        }
+
+        RuleLoader loader = new RuleLoader(api);
+        List<Fingerprint> fingerprints = loader.loadAllRules();
+        loader.shutdown();
+
+        assertEquals(List.of("a", "c"), fingerprints.stream().map(Fingerprint::getName).toList());
+        assertEquals(2, loader.getCompiledRuleSet().getFingerprints().size());
+        verify(logging).logToError(contains("#1 (b)"));
+        assertTrue(Files.isRegularFile(dir.resolve("fingerprints.bin")));
+
+        // 第二次加载命中缓存，结果一致
+        RuleLoader cached = new RuleLoader(api);
+        assertEquals(List.of("a", "c"), cached.loadAllRules().stream().map(Fingerprint::getName).toList());
+        cached.shutdown();
+        verify(logging).logToOutput(contains("from rule cache"));
+    }
+
+    @Test
+    void fallsBackToBundledRulesWhenExternalFileIsTruncated() throws Exception {
+        Files.writeString(dir.resolve("fingerprints.json"), "[{\"name\":\"a\",\"rules\":[{\"location\":\"body\"");
+
+        RuleLoader loader = new RuleLoader(api);
+        List<Fingerprint> fingerprints = loader.loadAllRules();
+        loader.shutdown();
+
+        assertTrue(fingerprints.size() > 100);
+        verify(logging).logToError(contains("Unexpected end of rule file"));
+    }
+
+    /**
+     * 修改后的规则经临时文件原子替换写回，不留下临时文件，重新加载得到修改后的规则。
+     */
+    @Test
+    void writesUpdatedRulesViaTemporaryFile() throws Exception {
+        Files.writeString(dir.resolve("fingerprints.json"),
+                "[{\"name\":\"a\",\"rules\":[{\"location\":\"body\",\"match\":[\"x\"]}]}]");
+        RuleLoader loader = new RuleLoader(api);
+        loader.loadAllRules();
+        loader.updateRules(fingerprints -> {
+            Fingerprint copy = new Fingerprint();
+            copy.setName("b");
+            copy.setRules(fingerprints.get(0).getRules());
+            fingerprints.add(copy);
+        });
+        loader.shutdown();
+
+        assertFalse(Files.exists(dir.resolve("fingerprints.json.tmp")));
+        RuleLoader reloaded = new RuleLoader(api);
+        assertEquals(List.of("a", "b"), reloaded.loadAllRules().stream().map(Fingerprint::getName).toList());
+        reloaded.shutdown();
+    }
+}
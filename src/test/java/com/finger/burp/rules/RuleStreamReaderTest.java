@@ -0,0 +1,127 @@
+package com.finger.burp.rules;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finger.burp.model.Fingerprint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RuleStreamReaderTest {
+    private final RuleStreamReader reader = new RuleStreamReader(new ObjectMapper());
+    private final HttpClient client = HttpClient.newHttpClient();
+    private StubServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = new StubServer();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.close();
+    }
+
+    private InputStream fetch(String json) throws Exception {
+        server.put("/rules.json", json.getBytes(StandardCharsets.UTF_8));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(server.url("/rules.json"))).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofInputStream()).body();
+    }
+
+    private static String fingerprint(int i) {
+        return "{\"name\":\"fp" + i + "\",\"type\":\"CMS\",\"rules\":[{\"location\":\"body\",\"match\":[\"m" + i + "\"]}]}";
+    }
+
+    private static String array(int count) {
+        List<String> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) items.add(fingerprint(i));
+        return "[" + String.join(",", items) + "]";
+    }
+
+    /** 记录全部回调 */
+    private static final class Recorder implements RuleStreamReader.Listener {
+        final List<Integer> progress = new ArrayList<>();
+        final List<Long> bytes = new ArrayList<>();
+        final List<String> rejected = new ArrayList<>();
+
+        @Override
+        public void progress(int fingerprints, long bytesRead) {
+            progress.add(fingerprints);
+            bytes.add(bytesRead);
+        }
+
+        @Override
+        public void rejected(int index, String name, String reason) {
+            rejected.add(index + ":" + name + ":" + reason);
+        }
+    }
+
+    @Test
+    void reportsProgressEveryHundredAndAtEnd() throws Exception {
+        String json = array(250);
+        Recorder recorder = new Recorder();
+        List<Fingerprint> fingerprints = reader.readAll(fetch(json), recorder);
+
+        assertEquals(250, fingerprints.size());
+        assertEquals("fp249", fingerprints.get(249).getName());
+        assertEquals(List.of(100, 200, 250), recorder.progress);
+        for (int i = 1; i < recorder.bytes.size(); i++) {
+            assertTrue(recorder.bytes.get(i) > recorder.bytes.get(i - 1));
+        }
+        assertEquals(json.length(), recorder.bytes.get(recorder.bytes.size() - 1));
+    }
+
+    @Test
+    void skipsInvalidEntries() throws Exception {
+        String json = "[" + fingerprint(0) + ",null,"
+                + "{\"name\":\" \",\"rules\":[{\"location\":\"body\",\"match\":[\"x\"]}]},"
+                + "{\"name\":\"empty\",\"rules\":[]},"
+                + "{\"name\":\"nulls\",\"rules\":[null]},"
+                + fingerprint(5) + "]";
+        Recorder recorder = new Recorder();
+        List<Fingerprint> fingerprints = reader.readAll(fetch(json), recorder);
+
+        assertEquals(List.of("fp0", "fp5"), fingerprints.stream().map(Fingerprint::getName).toList());
+        assertEquals(List.of("1:null:null entry", "2: :missing name", "3:empty:no rules", "4:nulls:no rules"),
+                recorder.rejected);
+        assertEquals(List.of(2), recorder.progress);
+    }
+
+    @Test
+    void failsOnTruncatedInput() throws Exception {
+        String json = array(3);
+        // 在两个元素之间截断，数组没有结束
+        String truncated = json.substring(0, json.indexOf(fingerprint(2)));
+        List<Fingerprint> accepted = new ArrayList<>();
+        IOException e = assertThrows(IOException.class, () -> reader.read(fetch(truncated), accepted::add, null));
+        assertEquals("Unexpected end of rule file after 2 fingerprints", e.getMessage());
+        assertEquals(2, accepted.size());
+    }
+
+    @Test
+    void failsOnInputTruncatedInsideEntry() throws Exception {
+        String json = array(2);
+        IOException e = assertThrows(IOException.class, () -> reader.readAll(fetch(json.substring(0, json.length() - 10)), null));
+        assertEquals("Unexpected end of rule file after 1 fingerprints", e.getMessage());
+    }
+
+    @Test
+    void rejectsNonArrayRoot() throws Exception {
+        IOException e = assertThrows(IOException.class,
+                () -> reader.readAll(fetch("{\"fingerprints\":" + array(1) + "}"), null));
+        assertEquals("Rule file must be a JSON array of fingerprints", e.getMessage());
+    }
+}
@@ -0,0 +1,242 @@
+package com.finger.burp.rules;
+
+import burp.api.montoya.MontoyaApi;
+import burp.api.montoya.extension.Extension;
+import burp.api.montoya.logging.Logging;
+import burp.api.montoya.persistence.PersistedObject;
+import burp.api.montoya.persistence.Persistence;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finger.burp.model.Fingerprint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RuleUpdaterTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @TempDir
+    Path dir;
+
+    private StubServer server;
+    private MontoyaApi api;
+    // 模拟 Burp 的 extensionData，保存 ETag 等验证信息
+    private final Map<String, String> extensionData = new HashMap<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new StubServer();
+        Extension extension = mock(Extension.class);
+        when(extension.filename()).thenReturn(dir.resolve("finger.jar").toString());
+        PersistedObject data = mock(PersistedObject.class);
+        when(data.getString(anyString())).thenAnswer(i -> extensionData.get(i.<String>getArgument(0)));
+        doAnswer(i -> extensionData.put(i.getArgument(0), i.getArgument(1))).when(data).setString(anyString(), anyString());
+        doAnswer(i -> extensionData.remove(i.<String>getArgument(0))).when(data).deleteString(anyString());
+        Persistence persistence = mock(Persistence.class);
+        when(persistence.extensionData()).thenReturn(data);
+        api = mock(MontoyaApi.class);
+        when(api.logging()).thenReturn(mock(Logging.class));
+        when(api.extension()).thenReturn(extension);
+        when(api.persistence()).thenReturn(persistence);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private static Fingerprint fingerprint(String name, String keyword) {
+        try {
+            return MAPPER.readValue("{\"name\":\"" + name + "\",\"type\":\"CMS\",\"rules\":[{\"location\":\"body\",\"match\":[\""
+                    + keyword + "\"]}]}", Fingerprint.class);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] json(List<Fingerprint> fingerprints) throws Exception {
+        return MAPPER.writeValueAsBytes(fingerprints);
+    }
+
+    /**
+     * 以给定指纹作为本地外部规则文件加载。
+     */
+    private RuleLoader loader(List<Fingerprint> local) throws Exception {
+        Files.write(dir.resolve("fingerprints.json"), json(local));
+        RuleLoader loader = new RuleLoader(api);
+        loader.loadAllRules();
+        return loader;
+    }
+
+    private static List<String> keywords(RuleLoader loader) {
+        List<String> result = new ArrayList<>();
+        for (Fingerprint fp : loader.getFingerprints()) {
+            result.add(fp.getName() + "=" + fp.getRules().get(0).getMatch().get(0));
+        }
+        return result;
+    }
+
+    @Test
+    void sendsIfNoneMatchAndHandles304() throws Exception {
+        RuleLoader loader = loader(List.of(fingerprint("a", "1")));
+        RuleUpdater updater = new RuleUpdater(api, loader);
+        server.put("/rules.json", new StubServer.Resource(json(List.of(fingerprint("a", "2"))), "\"v1\"", null));
+
+        RuleUpdater.Result first = updater.update(server.url("/rules.json"), null);
+        assertEquals(1, first.getUpdated());
+        assertNull(server.lastHeader("If-None-Match"));
+
+        RuleUpdater.Result second = updater.update(server.url("/rules.json"), null);
+        assertTrue(second.isNotModified());
+        assertEquals("\"v1\"", server.lastHeader("If-None-Match"));
+        assertEquals(List.of("a=2"), keywords(loader));
+        loader.shutdown();
+    }
+
+    @Test
+    void sendsIfModifiedSinceAndHandles304() throws Exception {
+        RuleLoader loader = loader(List.of(fingerprint("a", "1")));
+        RuleUpdater updater = new RuleUpdater(api, loader);
+        String lastModified = "Wed, 14 Oct 2026 08:00:00 GMT";
+        server.put("/rules.json", new StubServer.Resource(json(List.of(fingerprint("b", "1"))), null, lastModified));
+
+        RuleUpdater.Result first = updater.update(server.url("/rules.json"), null);
+        assertEquals(1, first.getAdded());
+        assertEquals(List.of("a"), first.getPreserved());
+
+        RuleUpdater.Result second = updater.update(server.url("/rules.json"), null);
+        assertTrue(second.isNotModified());
+        assertEquals(lastModified, server.lastHeader("If-Modified-Since"));
+        assertNull(server.lastHeader("If-None-Match"));
+        loader.shutdown();
+    }
+
+    @Test
+    void alwaysDownloadsWhenLocalRulesAreEmpty() throws Exception {
+        RuleLoader seeded = loader(List.of(fingerprint("a", "1")));
+        server.put("/rules.json", new StubServer.Resource(json(List.of(fingerprint("a", "1"))), "\"v1\"", null));
+        new RuleUpdater(api, seeded).update(server.url("/rules.json"), null);
+        seeded.shutdown();
+        assertEquals("\"v1\"", extensionData.get("finger_update_etag"));
+
+        // 验证信息仍在，但本地没有规则，不能发送条件请求
+        RuleLoader empty = new RuleLoader(api);
+        RuleUpdater.Result result = new RuleUpdater(api, empty).update(server.url("/rules.json"), null);
+        assertNull(server.lastHeader("If-None-Match"));
+        assertFalse(result.isNotModified());
+        assertEquals(1, result.getAdded());
+        assertEquals(List.of("a=1"), keywords(empty));
+        empty.shutdown();
+    }
+
+    @Test
+    void manifestDownloadsOnlyChangedFingerprints() throws Exception {
+        List<Fingerprint> local = List.of(fingerprint("a", "1"), fingerprint("b", "1"), fingerprint("c", "1"));
+        RuleLoader loader = loader(local);
+        RuleUpdater updater = new RuleUpdater(api, loader);
+
+        // 远程：a 不变，b 更新，d 新增；c 只存在于本地
+        List<Fingerprint> remote = List.of(fingerprint("a", "1"), fingerprint("b", "2"), fingerprint("d", "1"));
+        Path site = dir.resolve("site");
+        updater.exportManifest(remote, site);
+        server.put("/manifest.json", new StubServer.Resource(Files.readAllBytes(site.resolve("manifest.json")), "\"m1\"", null));
+        try (var files = Files.list(site.resolve("fingerprints"))) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                server.put("/fingerprints/" + file.getFileName(), Files.readAllBytes(file));
+            }
+        }
+
+        RuleUpdater.Result result = updater.update(server.url("/manifest.json"), null);
+        assertEquals(1, result.getAdded());
+        assertEquals(1, result.getUpdated());
+        assertEquals(1, result.getUnchanged());
+        assertEquals(2, result.getDownloaded());
+        assertEquals(List.of("c"), result.getPreserved());
+        assertEquals(sorted(List.of("/manifest.json", "/fingerprints/" + updater.hashOf(remote.get(1)) + ".json",
+                "/fingerprints/" + updater.hashOf(remote.get(2)) + ".json")),
+                sorted(server.requests()));
+        assertEquals(List.of("a=1", "b=2", "c=1", "d=1"), keywords(loader));
+
+        // 清单未变：304，不再下载任何指纹
+        server.clearRequests();
+        assertTrue(updater.update(server.url("/manifest.json"), null).isNotModified());
+        assertEquals(List.of("/manifest.json"), server.requests());
+        loader.shutdown();
+    }
+
+    @Test
+    void retriesRejectedManifestEntriesOnNextCheck() throws Exception {
+        RuleLoader loader = loader(List.of(fingerprint("a", "1")));
+        RuleUpdater updater = new RuleUpdater(api, loader);
+        List<Fingerprint> remote = List.of(fingerprint("b", "1"), fingerprint("c", "1"));
+        Path site = dir.resolve("site");
+        updater.exportManifest(remote, site);
+        server.put("/manifest.json", new StubServer.Resource(Files.readAllBytes(site.resolve("manifest.json")), "\"m1\"", null));
+        String bPath = "/fingerprints/" + updater.hashOf(remote.get(0)) + ".json";
+        String cPath = "/fingerprints/" + updater.hashOf(remote.get(1)) + ".json";
+        server.put(cPath, MAPPER.writeValueAsBytes(remote.get(1)));
+        // b 的内容与清单中的 hash 不一致（例如 CDN 尚未同步）
+        server.put(bPath, MAPPER.writeValueAsBytes(fingerprint("b", "stale")));
+
+        RuleUpdater.Result first = updater.update(server.url("/manifest.json"), null);
+        assertEquals(1, first.getAdded());
+        assertEquals(1, first.getRejected());
+        assertEquals(0, first.getUnchanged());
+        assertNull(extensionData.get("finger_update_etag"));
+
+        // 未保存验证信息，下次检查重新获取清单并只下载被拒绝的指纹
+        server.put(bPath, MAPPER.writeValueAsBytes(remote.get(0)));
+        server.clearRequests();
+        RuleUpdater.Result second = updater.update(server.url("/manifest.json"), null);
+        assertFalse(second.isNotModified());
+        assertEquals(1, second.getAdded());
+        assertEquals(0, second.getRejected());
+        assertEquals(List.of("/manifest.json", bPath), server.requests());
+        assertEquals("\"m1\"", extensionData.get("finger_update_etag"));
+        assertEquals(List.of("a=1", "c=1", "b=1"), keywords(loader));
+        loader.shutdown();
+    }
+
+    @Test
+    void replacesLastLocalDuplicateAndAppendsNewDuplicates() throws Exception {
+        RuleLoader loader = loader(List.of(fingerprint("x", "first"), fingerprint("y", "1"), fingerprint("x", "last")));
+        RuleUpdater updater = new RuleUpdater(api, loader);
+        server.put("/rules.json", json(List.of(fingerprint("x", "remote"), fingerprint("z", "1"), fingerprint("z", "2"))));
+
+        RuleUpdater.Result result = updater.update(server.url("/rules.json"), null);
+        assertEquals(1, result.getUpdated());
+        assertEquals(2, result.getAdded());
+        assertEquals(List.of("x=first", "y=1", "x=remote", "z=1", "z=2"), keywords(loader));
+
+        // 再次更新内容相同，不产生变化
+        RuleUpdater.Result again = updater.update(server.url("/rules.json"), null);
+        assertFalse(again.isChanged());
+        loader.shutdown();
+    }
+
+    /** 清单请求在前，指纹下载并发完成，顺序不固定 */
+    private static List<String> sorted(List<String> requests) {
+        List<String> result = new ArrayList<>(requests.subList(0, 1));
+        List<String> rest = new ArrayList<>(requests.subList(1, requests.size()));
+        rest.sort(null);
+        result.addAll(rest);
+        return result;
+    }
+}
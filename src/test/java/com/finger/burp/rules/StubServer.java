@@ -0,0 +1,106 @@
+package com.finger.burp.rules;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 测试用的本地 HTTP 服务：按路径返回预设内容，并记录收到的请求。
+ */
+final class StubServer implements AutoCloseable {
+    /**
+     * 预设响应；lastModified、etag 为 null 时不返回对应 header。
+     */
+    static final class Resource {
+        final byte[] body;
+        final String etag;
+        final String lastModified;
+
+        Resource(byte[] body, String etag, String lastModified) {
+            this.body = body;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+    }
+
+    private final HttpServer server;
+    private final Map<String, Resource> resources = new ConcurrentHashMap<>();
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private final List<Map<String, List<String>>> requestHeaders = new CopyOnWriteArrayList<>();
+
+    StubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    void put(String path, byte[] body) {
+        put(path, new Resource(body, null, null));
+    }
+
+    void put(String path, Resource resource) {
+        resources.put(path, resource);
+    }
+
+    /** 收到的请求路径，按到达顺序 */
+    List<String> requests() {
+        return requests;
+    }
+
+    /** 最近一次请求的 header 值，不存在时返回 null */
+    String lastHeader(String name) {
+        if (requestHeaders.isEmpty()) return null;
+        for (Map.Entry<String, List<String>> e : requestHeaders.get(requestHeaders.size() - 1).entrySet()) {
+            if (e.getKey().equalsIgnoreCase(name)) return e.getValue().get(0);
+        }
+        return null;
+    }
+
+    void clearRequests() {
+        requests.clear();
+        requestHeaders.clear();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        requests.add(path);
+        requestHeaders.add(Map.copyOf(exchange.getRequestHeaders()));
+        Resource resource = resources.get(path);
+        try (exchange) {
+            if (resource == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+            String ifModifiedSince = exchange.getRequestHeaders().getFirst("If-Modified-Since");
+            if (resource.etag != null) exchange.getResponseHeaders().set("ETag", resource.etag);
+            if (resource.lastModified != null) exchange.getResponseHeaders().set("Last-Modified", resource.lastModified);
+            if ((resource.etag != null && resource.etag.equals(ifNoneMatch))
+                    || (resource.etag == null && resource.lastModified != null && resource.lastModified.equals(ifModifiedSince))) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, resource.body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(resource.body);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
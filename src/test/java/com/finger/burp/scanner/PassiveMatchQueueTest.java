@@ -0,0 +1,129 @@
+package com.finger.burp.scanner;
+
+import com.finger.burp.model.ScannerConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PassiveMatchQueueTest {
+    private static final int CAPACITY = 2;
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<Integer> ran = new CopyOnWriteArrayList<>();
+
+    /**
+     * 队列满时阻塞提交线程，不丢弃任何消息。
+     */
+    @Test
+    void blockWaitsForFreeSlot() throws Exception {
+        PassiveMatchQueue queue = occupied(ScannerConfig.QueuePolicy.BLOCK);
+        Thread producer = new Thread(() -> submitAll(queue, 1, 3));
+        producer.start();
+        waitForDepth(queue, CAPACITY);
+        producer.join(200);
+        assertTrue(producer.isAlive(), "third submit should block on a full queue");
+
+        release.countDown();
+        producer.join(5000);
+        queue.drain();
+        assertEquals(List.of(0, 1, 2, 3), ran);
+        assertEquals(4, queue.getProcessed());
+        assertEquals(0, queue.getDropped());
+        assertEquals(CAPACITY, queue.getMaxDepth());
+    }
+
+    /**
+     * 队列满时丢弃最早入队的消息，保留最新的消息。
+     */
+    @Test
+    void dropOldestKeepsNewestMessages() throws Exception {
+        PassiveMatchQueue queue = occupied(ScannerConfig.QueuePolicy.DROP_OLDEST);
+        submitAll(queue, 1, 5);
+        assertEquals(CAPACITY, queue.getDepth());
+
+        release.countDown();
+        queue.drain();
+        assertEquals(List.of(0, 4, 5), ran);
+        assertEquals(3, queue.getProcessed());
+        assertEquals(3, queue.getDropped());
+    }
+
+    /**
+     * 队列满时每 10 条溢出消息保留 1 条（替换最早入队的消息），其余丢弃。
+     */
+    @Test
+    void sampleKeepsEveryTenthOverflow() throws Exception {
+        PassiveMatchQueue queue = occupied(ScannerConfig.QueuePolicy.SAMPLE);
+        submitAll(queue, 1, 22);
+        assertEquals(CAPACITY, queue.getDepth());
+
+        release.countDown();
+        queue.drain();
+        // 1、2 入队；溢出的第 10 条（12）与第 20 条（22）依次替换最早的消息
+        assertEquals(List.of(0, 12, 22), ran);
+        assertEquals(3, queue.getProcessed());
+        assertEquals(20, queue.getDropped());
+    }
+
+    /**
+     * 队列关闭后提交的消息直接丢弃，不在调用线程中执行。
+     */
+    @Test
+    void dropsTasksAfterShutdown() throws Exception {
+        PassiveMatchQueue queue = new PassiveMatchQueue(config(ScannerConfig.QueuePolicy.BLOCK));
+        queue.drain();
+        queue.submit(() -> ran.add(Integer.MAX_VALUE));
+
+        assertEquals(List.of(), ran);
+        assertEquals(1, queue.getDropped());
+        assertEquals(0, queue.getProcessed());
+    }
+
+    /**
+     * 单个工作线程被第 0 条消息占住，之后提交的消息只能排队。
+     */
+    private PassiveMatchQueue occupied(ScannerConfig.QueuePolicy policy) throws InterruptedException {
+        PassiveMatchQueue queue = new PassiveMatchQueue(config(policy));
+        queue.submit(() -> {
+            ran.add(0);
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        return queue;
+    }
+
+    private void submitAll(PassiveMatchQueue queue, int from, int to) {
+        for (int i = from; i <= to; i++) {
+            int id = i;
+            queue.submit(() -> ran.add(id));
+        }
+    }
+
+    private static void waitForDepth(PassiveMatchQueue queue, int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (queue.getDepth() < depth && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(depth, queue.getDepth());
+    }
+
+    private static ScannerConfig config(ScannerConfig.QueuePolicy policy) {
+        ScannerConfig config = new ScannerConfig();
+        config.setPassiveWorkerThreads(1);
+        config.setPassiveQueueCapacity(CAPACITY);
+        config.setPassiveQueuePolicy(policy);
+        return config;
+    }
+}